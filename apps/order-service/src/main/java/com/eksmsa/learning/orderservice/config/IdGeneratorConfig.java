@@ -0,0 +1,84 @@
+package com.eksmsa.learning.orderservice.config;
+
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.id.IdGenerator;
+import com.eksmsa.learning.orderservice.id.LeasedIdGenerator;
+import com.eksmsa.learning.orderservice.id.NodeIdLease;
+import com.eksmsa.learning.orderservice.id.SnowflakeIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorConfig.class);
+
+    // 명시적 노드 ID (-1 이면 Redis 임대로 할당)
+    @Value("${order.id.node-id:-1}")
+    private int nodeId;
+
+    @Value("${order.id.lease.ttl:30s}")
+    private Duration leaseTtl;
+
+    @Value("${POD_NAME:${HOSTNAME:order-service}}")
+    private String podName;
+
+    /**
+     * 주문/이벤트 ID 생성기 (파드별 노드 ID 를 갖는 Snowflake 생성기)
+     * 노드 ID 를 명시하지 않으면 Redis 에서 비어 있는 슬롯을 임대하며, 임대하지 못하면 기동에 실패한다.
+     * Deployment 파드 이름은 서수가 없고 해시는 충돌할 수 있으므로 파드 이름에서 노드 ID 를 유도하지 않는다.
+     */
+    @Bean
+    public IdGenerator idGenerator(NodeIdLease nodeIdLease) {
+        if (nodeId >= 0) {
+            logger.info("ID 생성기 초기화 - 파드: {}, 노드 ID: {} (설정값)", podName, nodeId);
+            return new SnowflakeIdGenerator(nodeId);
+        }
+
+        int leasedNodeId = nodeIdLease.acquire();
+        logger.info("ID 생성기 초기화 - 파드: {}, 노드 ID: {} (임대)", podName, leasedNodeId);
+        return new LeasedIdGenerator(nodeIdLease);
+    }
+
+    /**
+     * 노드 ID 임대 상태 (readiness 그룹에 포함, 임대를 잃고 새 슬롯을 얻지 못한 파드에는 트래픽을 보내지 않음)
+     */
+    @Bean
+    public HealthIndicator nodeIdLeaseHealthIndicator(NodeIdLease nodeIdLease) {
+        return () -> {
+            if (nodeId >= 0) {
+                return Health.up().withDetail("nodeId", nodeId).withDetail("source", "config").build();
+            }
+            return (nodeIdLease.isValid() ? Health.up() : Health.down())
+                .withDetail("nodeId", nodeIdLease.getNodeId())
+                .withDetail("source", "lease")
+                .build();
+        };
+    }
+
+    /**
+     * 노드 ID 임대 (order.id.node-id 를 지정하지 않은 경우에만 슬롯을 선점, 종료 시 반납)
+     */
+    @Bean(destroyMethod = "release")
+    public NodeIdLease nodeIdLease(StringRedisTemplate stringRedisTemplate) {
+        return new NodeIdLease(stringRedisTemplate, podName + ":" + UUID.randomUUID(), leaseTtl);
+    }
+
+    /**
+     * OrderEvent 정적 팩토리에서도 같은 생성기를 사용하도록 등록
+     */
+    @Bean
+    public InitializingBean orderEventIdGeneratorRegistrar(IdGenerator idGenerator) {
+        return () -> OrderEvent.setIdGenerator(idGenerator);
+    }
+}
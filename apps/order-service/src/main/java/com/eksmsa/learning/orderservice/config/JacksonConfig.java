@@ -0,0 +1,33 @@
+package com.eksmsa.learning.orderservice.config;
+
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Boot 가 만드는 공용 ObjectMapper 에 서비스 설정 추가 (MVC 응답, 이벤트, 캐시가 같은 매퍼와 직렬화기 캐시를 사용)
+     * JavaTimeModule 은 Boot 가 등록하므로 날짜 형식만 맞추고, Blackbird 는 다른 Module 빈 설정을 덮어쓰지 않도록 생성 뒤에 등록한다.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer orderJacksonCustomizer() {
+        return builder -> builder
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .postConfigurer(objectMapper -> objectMapper.registerModule(new BlackbirdModule()));
+    }
+
+    /**
+     * 주문 이벤트/응답용 미리 만든 리더와 라이터 (Boot 가 만든 ObjectMapper 사용)
+     */
+    @Bean
+    public OrderJsonMapper orderJsonMapper(ObjectMapper objectMapper) {
+        return new OrderJsonMapper(objectMapper);
+    }
+}
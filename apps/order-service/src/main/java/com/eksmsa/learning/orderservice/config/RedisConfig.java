@@ -1,6 +1,12 @@
 package com.eksmsa.learning.orderservice.config;
 
-import com.eksmsa.learning.orderservice.listener.OrderEventListener;
+import com.eksmsa.learning.orderservice.listener.OrderCacheInvalidationListener;
+import com.eksmsa.learning.orderservice.listener.OrderEventStreamConsumer;
+import com.eksmsa.learning.orderservice.listener.OrderRevenueUpdateListener;
+import com.eksmsa.learning.orderservice.service.OrderCacheService;
+import com.eksmsa.learning.orderservice.service.OrderRevenueService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -8,16 +14,24 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(RedisConfig.class);
+
     @Value("${spring.redis.host:localhost}")
     private String redisHost;
 
@@ -53,9 +67,10 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        // Value Serializer
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Value Serializer (값/해시 값이 같은 인스턴스와 내부 매퍼를 공유)
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer();
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         
         template.afterPropertiesSet();
         return template;
@@ -64,30 +79,57 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            OrderEventListener orderEventListener) {
+            OrderCacheInvalidationListener orderCacheInvalidationListener,
+            OrderRevenueUpdateListener orderRevenueUpdateListener) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        
-        // 주문 이벤트 채널 구독
-        container.addMessageListener(orderEventListener, new ChannelTopic("order.events"));
-        container.addMessageListener(orderEventListener, new ChannelTopic("order.notifications"));
-        container.addMessageListener(orderEventListener, new ChannelTopic("order.analytics"));
+
+        // 파드 간 near cache 무효화 채널 구독
+        container.addMessageListener(orderCacheInvalidationListener,
+            new ChannelTopic(OrderCacheService.CACHE_INVALIDATION_CHANNEL));
+
+        // 파드 간 매출 인덱스 갱신 채널 구독
+        container.addMessageListener(orderRevenueUpdateListener,
+            new ChannelTopic(OrderRevenueService.REVENUE_UPDATE_CHANNEL));
         
         return container;
     }
 
-    @Bean
-    public ChannelTopic orderEventsTopic() {
-        return new ChannelTopic("order.events");
-    }
+    /**
+     * 주문 이벤트 스트림 컨슈머 그룹 구독 (XREADGROUP 배치 읽기, 처리 후 수동 ACK)
+     * 파드 간 브로드캐스트가 필요한 near cache 무효화와 매출 인덱스 갱신만 pub/sub 으로 남긴다.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> orderEventStreamContainer(
+            RedisConnectionFactory connectionFactory,
+            OrderEventStreamConsumer orderEventStreamConsumer,
+            @Value("${order.events.stream.batch-size:50}") int batchSize,
+            @Value("${order.events.stream.poll-timeout:2s}") Duration pollTimeout) {
+        StreamMessageListenerContainer.StreamMessageListenerContainerOptions<String, MapRecord<String, String, byte[]>> options =
+            StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                .batchSize(batchSize)
+                .pollTimeout(pollTimeout)
+                .errorHandler(e -> logger.warn("주문 이벤트 스트림 읽기 실패 - 오류: {}", e.getMessage()))
+                // event 필드는 JSON 또는 바이너리이므로 값은 바이트 그대로 전달
+                .<String, byte[]>hashValueSerializer(RedisSerializer.byteArray())
+                .build();
+        StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container =
+            StreamMessageListenerContainer.create(connectionFactory, options);
 
-    @Bean
-    public ChannelTopic orderNotificationsTopic() {
-        return new ChannelTopic("order.notifications");
+        for (String stream : OrderEventStreamConsumer.STREAMS) {
+            container.register(StreamMessageListenerContainer.StreamReadRequest
+                .builder(StreamOffset.create(stream, ReadOffset.lastConsumed()))
+                .consumer(orderEventStreamConsumer.consumer())
+                .autoAcknowledge(false)
+                // 읽기 오류(Redis 재시작, 그룹 미생성 등)에도 구독을 유지
+                .cancelOnError(e -> false)
+                .build(), orderEventStreamConsumer);
+        }
+        return container;
     }
 
     @Bean
-    public ChannelTopic orderAnalyticsTopic() {
-        return new ChannelTopic("order.analytics");
+    public ChannelTopic orderCacheInvalidationTopic() {
+        return new ChannelTopic(OrderCacheService.CACHE_INVALIDATION_CHANNEL);
     }
 }
\ No newline at end of file
@@ -2,7 +2,12 @@ package com.eksmsa.learning.orderservice.controller;
 
 import com.eksmsa.learning.orderservice.dto.*;
 import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.service.OrderEventService;
+import com.eksmsa.learning.orderservice.service.OrderExportService;
+import com.eksmsa.learning.orderservice.service.OrderRealtimeMetricsService;
 import com.eksmsa.learning.orderservice.service.OrderService;
+import com.eksmsa.learning.orderservice.service.OrderStatsService;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -10,16 +15,21 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -34,12 +44,31 @@ public class OrderController {
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
     private final OrderService orderService;
+    private final OrderEventService orderEventService;
+    private final OrderExportService orderExportService;
+    private final OrderStatsService orderStatsService;
+    private final OrderRealtimeMetricsService realtimeMetricsService;
     private final Counter orderCreatedCounter;
     private final Counter orderStatusUpdatedCounter;
 
+    @Value("${order.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${order.events.history.max-limit:1000}")
+    private int maxHistoryLimit = 1000;
+
+    @Value("${order.stats.summary.max-limit:100}")
+    private int maxStatisticsLimit = 100;
+
     @Autowired
-    public OrderController(OrderService orderService, MeterRegistry meterRegistry) {
+    public OrderController(OrderService orderService, OrderEventService orderEventService,
+                           OrderExportService orderExportService, OrderStatsService orderStatsService,
+                           OrderRealtimeMetricsService realtimeMetricsService, MeterRegistry meterRegistry) {
         this.orderService = orderService;
+        this.orderEventService = orderEventService;
+        this.orderExportService = orderExportService;
+        this.orderStatsService = orderStatsService;
+        this.realtimeMetricsService = realtimeMetricsService;
         this.orderCreatedCounter = Counter.builder("orders.created")
             .description("Number of orders created")
             .register(meterRegistry);
@@ -52,7 +81,7 @@ public class OrderController {
      * 새 주문 생성
      */
     @PostMapping
-    @Timed(name = "orders.create", description = "Time taken to create an order")
+    @Timed(value = "orders.create", description = "Time taken to create an order")
     public ResponseEntity<Map<String, Object>> createOrder(@Valid @RequestBody OrderCreateRequest request) {
         logger.info("새 주문 생성 요청 - 고객: {}", request.getCustomerId());
 
@@ -80,11 +109,60 @@ public class OrderController {
         }
     }
 
+    /**
+     * 주문 일괄 생성 (마켓플레이스 주문 가져오기 등)
+     */
+    @PostMapping("/batch")
+    @Timed(value = "orders.create.batch", description = "Time taken to create a batch of orders")
+    public ResponseEntity<Map<String, Object>> createOrders(@RequestBody List<OrderCreateRequest> requests) {
+        logger.info("주문 일괄 생성 요청 - 요청 수: {}", requests.size());
+
+        if (requests.isEmpty() || requests.size() > maxBatchSize) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "일괄 주문 수는 1개 이상 " + maxBatchSize + "개 이하여야 합니다");
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        try {
+            OrderBatchResponse result = orderService.createOrders(requests);
+            orderCreatedCounter.increment(result.getSucceeded());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", result.getFailed() == 0);
+            response.put("message", String.format("%d건 중 %d건의 주문이 생성되었습니다", result.getTotal(), result.getSucceeded()));
+            response.put("data", result);
+
+            logger.info("주문 일괄 생성 완료 - 성공: {}, 실패: {}", result.getSucceeded(), result.getFailed());
+
+            HttpStatus status;
+            if (result.getFailed() == 0) {
+                status = HttpStatus.CREATED;
+            } else if (result.getSucceeded() > 0) {
+                status = HttpStatus.MULTI_STATUS;
+            } else {
+                status = HttpStatus.BAD_REQUEST;
+            }
+            return ResponseEntity.status(status).body(response);
+
+        } catch (Exception e) {
+            logger.error("주문 일괄 생성 실패 - 요청 수: {}, 오류: {}", requests.size(), e.getMessage(), e);
+            
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "주문 일괄 생성에 실패했습니다: " + e.getMessage());
+            errorResponse.put("error", e.getClass().getSimpleName());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
     /**
      * 주문 상세 조회
      */
     @GetMapping("/{orderId}")
-    @Timed(name = "orders.get", description = "Time taken to get an order")
+    @Timed(value = "orders.get", description = "Time taken to get an order")
     public ResponseEntity<Map<String, Object>> getOrder(@PathVariable String orderId) {
         logger.debug("주문 조회 요청 - 주문 ID: {}", orderId);
 
@@ -108,31 +186,94 @@ public class OrderController {
         }
     }
 
+    /**
+     * 주문 이벤트 히스토리 조회
+     * since 이후에 기록된 이벤트를 기록 순서대로 최대 limit 건 반환한다.
+     */
+    @GetMapping("/{orderId}/events")
+    @Timed(value = "orders.events.history", description = "Time taken to get order event history")
+    public ResponseEntity<Map<String, Object>> getOrderEvents(
+            @PathVariable String orderId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "" + OrderEventService.DEFAULT_HISTORY_LIMIT) int limit) {
+
+        logger.debug("주문 이벤트 히스토리 조회 요청 - 주문 ID: {}, since: {}, limit: {}", orderId, since, limit);
+
+        if (limit < 1 || limit > maxHistoryLimit) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "limit 은 1 이상 " + maxHistoryLimit + " 이하여야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        List<OrderEvent> events = orderEventService.getOrderEventHistory(orderId, since, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", events);
+        response.put("count", events.size());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 주문 목록 조회 (페이징)
+     * cursor 파라미터가 있으면 (created_at, id) keyset 페이지네이션으로 조회하며, 빈 값은 첫 페이지를 뜻한다.
+     * view=summary 이면 상품/상태 히스토리 없이 목록 컬럼만 조회한다.
      */
     @GetMapping
-    @Timed(name = "orders.list", description = "Time taken to list orders")
+    @Timed(value = "orders.list", description = "Time taken to list orders")
     public ResponseEntity<Map<String, Object>> getOrders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
             @RequestParam(required = false) String customerId,
-            @RequestParam(required = false) OrderStatus status) {
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "full") String view) {
 
         logger.debug("주문 목록 조회 - 페이지: {}, 크기: {}, 고객: {}, 상태: {}", page, size, customerId, status);
 
         try {
+            boolean summary;
+            if (view.equalsIgnoreCase("summary")) {
+                summary = true;
+            } else if (view.equalsIgnoreCase("full")) {
+                summary = false;
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 view 입니다: " + view);
+            }
+
+            if (cursor != null) {
+                boolean ascending = sortDir.equalsIgnoreCase("asc");
+                OrderCursorPage<?> orders = summary
+                    ? orderService.getOrderSummariesByCursor(customerId, status, cursor, size, ascending)
+                    : orderService.getOrdersByCursor(customerId, status, cursor, size, ascending);
+
+                Map<String, Object> pagination = new HashMap<>();
+                pagination.put("size", orders.getSize());
+                pagination.put("hasNext", orders.isHasNext());
+                pagination.put("nextCursor", orders.getNextCursor());
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", orders.getContent());
+                response.put("pagination", pagination);
+
+                return ResponseEntity.ok(response);
+            }
+
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
 
-            Page<OrderResponse> orders;
+            Page<?> orders;
             
-            if (customerId != null && status != null) {
-                // 고객 및 상태별 조회는 별도 구현 필요
-                orders = orderService.getOrdersByCustomer(customerId, pageable);
+            if (summary) {
+                orders = orderService.getOrderSummaries(customerId, status, pageable);
+            } else if (customerId != null && status != null) {
+                orders = orderService.getOrdersByCustomerAndStatus(customerId, status, pageable);
             } else if (customerId != null) {
                 orders = orderService.getOrdersByCustomer(customerId, pageable);
             } else if (status != null) {
@@ -155,6 +296,15 @@ public class OrderController {
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            logger.warn("주문 목록 조회 요청 오류 - {}", e.getMessage());
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
         } catch (Exception e) {
             logger.error("주문 목록 조회 실패 - 오류: {}", e.getMessage(), e);
             
@@ -170,7 +320,7 @@ public class OrderController {
      * 주문 상태 변경
      */
     @PutMapping("/{orderId}/status")
-    @Timed(name = "orders.status.update", description = "Time taken to update order status")
+    @Timed(value = "orders.status.update", description = "Time taken to update order status")
     public ResponseEntity<Map<String, Object>> updateOrderStatus(
             @PathVariable String orderId,
             @Valid @RequestBody OrderStatusUpdateRequest request) {
@@ -204,7 +354,7 @@ public class OrderController {
      * 주문 취소
      */
     @PutMapping("/{orderId}/cancel")
-    @Timed(name = "orders.cancel", description = "Time taken to cancel an order")
+    @Timed(value = "orders.cancel", description = "Time taken to cancel an order")
     public ResponseEntity<Map<String, Object>> cancelOrder(
             @PathVariable String orderId,
             @RequestParam(required = false) String reason,
@@ -238,7 +388,7 @@ public class OrderController {
      * 배송 추적 번호로 주문 조회
      */
     @GetMapping("/tracking/{trackingNumber}")
-    @Timed(name = "orders.tracking", description = "Time taken to track an order")
+    @Timed(value = "orders.tracking", description = "Time taken to track an order")
     public ResponseEntity<Map<String, Object>> trackOrder(@PathVariable String trackingNumber) {
         logger.debug("주문 추적 요청 - 추적 번호: {}", trackingNumber);
 
@@ -266,7 +416,7 @@ public class OrderController {
      * 주문 통계 조회
      */
     @GetMapping("/statistics")
-    @Timed(name = "orders.statistics", description = "Time taken to get order statistics")
+    @Timed(value = "orders.statistics", description = "Time taken to get order statistics")
     public ResponseEntity<Map<String, Object>> getOrderStatistics() {
         logger.debug("주문 통계 조회 요청");
 
@@ -291,29 +441,116 @@ public class OrderController {
     }
 
     /**
-     * 기간별 매출 조회
+     * 일별 주문 통계 조회 (생성일 기준, 양 끝 포함)
+     */
+    @GetMapping("/statistics/daily")
+    @Timed(value = "orders.statistics.daily", description = "Time taken to get daily order statistics")
+    public ResponseEntity<Map<String, Object>> getDailyOrderStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        logger.debug("일별 주문 통계 조회 요청 - 시작: {}, 종료: {}", startDate, endDate);
+
+        if (endDate.isBefore(startDate)) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "endDate 는 startDate 이후여야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        List<OrderDailyStatsResponse> statistics = orderStatsService.getDailyStats(startDate, endDate);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", statistics);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 고객별 주문 통계 조회 (주문 금액 상위 limit 명)
+     */
+    @GetMapping("/statistics/customers")
+    @Timed(value = "orders.statistics.customers", description = "Time taken to get customer order statistics")
+    public ResponseEntity<Map<String, Object>> getCustomerOrderStatistics(
+            @RequestParam(defaultValue = "10") int limit) {
+
+        logger.debug("고객별 주문 통계 조회 요청 - limit: {}", limit);
+
+        if (limit < 1 || limit > maxStatisticsLimit) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "limit 은 1 이상 " + maxStatisticsLimit + " 이하여야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        List<OrderCustomerStatsResponse> statistics = orderStatsService.getTopCustomers(limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", statistics);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주문 통계 요약 테이블 재구성 (orders 전체를 다시 집계)
+     */
+    @PostMapping("/statistics/rebuild")
+    @Timed(value = "orders.statistics.rebuild", description = "Time taken to rebuild order statistics")
+    public ResponseEntity<Map<String, Object>> rebuildOrderStatistics() {
+        logger.info("주문 통계 요약 테이블 재구성 요청");
+
+        try {
+            orderStatsService.rebuild();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "주문 통계가 재구성되었습니다");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            logger.error("주문 통계 재구성 실패 - 오류: {}", e.getMessage(), e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "주문 통계 재구성에 실패했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 기간별 매출 조회 (배송 완료 주문, 주문 생성 시각 기준)
+     * 통화별 금액과 currency(기본: 기준 통화) 로 환산한 합계를 함께 반환한다. 환율은 조회 시점의 로컬 환율표를 쓴다.
+     * 매출 인덱스가 준비된 뒤에는 order.revenue.index.bucket 단위로 startDate/endDate 가 속한 버킷까지 합산한다.
      */
     @GetMapping("/revenue")
-    @Timed(name = "orders.revenue", description = "Time taken to get revenue data")
+    @Timed(value = "orders.revenue", description = "Time taken to get revenue data")
     public ResponseEntity<Map<String, Object>> getRevenue(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String currency) {
 
-        logger.debug("매출 조회 요청 - 시작: {}, 종료: {}", startDate, endDate);
+        logger.debug("매출 조회 요청 - 시작: {}, 종료: {}, 통화: {}", startDate, endDate, currency);
 
         try {
-            Double revenue = orderService.getRevenueBetween(startDate, endDate);
+            OrderRevenueResponse revenue = orderService.getRevenueBetween(startDate, endDate, currency);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", Map.of(
-                "startDate", startDate,
-                "endDate", endDate,
-                "totalRevenue", revenue != null ? revenue : 0.0
-            ));
+            response.put("data", revenue);
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
         } catch (Exception e) {
             logger.error("매출 조회 실패 - 오류: {}", e.getMessage(), e);
             
@@ -325,6 +562,71 @@ public class OrderController {
         }
     }
 
+    /**
+     * 실시간 주문 지표 조회 (최근 1분/5분/15분 주문 수, 주문 금액, 상태 전환 수와 초당 비율)
+     * scope=cluster 면 각 파드가 order.metrics.realtime.publish-interval 마다 올린 스냅샷을 병합하고, local 이면 이 파드 값만 반환한다.
+     */
+    @GetMapping("/metrics/realtime")
+    @Timed(value = "orders.metrics.realtime", description = "Time taken to get realtime order metrics")
+    public ResponseEntity<Map<String, Object>> getRealtimeMetrics(
+            @RequestParam(defaultValue = "cluster") String scope) {
+
+        if (!"cluster".equals(scope) && !"local".equals(scope)) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "scope 는 cluster 또는 local 이어야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        OrderRealtimeMetricsResponse metrics = realtimeMetricsService.getMetrics("cluster".equals(scope));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", metrics);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 기간별 주문 내보내기 (NDJSON | CSV)
+     * [start, end) 기간에 생성된 주문을 커서로 읽으면서 바로 응답 본문에 쓴다.
+     * 본문은 MVC 비동기 스레드에서 쓰이므로 spring.mvc.async.request-timeout 이 전체 내보내기 시간의 상한이 된다.
+     */
+    @GetMapping("/export")
+    @Timed(value = "orders.export", description = "Time taken to start an order export")
+    public ResponseEntity<?> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        logger.info("주문 내보내기 요청 - 기간: {} ~ {}, 포맷: {}", start, end, format);
+
+        OrderExportService.Format exportFormat;
+        try {
+            exportFormat = OrderExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "format 은 ndjson 또는 csv 여야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        if (!start.isBefore(end)) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "start 는 end 보다 이전이어야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        StreamingResponseBody body = out -> orderExportService.export(start, end, exportFormat, out);
+        String filename = "orders-" + start.toLocalDate() + "-" + end.toLocalDate() + "." + exportFormat.getExtension();
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+
     /**
      * 헬스체크 엔드포인트
      */
@@ -0,0 +1,54 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import java.math.BigDecimal;
+
+public class OrderBatchItemResult {
+
+    private int index;
+    private String customerId;
+    private boolean success;
+    private String orderId;
+    private BigDecimal finalAmount;
+    private String message;
+
+    // Constructors
+    public OrderBatchItemResult() {}
+
+    public static OrderBatchItemResult success(int index, String customerId, String orderId, BigDecimal finalAmount) {
+        OrderBatchItemResult result = new OrderBatchItemResult();
+        result.setIndex(index);
+        result.setCustomerId(customerId);
+        result.setSuccess(true);
+        result.setOrderId(orderId);
+        result.setFinalAmount(finalAmount);
+        return result;
+    }
+
+    public static OrderBatchItemResult failure(int index, String customerId, String message) {
+        OrderBatchItemResult result = new OrderBatchItemResult();
+        result.setIndex(index);
+        result.setCustomerId(customerId);
+        result.setSuccess(false);
+        result.setMessage(message);
+        return result;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+
+    public BigDecimal getFinalAmount() { return finalAmount; }
+    public void setFinalAmount(BigDecimal finalAmount) { this.finalAmount = finalAmount; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
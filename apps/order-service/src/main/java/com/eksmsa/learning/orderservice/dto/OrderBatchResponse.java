@@ -0,0 +1,35 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderBatchResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<OrderBatchItemResult> results = new ArrayList<>();
+
+    // Constructors
+    public OrderBatchResponse() {}
+
+    public OrderBatchResponse(List<OrderBatchItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(OrderBatchItemResult::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    // Getters and Setters
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<OrderBatchItemResult> getResults() { return results; }
+    public void setResults(List<OrderBatchItemResult> results) { this.results = results; }
+}
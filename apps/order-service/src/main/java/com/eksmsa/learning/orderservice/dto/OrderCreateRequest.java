@@ -36,7 +36,7 @@ public class OrderCreateRequest {
     @DecimalMin(value = "0.0", inclusive = true, message = "배송비는 0 이상이어야 합니다")
     private BigDecimal shippingAmount;
 
-    @Size(max = 3, message = "통화 코드는 3자여야 합니다")
+    @Pattern(regexp = "[A-Z]{3}", message = "통화 코드는 영문 대문자 3자여야 합니다")
     private String currency = "KRW";
 
     @Size(max = 50, message = "결제 방법은 50자를 초과할 수 없습니다")
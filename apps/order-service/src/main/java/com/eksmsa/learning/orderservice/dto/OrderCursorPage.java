@@ -0,0 +1,38 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * keyset 페이지네이션 응답 (전체 건수 없이 다음 페이지 커서만 제공)
+ */
+public class OrderCursorPage<T> {
+
+    private List<T> content = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    // Constructors
+    public OrderCursorPage() {}
+
+    public OrderCursorPage(List<T> content, String nextCursor, int size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = size;
+    }
+
+    // Getters and Setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
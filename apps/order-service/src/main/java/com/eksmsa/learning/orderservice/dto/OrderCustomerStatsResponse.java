@@ -0,0 +1,37 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 고객별 주문 통계 응답
+ */
+public class OrderCustomerStatsResponse {
+
+    private String customerId;
+    private String customerName;
+    private long orderCount;
+    private BigDecimal totalAmount;
+
+    // Constructors
+    public OrderCustomerStatsResponse() {}
+
+    public OrderCustomerStatsResponse(String customerId, String customerName, long orderCount, BigDecimal totalAmount) {
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+
+    // Getters and Setters
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) { this.customerName = customerName; }
+
+    public long getOrderCount() { return orderCount; }
+    public void setOrderCount(long orderCount) { this.orderCount = orderCount; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+}
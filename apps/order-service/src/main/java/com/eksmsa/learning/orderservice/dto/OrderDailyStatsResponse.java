@@ -0,0 +1,33 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 주문 통계 응답 (요약 테이블의 slot 합계)
+ */
+public class OrderDailyStatsResponse {
+
+    private LocalDate date;
+    private long orderCount;
+    private BigDecimal totalAmount;
+
+    // Constructors
+    public OrderDailyStatsResponse() {}
+
+    public OrderDailyStatsResponse(LocalDate date, Long orderCount, BigDecimal totalAmount) {
+        this.date = date;
+        this.orderCount = orderCount != null ? orderCount : 0L;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public long getOrderCount() { return orderCount; }
+    public void setOrderCount(long orderCount) { this.orderCount = orderCount; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+}
@@ -0,0 +1,110 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 행 (엔티티와 컬렉션을 로딩하지 않고 JPQL 생성자 표현식으로 주문 컬럼만 조회)
+ */
+public class OrderExportRow {
+
+    private String id;
+    private String customerId;
+    private String customerName;
+    private String customerEmail;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private BigDecimal discountAmount;
+    private BigDecimal taxAmount;
+    private BigDecimal shippingAmount;
+    private BigDecimal finalAmount;
+    private String currency;
+    private String paymentMethod;
+    private String paymentStatus;
+    private String trackingNumber;
+    private LocalDateTime deliveredAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public OrderExportRow() {}
+
+    public OrderExportRow(String id, String customerId, String customerName, String customerEmail,
+                          OrderStatus status, Money totalAmount, Money discountAmount,
+                          Money taxAmount, Money shippingAmount, Money finalAmount,
+                          String currency, String paymentMethod, String paymentStatus, String trackingNumber,
+                          LocalDateTime deliveredAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.status = status;
+        this.totalAmount = Money.decimalOf(totalAmount);
+        this.discountAmount = Money.decimalOf(discountAmount);
+        this.taxAmount = Money.decimalOf(taxAmount);
+        this.shippingAmount = Money.decimalOf(shippingAmount);
+        this.finalAmount = Money.decimalOf(finalAmount);
+        this.currency = currency;
+        this.paymentMethod = paymentMethod;
+        this.paymentStatus = paymentStatus;
+        this.trackingNumber = trackingNumber;
+        this.deliveredAt = deliveredAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) { this.customerName = customerName; }
+
+    public String getCustomerEmail() { return customerEmail; }
+    public void setCustomerEmail(String customerEmail) { this.customerEmail = customerEmail; }
+
+    public OrderStatus getStatus() { return status; }
+    public void setStatus(OrderStatus status) { this.status = status; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+
+    public BigDecimal getDiscountAmount() { return discountAmount; }
+    public void setDiscountAmount(BigDecimal discountAmount) { this.discountAmount = discountAmount; }
+
+    public BigDecimal getTaxAmount() { return taxAmount; }
+    public void setTaxAmount(BigDecimal taxAmount) { this.taxAmount = taxAmount; }
+
+    public BigDecimal getShippingAmount() { return shippingAmount; }
+    public void setShippingAmount(BigDecimal shippingAmount) { this.shippingAmount = shippingAmount; }
+
+    public BigDecimal getFinalAmount() { return finalAmount; }
+    public void setFinalAmount(BigDecimal finalAmount) { this.finalAmount = finalAmount; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public String getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(String paymentMethod) { this.paymentMethod = paymentMethod; }
+
+    public String getPaymentStatus() { return paymentStatus; }
+    public void setPaymentStatus(String paymentStatus) { this.paymentStatus = paymentStatus; }
+
+    public String getTrackingNumber() { return trackingNumber; }
+    public void setTrackingNumber(String trackingNumber) { this.trackingNumber = trackingNumber; }
+
+    public LocalDateTime getDeliveredAt() { return deliveredAt; }
+    public void setDeliveredAt(LocalDateTime deliveredAt) { this.deliveredAt = deliveredAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
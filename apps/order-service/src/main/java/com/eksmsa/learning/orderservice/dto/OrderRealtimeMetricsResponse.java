@@ -0,0 +1,104 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 실시간 주문 지표 응답 (윈도별 주문 수/주문 금액/상태 전환 수와 초당 비율)
+ * scope 가 cluster 이면 각 윈도 값은 파드마다 자기 스냅샷 시각에서 끝나는 윈도의 합이다.
+ * 다른 파드 스냅샷은 최대 publish-interval 만큼 이전 것이라 윈도 끝이 서로 최대 snapshotLagSeconds 초 어긋난 근사값이다.
+ */
+public class OrderRealtimeMetricsResponse {
+
+    /**
+     * 한 윈도의 합계와 초당 비율
+     */
+    public static class Window {
+
+        private int seconds;
+        private long orders;
+        private double ordersPerSecond;
+        private BigDecimal revenue;
+        private BigDecimal revenuePerSecond;
+        private Map<String, Long> transitions;
+        private Map<String, Double> transitionsPerSecond;
+
+        // Constructors
+        public Window() {}
+
+        public Window(int seconds, long orders, double ordersPerSecond, BigDecimal revenue,
+                      BigDecimal revenuePerSecond, Map<String, Long> transitions,
+                      Map<String, Double> transitionsPerSecond) {
+            this.seconds = seconds;
+            this.orders = orders;
+            this.ordersPerSecond = ordersPerSecond;
+            this.revenue = revenue;
+            this.revenuePerSecond = revenuePerSecond;
+            this.transitions = transitions;
+            this.transitionsPerSecond = transitionsPerSecond;
+        }
+
+        // Getters and Setters
+        public int getSeconds() { return seconds; }
+        public void setSeconds(int seconds) { this.seconds = seconds; }
+
+        public long getOrders() { return orders; }
+        public void setOrders(long orders) { this.orders = orders; }
+
+        public double getOrdersPerSecond() { return ordersPerSecond; }
+        public void setOrdersPerSecond(double ordersPerSecond) { this.ordersPerSecond = ordersPerSecond; }
+
+        public BigDecimal getRevenue() { return revenue; }
+        public void setRevenue(BigDecimal revenue) { this.revenue = revenue; }
+
+        public BigDecimal getRevenuePerSecond() { return revenuePerSecond; }
+        public void setRevenuePerSecond(BigDecimal revenuePerSecond) { this.revenuePerSecond = revenuePerSecond; }
+
+        public Map<String, Long> getTransitions() { return transitions; }
+        public void setTransitions(Map<String, Long> transitions) { this.transitions = transitions; }
+
+        public Map<String, Double> getTransitionsPerSecond() { return transitionsPerSecond; }
+        public void setTransitionsPerSecond(Map<String, Double> transitionsPerSecond) { this.transitionsPerSecond = transitionsPerSecond; }
+    }
+
+    private LocalDateTime timestamp;
+    private String scope;
+    private int instances;
+    // 병합한 다른 파드 스냅샷 중 가장 오래된 것이 이 파드 현재 초보다 늦은 초 수 (local 이면 0)
+    private long snapshotLagSeconds;
+    private String currency;
+    private Map<String, Window> windows;
+
+    // Constructors
+    public OrderRealtimeMetricsResponse() {}
+
+    public OrderRealtimeMetricsResponse(LocalDateTime timestamp, String scope, int instances,
+                                        long snapshotLagSeconds, String currency, Map<String, Window> windows) {
+        this.timestamp = timestamp;
+        this.scope = scope;
+        this.instances = instances;
+        this.snapshotLagSeconds = snapshotLagSeconds;
+        this.currency = currency;
+        this.windows = windows;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+
+    public String getScope() { return scope; }
+    public void setScope(String scope) { this.scope = scope; }
+
+    public int getInstances() { return instances; }
+    public void setInstances(int instances) { this.instances = instances; }
+
+    public long getSnapshotLagSeconds() { return snapshotLagSeconds; }
+    public void setSnapshotLagSeconds(long snapshotLagSeconds) { this.snapshotLagSeconds = snapshotLagSeconds; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public Map<String, Window> getWindows() { return windows; }
+    public void setWindows(Map<String, Window> windows) { this.windows = windows; }
+}
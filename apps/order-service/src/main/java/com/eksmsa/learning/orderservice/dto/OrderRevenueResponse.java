@@ -0,0 +1,54 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간 매출 응답
+ * revenueByCurrency 는 통화별 원래 금액, totalRevenue 는 currency 로 환산한 합계이다.
+ * 환율을 모르는 통화는 totalRevenue 에서 빠지고 unconvertedCurrencies 에 담긴다.
+ */
+public class OrderRevenueResponse {
+
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String currency;
+    private BigDecimal totalRevenue;
+    private Map<String, BigDecimal> revenueByCurrency;
+    private List<String> unconvertedCurrencies;
+
+    // Constructors
+    public OrderRevenueResponse() {}
+
+    public OrderRevenueResponse(LocalDateTime startDate, LocalDateTime endDate, String currency,
+                                BigDecimal totalRevenue, Map<String, BigDecimal> revenueByCurrency,
+                                List<String> unconvertedCurrencies) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.currency = currency;
+        this.totalRevenue = totalRevenue;
+        this.revenueByCurrency = revenueByCurrency;
+        this.unconvertedCurrencies = unconvertedCurrencies;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getStartDate() { return startDate; }
+    public void setStartDate(LocalDateTime startDate) { this.startDate = startDate; }
+
+    public LocalDateTime getEndDate() { return endDate; }
+    public void setEndDate(LocalDateTime endDate) { this.endDate = endDate; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public BigDecimal getTotalRevenue() { return totalRevenue; }
+    public void setTotalRevenue(BigDecimal totalRevenue) { this.totalRevenue = totalRevenue; }
+
+    public Map<String, BigDecimal> getRevenueByCurrency() { return revenueByCurrency; }
+    public void setRevenueByCurrency(Map<String, BigDecimal> revenueByCurrency) { this.revenueByCurrency = revenueByCurrency; }
+
+    public List<String> getUnconvertedCurrencies() { return unconvertedCurrencies; }
+    public void setUnconvertedCurrencies(List<String> unconvertedCurrencies) { this.unconvertedCurrencies = unconvertedCurrencies; }
+}
@@ -0,0 +1,57 @@
+package com.eksmsa.learning.orderservice.dto;
+
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록용 요약 응답 (엔티티를 로딩하지 않고 JPQL 생성자 표현식으로 필요한 컬럼만 조회)
+ */
+public class OrderSummaryResponse {
+
+    private String id;
+    private String customerId;
+    private String customerName;
+    private OrderStatus status;
+    private BigDecimal finalAmount;
+    private String currency;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public OrderSummaryResponse() {}
+
+    public OrderSummaryResponse(String id, String customerId, String customerName, OrderStatus status,
+                                Money finalAmount, String currency, LocalDateTime createdAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.status = status;
+        this.finalAmount = Money.decimalOf(finalAmount);
+        this.currency = currency;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) { this.customerName = customerName; }
+
+    public OrderStatus getStatus() { return status; }
+    public void setStatus(OrderStatus status) { this.status = status; }
+
+    public BigDecimal getFinalAmount() { return finalAmount; }
+    public void setFinalAmount(BigDecimal finalAmount) { this.finalAmount = finalAmount; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,8 +1,11 @@
 package com.eksmsa.learning.orderservice.entity;
 
+import com.eksmsa.learning.orderservice.money.Money;
+import com.eksmsa.learning.orderservice.money.MoneyConverter;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
@@ -11,14 +14,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 운영 스키마는 db/migration 의 Flyway 스크립트가 관리 (부분 인덱스는 migration 에만 존재)
 @Table(name = "orders", indexes = {
-    @Index(name = "idx_order_customer_id", columnList = "customer_id"),
-    @Index(name = "idx_order_status", columnList = "status"),
+    @Index(name = "idx_order_customer_status_created", columnList = "customer_id, status, created_at DESC, id DESC"),
+    @Index(name = "idx_order_customer_created", columnList = "customer_id, created_at DESC, id DESC"),
+    @Index(name = "idx_order_status_created", columnList = "status, created_at DESC, id DESC"),
     @Index(name = "idx_order_created_at", columnList = "created_at"),
     @Index(name = "idx_order_total_amount", columnList = "total_amount")
 })
 @EntityListeners(AuditingEntityListener.class)
-public class Order {
+public class Order implements Persistable<String> {
 
     @Id
     @Column(name = "id", length = 50)
@@ -40,20 +45,26 @@ public class Order {
     @Column(name = "status", nullable = false, length = 20)
     private OrderStatus status = OrderStatus.PENDING;
 
+    // 금액은 내부적으로 Money(최소 단위 long) 로 계산하고, 접근자는 기존과 같이 BigDecimal 을 주고받는다
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private Money totalAmount = Money.ZERO;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "discount_amount", precision = 10, scale = 2)
-    private BigDecimal discountAmount = BigDecimal.ZERO;
+    private Money discountAmount = Money.ZERO;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "tax_amount", precision = 10, scale = 2)
-    private BigDecimal taxAmount = BigDecimal.ZERO;
+    private Money taxAmount = Money.ZERO;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "shipping_amount", precision = 10, scale = 2)
-    private BigDecimal shippingAmount = BigDecimal.ZERO;
+    private Money shippingAmount = Money.ZERO;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "final_amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal finalAmount = BigDecimal.ZERO;
+    private Money finalAmount = Money.ZERO;
 
     @Column(name = "currency", length = 3)
     private String currency = "KRW";
@@ -96,6 +107,10 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderStatusHistory> statusHistory = new ArrayList<>();
 
+    // 애플리케이션에서 ID를 할당하므로 save() 시 merge(SELECT) 대신 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
     // Constructors
     public Order() {}
 
@@ -105,32 +120,63 @@ public class Order {
         this.customerName = customerName;
     }
 
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     // Business Methods
+    // 항목 추가/삭제/변경 시 합계는 해당 항목 소계만큼만 증감한다 (항목 수와 무관하게 O(1))
     public void addItem(OrderItem item) {
         items.add(item);
         item.setOrder(this);
-        calculateTotalAmount();
+        adjustTotalAmount(Money.minorUnitsOf(item.getSubtotalMoney()));
     }
 
     public void removeItem(OrderItem item) {
-        items.remove(item);
+        if (items.remove(item)) {
+            adjustTotalAmount(-Money.minorUnitsOf(item.getSubtotalMoney()));
+        }
         item.setOrder(null);
-        calculateTotalAmount();
     }
 
+    /**
+     * 전체 항목으로 합계를 다시 계산 (항목 목록을 통째로 바꾼 경우 등)
+     */
     public void calculateTotalAmount() {
-        this.totalAmount = items.stream()
-            .map(OrderItem::getSubtotal)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
+        long total = 0;
+        for (OrderItem item : items) {
+            total = Math.addExact(total, Money.minorUnitsOf(item.getSubtotalMoney()));
+        }
+        this.totalAmount = Money.ofMinor(total);
+
         calculateFinalAmount();
     }
 
     public void calculateFinalAmount() {
-        this.finalAmount = totalAmount
-            .subtract(discountAmount != null ? discountAmount : BigDecimal.ZERO)
-            .add(taxAmount != null ? taxAmount : BigDecimal.ZERO)
-            .add(shippingAmount != null ? shippingAmount : BigDecimal.ZERO);
+        // long 범위를 넘으면 잘못된 금액으로 감싸지지 않고 ArithmeticException
+        long amount = Math.subtractExact(Money.minorUnitsOf(totalAmount), Money.minorUnitsOf(discountAmount));
+        amount = Math.addExact(amount, Money.minorUnitsOf(taxAmount));
+        amount = Math.addExact(amount, Money.minorUnitsOf(shippingAmount));
+        this.finalAmount = Money.ofMinor(amount);
+    }
+
+    // OrderItem 소계 변경 반영
+    void itemSubtotalChanged(Money previous, Money current) {
+        adjustTotalAmount(Math.subtractExact(Money.minorUnitsOf(current), Money.minorUnitsOf(previous)));
+    }
+
+    private void adjustTotalAmount(long delta) {
+        if (delta != 0) {
+            this.totalAmount = Money.ofMinor(Math.addExact(Money.minorUnitsOf(totalAmount), delta));
+            calculateFinalAmount();
+        }
     }
 
     public void updateStatus(OrderStatus newStatus) {
@@ -178,29 +224,29 @@ public class Order {
     public OrderStatus getStatus() { return status; }
     public void setStatus(OrderStatus status) { this.status = status; }
 
-    public BigDecimal getTotalAmount() { return totalAmount; }
-    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+    public BigDecimal getTotalAmount() { return Money.decimalOf(totalAmount); }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = Money.of(totalAmount); }
 
-    public BigDecimal getDiscountAmount() { return discountAmount; }
+    public BigDecimal getDiscountAmount() { return Money.decimalOf(discountAmount); }
     public void setDiscountAmount(BigDecimal discountAmount) { 
-        this.discountAmount = discountAmount;
+        this.discountAmount = Money.of(discountAmount);
         calculateFinalAmount();
     }
 
-    public BigDecimal getTaxAmount() { return taxAmount; }
+    public BigDecimal getTaxAmount() { return Money.decimalOf(taxAmount); }
     public void setTaxAmount(BigDecimal taxAmount) { 
-        this.taxAmount = taxAmount;
+        this.taxAmount = Money.of(taxAmount);
         calculateFinalAmount();
     }
 
-    public BigDecimal getShippingAmount() { return shippingAmount; }
+    public BigDecimal getShippingAmount() { return Money.decimalOf(shippingAmount); }
     public void setShippingAmount(BigDecimal shippingAmount) { 
-        this.shippingAmount = shippingAmount;
+        this.shippingAmount = Money.of(shippingAmount);
         calculateFinalAmount();
     }
 
-    public BigDecimal getFinalAmount() { return finalAmount; }
-    public void setFinalAmount(BigDecimal finalAmount) { this.finalAmount = finalAmount; }
+    public BigDecimal getFinalAmount() { return Money.decimalOf(finalAmount); }
+    public void setFinalAmount(BigDecimal finalAmount) { this.finalAmount = Money.of(finalAmount); }
 
     public String getCurrency() { return currency; }
     public void setCurrency(String currency) { this.currency = currency; }
@@ -242,4 +288,4 @@ public class Order {
 
     public List<OrderStatusHistory> getStatusHistory() { return statusHistory; }
     public void setStatusHistory(List<OrderStatusHistory> statusHistory) { this.statusHistory = statusHistory; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.eksmsa.learning.orderservice.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 고객별 주문 수/금액 요약
+ */
+@Entity
+// 운영 스키마는 db/migration 의 Flyway 스크립트가 관리
+@Table(name = "order_customer_stats", indexes = {
+    @Index(name = "idx_order_customer_stats_amount", columnList = "total_amount DESC")
+})
+public class OrderCustomerStats {
+
+    @Id
+    @Column(name = "customer_id", length = 50)
+    private String customerId;
+
+    @Column(name = "customer_name", nullable = false, length = 100)
+    private String customerName;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 18, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    // Constructors
+    public OrderCustomerStats() {}
+
+    // Getters and Setters
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) { this.customerName = customerName; }
+
+    public long getOrderCount() { return orderCount; }
+    public void setOrderCount(long orderCount) { this.orderCount = orderCount; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+}
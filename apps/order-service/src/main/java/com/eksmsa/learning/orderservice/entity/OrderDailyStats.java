@@ -0,0 +1,72 @@
+package com.eksmsa.learning.orderservice.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 일별 주문 수/금액 요약 (생성일, slot 별 부분 합계, 조회 시 slot 을 합산)
+ */
+@Entity
+@Table(name = "order_daily_stats")
+@IdClass(OrderDailyStats.Key.class)
+public class OrderDailyStats {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "slot")
+    private short slot;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 18, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    // Constructors
+    public OrderDailyStats() {}
+
+    // Getters and Setters
+    public LocalDate getStatDate() { return statDate; }
+    public void setStatDate(LocalDate statDate) { this.statDate = statDate; }
+
+    public short getSlot() { return slot; }
+    public void setSlot(short slot) { this.slot = slot; }
+
+    public long getOrderCount() { return orderCount; }
+    public void setOrderCount(long orderCount) { this.orderCount = orderCount; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+
+    public static class Key implements Serializable {
+
+        private LocalDate statDate;
+        private short slot;
+
+        public Key() {}
+
+        public Key(LocalDate statDate, short slot) {
+            this.statDate = statDate;
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return slot == key.slot && Objects.equals(statDate, key.statDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(statDate, slot);
+        }
+    }
+}
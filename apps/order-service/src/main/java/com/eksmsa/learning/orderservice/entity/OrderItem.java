@@ -1,5 +1,7 @@
 package com.eksmsa.learning.orderservice.entity;
 
+import com.eksmsa.learning.orderservice.money.Money;
+import com.eksmsa.learning.orderservice.money.MoneyConverter;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -16,8 +18,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class OrderItem {
 
+    // IDENTITY 는 INSERT 마다 키를 즉시 받아와야 해서 JDBC 배치를 끄므로, 50개 단위로 미리 할당하는 pooled 시퀀스 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,20 +40,24 @@ public class OrderItem {
     @Column(name = "product_image_url", length = 500)
     private String productImageUrl;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "subtotal", nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    private Money subtotal;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "discount_amount", precision = 10, scale = 2)
-    private BigDecimal discountAmount = BigDecimal.ZERO;
+    private Money discountAmount = Money.ZERO;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "tax_amount", precision = 10, scale = 2)
-    private BigDecimal taxAmount = BigDecimal.ZERO;
+    private Money taxAmount = Money.ZERO;
 
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
@@ -68,15 +76,16 @@ public class OrderItem {
     public OrderItem(String productId, String productName, BigDecimal unitPrice, Integer quantity) {
         this.productId = productId;
         this.productName = productName;
-        this.unitPrice = unitPrice;
+        this.unitPrice = Money.of(unitPrice);
         this.quantity = quantity;
         calculateSubtotal();
     }
 
     // Business Methods
+    // 주문에 담긴 항목이면 소계 변경분을 주문 합계에도 반영
     public void calculateSubtotal() {
         if (unitPrice != null && quantity != null) {
-            this.subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            changeSubtotal(unitPrice.times(quantity));
         }
     }
 
@@ -86,14 +95,23 @@ public class OrderItem {
     }
 
     public void updateUnitPrice(BigDecimal newUnitPrice) {
-        this.unitPrice = newUnitPrice;
+        this.unitPrice = Money.of(newUnitPrice);
         calculateSubtotal();
     }
 
     public BigDecimal getFinalAmount() {
-        return subtotal
-            .subtract(discountAmount != null ? discountAmount : BigDecimal.ZERO)
-            .add(taxAmount != null ? taxAmount : BigDecimal.ZERO);
+        long amount = Math.subtractExact(Money.minorUnitsOf(subtotal), Money.minorUnitsOf(discountAmount));
+        return BigDecimal.valueOf(Math.addExact(amount, Money.minorUnitsOf(taxAmount)), Money.SCALE);
+    }
+
+    Money getSubtotalMoney() { return subtotal; }
+
+    private void changeSubtotal(Money newSubtotal) {
+        Money previous = this.subtotal;
+        this.subtotal = newSubtotal;
+        if (order != null) {
+            order.itemSubtotalChanged(previous, newSubtotal);
+        }
     }
 
     // Getters and Setters
@@ -115,9 +133,9 @@ public class OrderItem {
     public String getProductImageUrl() { return productImageUrl; }
     public void setProductImageUrl(String productImageUrl) { this.productImageUrl = productImageUrl; }
 
-    public BigDecimal getUnitPrice() { return unitPrice; }
+    public BigDecimal getUnitPrice() { return Money.decimalOf(unitPrice); }
     public void setUnitPrice(BigDecimal unitPrice) { 
-        this.unitPrice = unitPrice;
+        this.unitPrice = Money.of(unitPrice);
         calculateSubtotal();
     }
 
@@ -127,14 +145,14 @@ public class OrderItem {
         calculateSubtotal();
     }
 
-    public BigDecimal getSubtotal() { return subtotal; }
-    public void setSubtotal(BigDecimal subtotal) { this.subtotal = subtotal; }
+    public BigDecimal getSubtotal() { return Money.decimalOf(subtotal); }
+    public void setSubtotal(BigDecimal subtotal) { changeSubtotal(Money.of(subtotal)); }
 
-    public BigDecimal getDiscountAmount() { return discountAmount; }
-    public void setDiscountAmount(BigDecimal discountAmount) { this.discountAmount = discountAmount; }
+    public BigDecimal getDiscountAmount() { return Money.decimalOf(discountAmount); }
+    public void setDiscountAmount(BigDecimal discountAmount) { this.discountAmount = Money.of(discountAmount); }
 
-    public BigDecimal getTaxAmount() { return taxAmount; }
-    public void setTaxAmount(BigDecimal taxAmount) { this.taxAmount = taxAmount; }
+    public BigDecimal getTaxAmount() { return Money.decimalOf(taxAmount); }
+    public void setTaxAmount(BigDecimal taxAmount) { this.taxAmount = Money.of(taxAmount); }
 
     public String getNotes() { return notes; }
     public void setNotes(String notes) { this.notes = notes; }
@@ -0,0 +1,91 @@
+package com.eksmsa.learning.orderservice.entity;
+
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 outbox 레코드
+ * 주문 변경과 같은 트랜잭션에서 저장되고, 비동기 발행기 또는 릴레이가 주문별 seq 순서대로 Redis 로 발행한 뒤 삭제한다.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+    @Index(name = "idx_order_outbox_created_at", columnList = "created_at"),
+    @Index(name = "idx_order_outbox_seq", columnList = "seq"),
+    @Index(name = "idx_order_outbox_order_seq", columnList = "order_id, seq")
+})
+public class OrderOutboxEvent {
+
+    // 주문 일괄 생성 시 outbox INSERT 도 JDBC 배치되도록 pooled 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+    @SequenceGenerator(name = "order_outbox_seq", sequenceName = "order_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 50)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "order_id", nullable = false, length = 50)
+    private String orderId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 주문별 발행 순서 기준 (INSERT 시 DB 가 채번, 파드별 pooled 블록에서 나오는 id 와 달리 기록 순서를 따름)
+    @Column(name = "seq", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS IDENTITY")
+    private Long seq;
+
+    // 비동기 발행기가 선점한 기한 (null 이거나 지났으면 릴레이 대상)
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    // 커밋 직후 발행 시 페이로드를 다시 파싱하지 않도록 보관하는 원본 이벤트 (저장하지 않음)
+    @Transient
+    private OrderEvent event;
+
+    // Constructors
+    public OrderOutboxEvent() {}
+
+    public OrderOutboxEvent(String eventId, String eventType, String orderId, String payload) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.orderId = orderId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Long getSeq() { return seq; }
+
+    public LocalDateTime getClaimedUntil() { return claimedUntil; }
+    public void setClaimedUntil(LocalDateTime claimedUntil) { this.claimedUntil = claimedUntil; }
+
+    public OrderEvent getEvent() { return event; }
+    public void setEvent(OrderEvent event) { this.event = event; }
+}
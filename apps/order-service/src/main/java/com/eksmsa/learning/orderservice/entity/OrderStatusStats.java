@@ -0,0 +1,65 @@
+package com.eksmsa.learning.orderservice.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 상태별 주문 수 요약 (status, slot 별 부분 합계, 조회 시 slot 을 합산)
+ */
+@Entity
+@Table(name = "order_status_stats")
+@IdClass(OrderStatusStats.Key.class)
+public class OrderStatusStats {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private OrderStatus status;
+
+    @Id
+    @Column(name = "slot")
+    private short slot;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    // Constructors
+    public OrderStatusStats() {}
+
+    // Getters and Setters
+    public OrderStatus getStatus() { return status; }
+    public void setStatus(OrderStatus status) { this.status = status; }
+
+    public short getSlot() { return slot; }
+    public void setSlot(short slot) { this.slot = slot; }
+
+    public long getOrderCount() { return orderCount; }
+    public void setOrderCount(long orderCount) { this.orderCount = orderCount; }
+
+    public static class Key implements Serializable {
+
+        private OrderStatus status;
+        private short slot;
+
+        public Key() {}
+
+        public Key(OrderStatus status, short slot) {
+            this.status = status;
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return slot == key.slot && status == key.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(status, slot);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.eksmsa.learning.orderservice.event;
 
 import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.id.IdGenerator;
+import com.eksmsa.learning.orderservice.id.SnowflakeIdGenerator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.math.BigDecimal;
@@ -8,6 +10,9 @@ import java.time.LocalDateTime;
 
 public class OrderEvent {
 
+    // 이벤트 ID 생성기 (애플리케이션 기동 시 IdGeneratorConfig 의 빈으로 교체됨, 노드 0 은 컨텍스트 밖 단위 테스트용)
+    private static volatile IdGenerator idGenerator = new SnowflakeIdGenerator(0);
+
     private String eventId;
     private String eventType;
     private String orderId;
@@ -93,8 +98,11 @@ public class OrderEvent {
     }
 
     private String generateEventId() {
-        return "EVT-" + System.currentTimeMillis() + "-" + 
-               java.util.UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return idGenerator.nextId("EVT-");
+    }
+
+    public static void setIdGenerator(IdGenerator generator) {
+        idGenerator = generator;
     }
 
     // Getters and Setters
@@ -0,0 +1,383 @@
+package com.eksmsa.learning.orderservice.event;
+
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 주문 이벤트 와이어 포맷 코덱
+ * 첫 바이트로 포맷을 구분한다 - '{' 면 JSON, FORMAT_BINARY 면 바이너리 (다음 바이트가 스키마 버전).
+ * 0xB0 은 UTF-8 에서 첫 바이트로 올 수 없는 값이라 JSON 과 겹치지 않으므로, 기존 JSON 레코드도 그대로 읽힌다.
+ *
+ * 바이너리 스키마 v1 (필드 순서 고정):
+ * eventId, eventType, orderId, customerId, customerName, orderStatus, previousStatus,
+ * totalAmount, currency, reason, changedBy, timestamp
+ * - 문자열: varint(길이 + 1, 0 은 null) + UTF-8
+ * - 이벤트 타입/상태: 코드 1바이트 (0 은 null, 타입 코드 0xFF 는 뒤에 문자열)
+ * - 금액: 0 null / 1 zigzag varint(scale) + zigzag varlong(unscaled) / 2 zigzag varint(scale) + 바이트 배열
+ * - 시각: 0 null / 1 zigzag varlong(epochDay) + varlong(nanoOfDay)
+ * 필드를 추가할 때는 스키마 버전을 올리고 이전 버전 디코딩을 유지한다.
+ */
+public class OrderEventCodec {
+
+    /**
+     * 발행 시 사용할 와이어 포맷
+     */
+    public enum Format {
+        JSON,
+        BINARY
+    }
+
+    public static final byte FORMAT_JSON = '{';
+    public static final byte FORMAT_BINARY = (byte) 0xB0;
+    public static final byte SCHEMA_VERSION = 1;
+
+    // 스키마 v1 코드 테이블 (순서를 바꾸지 말고 뒤에만 추가)
+    private static final String[] EVENT_TYPES = {
+        null,
+        OrderEvent.ORDER_CREATED,
+        OrderEvent.ORDER_STATUS_CHANGED,
+        OrderEvent.ORDER_CANCELLED,
+        OrderEvent.ORDER_SHIPPED,
+        OrderEvent.ORDER_DELIVERED
+    };
+    private static final int EVENT_TYPE_OTHER = 0xFF;
+
+    private static final OrderStatus[] STATUSES = {
+        null,
+        OrderStatus.PENDING,
+        OrderStatus.CONFIRMED,
+        OrderStatus.PROCESSING,
+        OrderStatus.SHIPPED,
+        OrderStatus.DELIVERED,
+        OrderStatus.CANCELLED,
+        OrderStatus.REFUNDED
+    };
+
+    private final ObjectReader jsonReader;
+    private final ObjectWriter jsonWriter;
+
+    public OrderEventCodec() {
+        this(new OrderJsonMapper());
+    }
+
+    public OrderEventCodec(OrderJsonMapper jsonMapper) {
+        this.jsonReader = jsonMapper.getEventReader();
+        this.jsonWriter = jsonMapper.getEventWriter();
+    }
+
+    /**
+     * 지정한 포맷으로 인코딩
+     */
+    public byte[] encode(OrderEvent event, Format format) throws IOException {
+        return format == Format.BINARY ? encodeBinary(event) : jsonWriter.writeValueAsBytes(event);
+    }
+
+    /**
+     * 첫 바이트로 포맷을 판별해 디코딩
+     */
+    public OrderEvent decode(byte[] data) throws IOException {
+        if (data == null || data.length == 0) {
+            throw new IOException("빈 이벤트 데이터");
+        }
+        if (data[0] == FORMAT_BINARY) {
+            return decodeBinary(data);
+        }
+        return jsonReader.readValue(data);
+    }
+
+    public static Format formatOf(byte[] data) {
+        return data != null && data.length > 0 && data[0] == FORMAT_BINARY ? Format.BINARY : Format.JSON;
+    }
+
+    // ===== 바이너리 인코딩 =====
+
+    public static byte[] encodeBinary(OrderEvent event) {
+        Writer writer = new Writer(96);
+        writer.writeByte(FORMAT_BINARY);
+        writer.writeByte(SCHEMA_VERSION);
+
+        writer.writeString(event.getEventId());
+        writeEventType(writer, event.getEventType());
+        writer.writeString(event.getOrderId());
+        writer.writeString(event.getCustomerId());
+        writer.writeString(event.getCustomerName());
+        writer.writeByte(statusCode(event.getOrderStatus()));
+        writer.writeByte(statusCode(event.getPreviousStatus()));
+        writeDecimal(writer, event.getTotalAmount());
+        writer.writeString(event.getCurrency());
+        writer.writeString(event.getReason());
+        writer.writeString(event.getChangedBy());
+        writeTimestamp(writer, event.getTimestamp());
+
+        return writer.toByteArray();
+    }
+
+    private static void writeEventType(Writer writer, String eventType) {
+        if (eventType == null) {
+            writer.writeByte(0);
+            return;
+        }
+        for (int code = 1; code < EVENT_TYPES.length; code++) {
+            if (EVENT_TYPES[code].equals(eventType)) {
+                writer.writeByte(code);
+                return;
+            }
+        }
+        writer.writeByte(EVENT_TYPE_OTHER);
+        writer.writeString(eventType);
+    }
+
+    private static int statusCode(OrderStatus status) {
+        if (status == null) {
+            return 0;
+        }
+        for (int code = 1; code < STATUSES.length; code++) {
+            if (STATUSES[code] == status) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("스키마 v" + SCHEMA_VERSION + " 에 없는 주문 상태: " + status);
+    }
+
+    private static void writeDecimal(Writer writer, BigDecimal value) {
+        if (value == null) {
+            writer.writeByte(0);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            writer.writeByte(1);
+            writer.writeVarLong(zigzag(value.scale()));
+            writer.writeVarLong(zigzag(unscaled.longValue()));
+        } else {
+            byte[] bytes = unscaled.toByteArray();
+            writer.writeByte(2);
+            writer.writeVarLong(zigzag(value.scale()));
+            writer.writeVarLong(bytes.length);
+            writer.writeBytes(bytes);
+        }
+    }
+
+    private static void writeTimestamp(Writer writer, LocalDateTime timestamp) {
+        if (timestamp == null) {
+            writer.writeByte(0);
+            return;
+        }
+        writer.writeByte(1);
+        writer.writeVarLong(zigzag(timestamp.toLocalDate().toEpochDay()));
+        writer.writeVarLong(timestamp.toLocalTime().toNanoOfDay());
+    }
+
+    // ===== 바이너리 디코딩 =====
+
+    public static OrderEvent decodeBinary(byte[] data) throws IOException {
+        Reader reader = new Reader(data);
+        if ((byte) reader.readByte() != FORMAT_BINARY) {
+            throw new IOException("바이너리 이벤트 포맷이 아닙니다");
+        }
+        int version = reader.readByte();
+        if (version != SCHEMA_VERSION) {
+            throw new IOException("지원하지 않는 이벤트 스키마 버전: " + version);
+        }
+
+        OrderEvent event = new OrderEvent();
+        event.setEventId(reader.readString());
+        event.setEventType(readEventType(reader));
+        event.setOrderId(reader.readString());
+        event.setCustomerId(reader.readString());
+        event.setCustomerName(reader.readString());
+        event.setOrderStatus(readStatus(reader));
+        event.setPreviousStatus(readStatus(reader));
+        event.setTotalAmount(readDecimal(reader));
+        event.setCurrency(reader.readString());
+        event.setReason(reader.readString());
+        event.setChangedBy(reader.readString());
+        event.setTimestamp(readTimestamp(reader));
+        return event;
+    }
+
+    private static String readEventType(Reader reader) throws IOException {
+        int code = reader.readByte();
+        if (code == EVENT_TYPE_OTHER) {
+            return reader.readString();
+        }
+        if (code >= EVENT_TYPES.length) {
+            throw new IOException("알 수 없는 이벤트 타입 코드: " + code);
+        }
+        return EVENT_TYPES[code];
+    }
+
+    private static OrderStatus readStatus(Reader reader) throws IOException {
+        int code = reader.readByte();
+        if (code >= STATUSES.length) {
+            throw new IOException("알 수 없는 주문 상태 코드: " + code);
+        }
+        return STATUSES[code];
+    }
+
+    private static BigDecimal readDecimal(Reader reader) throws IOException {
+        int tag = reader.readByte();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1: {
+                int scale = (int) unzigzag(reader.readVarLong());
+                return BigDecimal.valueOf(unzigzag(reader.readVarLong()), scale);
+            }
+            case 2: {
+                int scale = (int) unzigzag(reader.readVarLong());
+                byte[] bytes = reader.readBytes((int) reader.readVarLong());
+                return new BigDecimal(new BigInteger(bytes), scale);
+            }
+            default:
+                throw new IOException("알 수 없는 금액 태그: " + tag);
+        }
+    }
+
+    private static LocalDateTime readTimestamp(Reader reader) throws IOException {
+        if (reader.readByte() == 0) {
+            return null;
+        }
+        LocalDate date = LocalDate.ofEpochDay(unzigzag(reader.readVarLong()));
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(reader.readVarLong()));
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 확장 가능한 바이트 버퍼 (ASCII 문자열은 중간 byte[] 없이 바로 기록)
+     */
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeByte(0);
+                return;
+            }
+
+            int length = value.length();
+            boolean ascii = true;
+            for (int i = 0; i < length && ascii; i++) {
+                ascii = value.charAt(i) < 0x80;
+            }
+
+            if (ascii) {
+                writeVarLong(length + 1L);
+                ensureCapacity(length);
+                for (int i = 0; i < length; i++) {
+                    buffer[position++] = (byte) value.charAt(i);
+                }
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length + 1L);
+                writeBytes(bytes);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() throws IOException {
+            if (position >= data.length) {
+                throw new IOException("이벤트 데이터가 잘렸습니다");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            checkAvailable(length);
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        long readVarLong() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IOException("잘못된 varint");
+        }
+
+        String readString() throws IOException {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            int byteLength = (int) (length - 1);
+            checkAvailable(byteLength);
+            String value = new String(data, position, byteLength, StandardCharsets.UTF_8);
+            position += byteLength;
+            return value;
+        }
+
+        private void checkAvailable(int length) throws IOException {
+            if (length < 0 || position + length > data.length) {
+                throw new IOException("이벤트 데이터가 잘렸습니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.eksmsa.learning.orderservice.id;
+
+/**
+ * 주문/이벤트 ID 생성기
+ * 구현체를 빈으로 등록하면 기본 Snowflake 생성기 대신 사용된다.
+ */
+public interface IdGenerator {
+
+    /**
+     * 단조 증가하는 64비트 ID 생성
+     */
+    long nextId();
+
+    /**
+     * 접두사가 붙은 고정 길이 문자열 ID 생성 (사전순 정렬 = 생성 순서)
+     */
+    String nextId(String prefix);
+}
@@ -0,0 +1,44 @@
+package com.eksmsa.learning.orderservice.id;
+
+/**
+ * 노드 ID 임대가 유효할 때만 ID 를 생성하는 생성기
+ * 임대를 연장하지 못한 채 TTL 이 지나면 다른 파드가 같은 노드 ID 를 받을 수 있으므로, 중복 ID 대신 예외로 실패시킨다.
+ * 임대가 새 슬롯으로 옮겨지면 그 노드 ID 의 Snowflake 생성기로 바꿔 이어서 생성한다.
+ */
+public class LeasedIdGenerator implements IdGenerator {
+
+    private final NodeIdLease lease;
+    private volatile SnowflakeIdGenerator delegate;
+
+    public LeasedIdGenerator(NodeIdLease lease) {
+        this.lease = lease;
+    }
+
+    @Override
+    public long nextId() {
+        return generator().nextId();
+    }
+
+    @Override
+    public String nextId(String prefix) {
+        return generator().nextId(prefix);
+    }
+
+    private SnowflakeIdGenerator generator() {
+        if (!lease.isValid()) {
+            throw new IllegalStateException("Snowflake 노드 ID 임대가 만료되어 ID 를 생성할 수 없습니다: " + lease.getNodeId());
+        }
+        int nodeId = lease.getNodeId();
+        SnowflakeIdGenerator current = delegate;
+        if (current == null || current.getNodeId() != nodeId) {
+            synchronized (this) {
+                current = delegate;
+                if (current == null || current.getNodeId() != nodeId) {
+                    current = new SnowflakeIdGenerator(nodeId);
+                    delegate = current;
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,160 @@
+package com.eksmsa.learning.orderservice.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 임대 기반 Snowflake 노드 ID 할당
+ * 기동 시 order:id:node:{n} 을 SET NX PX 로 선점해 노드 ID 를 얻고, 백그라운드 하트비트로 TTL 을 연장한다.
+ * 마지막으로 연장에 성공한 시점(요청 전송 시각 기준) + TTL 이 지나면 임대가 무효가 되어, Redis 에서 키가 만료되어
+ * 다른 파드가 같은 슬롯을 가져가기 전에 이 파드는 ID 생성을 멈춘다.
+ * 슬롯을 다른 소유자에게 빼앗기면 하트비트마다 비어 있는 새 슬롯을 찾아 다시 임대하고, 그동안은 readiness 에서 빠진다.
+ */
+public class NodeIdLease {
+
+    private static final Logger logger = LoggerFactory.getLogger(NodeIdLease.class);
+
+    static final String KEY_PREFIX = "order:id:node:";
+
+    // 소유자가 같을 때만 TTL 연장 / 삭제
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+        Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String owner;
+    private final Duration ttl;
+    private final ScheduledExecutorService heartbeat;
+
+    private volatile int nodeId = -1;
+    // 이 시각(System.nanoTime) 이후에는 임대를 보장할 수 없음
+    private volatile long validUntilNanos;
+
+    public NodeIdLease(StringRedisTemplate stringRedisTemplate, String owner, Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.owner = owner;
+        this.ttl = ttl;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-id-node-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 비어 있는 노드 ID 슬롯 선점 (임의 위치부터 전체 슬롯을 한 바퀴 탐색)
+     *
+     * @throws IllegalStateException 모든 슬롯이 사용 중이거나 Redis 에 접근할 수 없는 경우
+     */
+    public int acquire() {
+        int acquired = acquireFreeSlot();
+        if (acquired < 0) {
+            throw new IllegalStateException("사용 가능한 Snowflake 노드 ID 슬롯이 없습니다 ("
+                + (SnowflakeIdGenerator.MAX_NODE_ID + 1) + "개 모두 임대 중)");
+        }
+        long interval = Math.max(1, ttl.toMillis() / 3);
+        heartbeat.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+        logger.info("노드 ID 임대 획득 - 소유자: {}, 노드 ID: {}, TTL: {}", owner, acquired, ttl);
+        return acquired;
+    }
+
+    // 임의 위치부터 빈 슬롯을 찾아 선점 (없으면 -1)
+    private int acquireFreeSlot() {
+        int slots = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        int start = ThreadLocalRandom.current().nextInt(slots);
+        for (int i = 0; i < slots; i++) {
+            int candidate = (start + i) % slots;
+            long requestedAt = System.nanoTime();
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + candidate, owner, ttl);
+            if (Boolean.TRUE.equals(acquired)) {
+                nodeId = candidate;
+                validUntilNanos = requestedAt + ttl.toNanos();
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 임대 TTL 연장 (하트비트)
+     */
+    void renew() {
+        int current = nodeId;
+        if (current < 0) {
+            return;
+        }
+
+        long requestedAt = System.nanoTime();
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + current),
+                owner, String.valueOf(ttl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                validUntilNanos = requestedAt + ttl.toNanos();
+                return;
+            }
+
+            // 키가 만료되었으면 같은 슬롯을 다시 선점 (다른 파드가 가져갔으면 실패)
+            Boolean reacquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + current, owner, ttl);
+            if (Boolean.TRUE.equals(reacquired)) {
+                validUntilNanos = requestedAt + ttl.toNanos();
+                logger.warn("만료된 노드 ID 임대 재획득 - 노드 ID: {}", current);
+            } else {
+                validUntilNanos = requestedAt;
+                logger.error("노드 ID 임대를 다른 소유자에게 빼앗김 - 노드 ID: {}, 새 슬롯 탐색", current);
+                int fresh = acquireFreeSlot();
+                if (fresh >= 0) {
+                    logger.warn("새 노드 ID 임대 획득 - 이전 노드 ID: {}, 노드 ID: {}", current, fresh);
+                } else {
+                    logger.error("사용 가능한 노드 ID 슬롯이 없어 ID 생성 중단 - 다음 하트비트에 재시도");
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("노드 ID 임대 연장 실패 - 노드 ID: {}, 오류: {}", current, e.getMessage());
+        }
+    }
+
+    /**
+     * 임대가 아직 유효한지 (하트비트가 TTL 안에 성공했는지)
+     */
+    public boolean isValid() {
+        return nodeId >= 0 && System.nanoTime() - validUntilNanos < 0;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 종료 시 하트비트를 멈추고 슬롯을 반납
+     */
+    public void release() {
+        heartbeat.shutdownNow();
+        int current = nodeId;
+        if (current < 0) {
+            return;
+        }
+
+        validUntilNanos = System.nanoTime();
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + current), owner);
+            logger.info("노드 ID 임대 반납 - 노드 ID: {}", current);
+        } catch (Exception e) {
+            logger.warn("노드 ID 임대 반납 실패 - 노드 ID: {}, 오류: {}", current, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.eksmsa.learning.orderservice.id;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식의 k-정렬 ID 생성기
+ *
+ * <pre>
+ *  | 1 bit 0 | 41 bit 타임스탬프(ms, 2024-01-01 기준) | 10 bit 노드 ID | 12 bit 시퀀스 |
+ * </pre>
+ *
+ * 마지막 (타임스탬프, 시퀀스) 상태를 하나의 AtomicLong 에 담아 CAS 로 갱신하므로 락이 없고,
+ * 시계가 뒤로 가거나 같은 ms 에 시퀀스가 소진되면 논리 타임스탬프를 앞당겨 계속 단조 증가한다.
+ * 문자열 ID 는 Crockford Base32 13자리 고정 길이라 문자열 정렬 순서가 생성 순서와 같다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final byte[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+    // 문자열 조립용 스레드별 버퍼 (최종 String 외에는 할당하지 않기 위함)
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[64]);
+
+    private final long nodeBits;
+
+    // (epoch 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    @Override
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        long last;
+        long next;
+        do {
+            last = lastState.get();
+            next = Math.max(now, last + 1);
+        } while (!lastState.compareAndSet(last, next));
+
+        return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    @Override
+    public String nextId(String prefix) {
+        long id = nextId();
+        byte[] buffer = BUFFER.get();
+        int prefixLength = prefix.length();
+        if (prefixLength + ENCODED_LENGTH > buffer.length) {
+            return prefix + encode(id);
+        }
+
+        for (int i = 0; i < prefixLength; i++) {
+            char c = prefix.charAt(i);
+            if (c > 0xFF) {
+                return prefix + encode(id);
+            }
+            buffer[i] = (byte) c;
+        }
+        writeBase32(id, buffer, prefixLength);
+        return new String(buffer, 0, prefixLength + ENCODED_LENGTH, StandardCharsets.ISO_8859_1);
+    }
+
+    public int getNodeId() {
+        return (int) (nodeBits >>> SEQUENCE_BITS);
+    }
+
+    /**
+     * 64비트 ID 를 13자리 Crockford Base32 문자열로 변환
+     */
+    public static String encode(long id) {
+        byte[] buffer = new byte[ENCODED_LENGTH];
+        writeBase32(id, buffer, 0);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * ID 에 담긴 생성 시각 (epoch ms)
+     */
+    public static long extractTimestamp(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    private static void writeBase32(long id, byte[] buffer, int offset) {
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            buffer[offset + i] = ALPHABET[(int) (id & 0x1F)];
+            id >>>= 5;
+        }
+    }
+}
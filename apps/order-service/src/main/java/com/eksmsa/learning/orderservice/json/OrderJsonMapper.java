@@ -0,0 +1,72 @@
+package com.eksmsa.learning.orderservice.json;
+
+import com.eksmsa.learning.orderservice.dto.OrderResponse;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 서비스 공용 JSON 매퍼
+ * 매퍼는 하나만 만들어 직렬화기 캐시를 공유하고, 자주 쓰는 타입은 ObjectReader/ObjectWriter 를 미리 만들어 둔다.
+ * (readValue(String, Class) 는 호출마다 타입 조회를 거치지만, 미리 만든 리더는 루트 역직렬화기를 바로 쓴다)
+ * Blackbird 모듈은 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 getter/setter 를 호출한다.
+ */
+public class OrderJsonMapper {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader eventReader;
+    private final ObjectWriter eventWriter;
+    private final ObjectReader responseReader;
+    private final ObjectWriter responseWriter;
+
+    public OrderJsonMapper() {
+        this(createObjectMapper());
+    }
+
+    public OrderJsonMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.eventReader = objectMapper.readerFor(OrderEvent.class);
+        this.eventWriter = objectMapper.writerFor(OrderEvent.class);
+        this.responseReader = objectMapper.readerFor(OrderResponse.class);
+        this.responseWriter = objectMapper.writerFor(OrderResponse.class);
+    }
+
+    /**
+     * 공용 설정의 ObjectMapper 생성 (Spring 컨텍스트 밖의 테스트, 벤치마크용, 애플리케이션은 JacksonConfig 로 Boot 매퍼에 같은 설정을 적용)
+     * 날짜는 ISO 문자열로 쓰고, 모르는 필드는 무시해 필드가 추가된 이벤트도 이전 버전이 읽을 수 있게 한다.
+     */
+    public static ObjectMapper createObjectMapper() {
+        return JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new BlackbirdModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public ObjectReader getEventReader() {
+        return eventReader;
+    }
+
+    public ObjectWriter getEventWriter() {
+        return eventWriter;
+    }
+
+    public ObjectReader getResponseReader() {
+        return responseReader;
+    }
+
+    public ObjectWriter getResponseWriter() {
+        return responseWriter;
+    }
+}
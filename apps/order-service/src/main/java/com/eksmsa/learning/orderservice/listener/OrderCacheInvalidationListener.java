@@ -0,0 +1,41 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import com.eksmsa.learning.orderservice.service.OrderCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 파드에서 발행한 주문 near cache 무효화 메시지 수신
+ */
+@Component
+public class OrderCacheInvalidationListener implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCacheInvalidationListener.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final OrderCacheService orderCacheService;
+
+    @Autowired
+    public OrderCacheInvalidationListener(RedisTemplate<String, Object> redisTemplate,
+                                          OrderCacheService orderCacheService) {
+        this.redisTemplate = redisTemplate;
+        this.orderCacheService = orderCacheService;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body != null) {
+                orderCacheService.onInvalidationMessage(body.toString());
+            }
+        } catch (Exception e) {
+            logger.warn("near cache 무효화 메시지 처리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * eventId 기준 이벤트 중복 처리 방지 (스트림별로 배포 전체에서 부수 효과는 한 번만)
+ * 처음 보는 이벤트는 Redis SET NX 로 짧은 처리 임대(processing-lease)를 선점하고, 처리에 성공하면 값을 완료로 바꿔
+ * 전체 TTL 로 늘리면서 같은 파이프라인에 XACK 을 보낸다. 처리 전에는 ACK 하지 않으므로, 처리 도중 파드가 죽으면 레코드는
+ * pending 으로 남고 임대가 만료된 뒤 회수한 파드가 다시 선점해 처리한다.
+ * 다른 컨슈머가 처리 중인 이벤트의 레코드도 ACK 하지 않고 pending 으로 남겨, 회수될 때 완료 여부를 다시 확인한다.
+ * 파드 내 시간 창 seen-set 에는 완료가 확인된 이벤트만 담으므로, 로컬에서 건너뛴 레코드가 처리되지 않은 채 사라지지 않는다.
+ * 로컬 seen-set 은 거짓 양성이 없도록 정확한 집합을 쓰고, 두 세대를 번갈아 비워 크기와 보관 시간을 제한한다.
+ */
+@Component
+public class OrderEventDeduplicator {
+
+    private static final String KEY_PREFIX = "order:events:processed:";
+
+    // 처리를 마친 이벤트의 선점 키 값 (처리 중이면 선점한 컨슈머 이름)
+    static final String DONE = "done";
+
+    // 소유자가 같을 때만 삭제 (임대가 만료되어 다른 컨슈머가 다시 선점한 키는 건드리지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SeenSet seenSet;
+
+    private final Counter localDuplicateCounter;
+    private final Counter remoteDuplicateCounter;
+    private final Counter inProgressCounter;
+
+    @Value("${order.events.dedupe.enabled:true}")
+    private boolean enabled = true;
+
+    // Redis 선점 키 보관 시간 (outbox 재발행, pending 회수 등 중복이 생길 수 있는 기간보다 길게)
+    @Value("${order.events.dedupe.ttl:24h}")
+    private Duration ttl = Duration.ofHours(24);
+
+    // 처리 중 선점 키 보관 시간 (처리 도중 죽은 컨슈머의 선점은 이 시간이 지나면 풀린다, 처리 시간보다 길게)
+    @Value("${order.events.dedupe.processing-lease:2m}")
+    private Duration processingLease = Duration.ofMinutes(2);
+
+    @Value("${order.events.stream.group:order-service}")
+    private String group = "order-service";
+
+    @Value("${order.events.stream.consumer:${HOSTNAME:order-service}}")
+    private String consumerName = "order-service";
+
+    @Autowired
+    public OrderEventDeduplicator(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                                  @Value("${order.events.dedupe.local-window:10m}") Duration localWindow,
+                                  @Value("${order.events.dedupe.local-max-size:100000}") int localMaxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.seenSet = new SeenSet(localWindow, localMaxSize);
+
+        this.localDuplicateCounter = Counter.builder("orders.events.dedupe.duplicates")
+            .description("Duplicate order events skipped")
+            .tag("source", "local")
+            .register(meterRegistry);
+        this.remoteDuplicateCounter = Counter.builder("orders.events.dedupe.duplicates")
+            .description("Duplicate order events skipped")
+            .tag("source", "redis")
+            .register(meterRegistry);
+        this.inProgressCounter = Counter.builder("orders.events.dedupe.in-progress")
+            .description("Order event records left pending because another consumer holds the event")
+            .register(meterRegistry);
+        Gauge.builder("orders.events.dedupe.local.size", seenSet, SeenSet::size)
+            .description("Event ids held in the local seen-set")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이벤트 처리권 선점
+     * 이 컨슈머가 처리해야 하면 true 를 반환하고, 레코드는 처리 후 complete 로 ACK 한다.
+     * 이미 처리를 마친 이벤트의 레코드는 ACK 하고 false, 다른 컨슈머가 처리 중이면 ACK 하지 않고 false 를 반환한다.
+     */
+    public boolean claim(String stream, RecordId recordId, String eventId) {
+        String seenKey = stream + ":" + eventId;
+        byte[] rawStream = stream.getBytes(StandardCharsets.UTF_8);
+
+        if (seenSet.contains(seenKey)) {
+            stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.streamCommands().xAck(rawStream, group, recordId));
+            localDuplicateCounter.increment();
+            return false;
+        }
+
+        byte[] rawKey = rawKey(seenKey);
+        byte[] owner = consumerName.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(rawKey, owner, Expiration.from(processingLease), SetOption.ifAbsent());
+            connection.stringCommands().get(rawKey);
+            return null;
+        });
+
+        if (Boolean.TRUE.equals(results.get(0))) {
+            return true;
+        }
+        if (DONE.equals(results.get(1))) {
+            stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.streamCommands().xAck(rawStream, group, recordId));
+            seenSet.add(seenKey);
+            remoteDuplicateCounter.increment();
+            return false;
+        }
+        // 처리 결과를 아직 알 수 없으므로 pending 으로 남겨 두고, 회수될 때 완료 여부나 임대 만료를 다시 확인
+        inProgressCounter.increment();
+        return false;
+    }
+
+    /**
+     * 처리를 마친 이벤트를 완료로 기록하고 레코드 ACK (한 번의 파이프라인)
+     */
+    public void complete(String stream, RecordId recordId, String eventId) {
+        String seenKey = stream + ":" + eventId;
+        byte[] rawKey = rawKey(seenKey);
+        byte[] rawStream = stream.getBytes(StandardCharsets.UTF_8);
+        byte[] done = DONE.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(rawKey, done, Expiration.from(ttl), SetOption.upsert());
+            connection.streamCommands().xAck(rawStream, group, recordId);
+            return null;
+        });
+        seenSet.add(seenKey);
+    }
+
+    /**
+     * 처리에 실패한 이벤트의 선점을 풀어, pending 으로 남은 레코드가 회수될 때 바로 다시 선점될 수 있게 함
+     */
+    public void release(String stream, String eventId) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + stream + ":" + eventId), consumerName);
+    }
+
+    private byte[] rawKey(String seenKey) {
+        return (KEY_PREFIX + seenKey).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 두 세대로 나눈 시간 창 집합
+     * 현재 세대가 창의 절반을 넘기거나 가득 차면 이전 세대를 버리고 세대를 넘긴다.
+     */
+    static final class SeenSet {
+        private final long halfWindowNanos;
+        private final int generationMaxSize;
+        private volatile Set<String> current = ConcurrentHashMap.newKeySet();
+        private volatile Set<String> previous = ConcurrentHashMap.newKeySet();
+        private volatile long rotatedAt = System.nanoTime();
+
+        SeenSet(Duration window, int maxSize) {
+            this.halfWindowNanos = window.toNanos() / 2;
+            this.generationMaxSize = Math.max(1, maxSize / 2);
+        }
+
+        boolean contains(String key) {
+            rotateIfNeeded(0);
+            return current.contains(key) || previous.contains(key);
+        }
+
+        void add(String key) {
+            rotateIfNeeded(1);
+            current.add(key);
+        }
+
+        int size() {
+            return current.size() + previous.size();
+        }
+
+        private boolean shouldRotate(int adding) {
+            return System.nanoTime() - rotatedAt >= halfWindowNanos || current.size() + adding > generationMaxSize;
+        }
+
+        private void rotateIfNeeded(int adding) {
+            if (!shouldRotate(adding)) {
+                return;
+            }
+            synchronized (this) {
+                if (shouldRotate(adding)) {
+                    previous = current;
+                    current = ConcurrentHashMap.newKeySet();
+                    rotatedAt = System.nanoTime();
+                }
+            }
+        }
+    }
+}
@@ -1,59 +1,74 @@
 package com.eksmsa.learning.orderservice.listener;
 
 import com.eksmsa.learning.orderservice.event.OrderEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.eksmsa.learning.orderservice.event.OrderEventCodec;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.eksmsa.learning.orderservice.revenue.CurrencyCode;
+import com.eksmsa.learning.orderservice.revenue.RevenueIndex;
+import com.eksmsa.learning.orderservice.service.OrderCacheService;
+import com.eksmsa.learning.orderservice.service.OrderEventService;
+import com.eksmsa.learning.orderservice.service.OrderRealtimeMetricsService;
+import com.eksmsa.learning.orderservice.service.OrderService;
+import com.eksmsa.learning.orderservice.service.OrderStatisticsAggregator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * 주문 이벤트 스트림 처리기 (OrderEventStreamConsumer 가 컨슈머 그룹으로 읽은 레코드를 전달)
+ */
 @Component
-public class OrderEventListener implements MessageListener {
+public class OrderEventListener {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderEventListener.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final OrderEventCodec eventCodec;
+    private final OrderCacheService orderCacheService;
+    private final OrderService orderService;
+    private final OrderEventService orderEventService;
+    private final OrderStatisticsAggregator statisticsAggregator;
+    private final OrderRealtimeMetricsService realtimeMetricsService;
 
     @Autowired
-    public OrderEventListener(RedisTemplate<String, Object> redisTemplate) {
+    public OrderEventListener(RedisTemplate<String, Object> redisTemplate, OrderCacheService orderCacheService,
+                              OrderService orderService, OrderEventService orderEventService,
+                              OrderStatisticsAggregator statisticsAggregator,
+                              OrderRealtimeMetricsService realtimeMetricsService, OrderJsonMapper jsonMapper) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.orderCacheService = orderCacheService;
+        this.orderService = orderService;
+        this.orderEventService = orderEventService;
+        this.statisticsAggregator = statisticsAggregator;
+        this.realtimeMetricsService = realtimeMetricsService;
+        this.eventCodec = new OrderEventCodec(jsonMapper);
     }
 
-    @Override
-    public void onMessage(Message message, byte[] pattern) {
-        try {
-            String channel = new String(message.getChannel());
-            String messageBody = new String(message.getBody());
-            
-            logger.debug("Redis 메시지 수신 - 채널: {}, 메시지: {}", channel, messageBody);
-
-            // 메시지를 OrderEvent로 역직렬화
-            OrderEvent event = objectMapper.readValue(messageBody, OrderEvent.class);
-            
-            // 채널별로 처리
-            switch (channel) {
-                case "order.events":
-                    handleOrderEvent(event);
-                    break;
-                case "order.notifications":
-                    handleOrderNotification(event);
-                    break;
-                case "order.analytics":
-                    handleOrderAnalytics(event);
-                    break;
-                default:
-                    logger.warn("알 수 없는 채널에서 메시지 수신: {}", channel);
-            }
-
-        } catch (Exception e) {
-            logger.error("Redis 메시지 처리 실패 - 오류: {}", e.getMessage(), e);
+    /**
+     * 스트림 레코드의 이벤트 처리
+     * 처리 중 예외는 호출자에게 전파되어 레코드가 ACK 되지 않고 재처리 대상으로 남는다.
+     */
+    public void onEvent(String stream, byte[] eventData) throws Exception {
+        // 첫 바이트로 JSON/바이너리 포맷을 판별해 역직렬화
+        OrderEvent event = eventCodec.decode(eventData);
+        logger.debug("주문 이벤트 수신 - 스트림: {}, 포맷: {}, 이벤트 ID: {}",
+            stream, OrderEventCodec.formatOf(eventData), event.getEventId());
+
+        // 스트림별로 처리
+        switch (stream) {
+            case OrderEventService.ORDER_EVENTS_STREAM:
+                handleOrderEvent(event);
+                break;
+            case OrderEventService.ORDER_NOTIFICATIONS_STREAM:
+                handleOrderNotification(event);
+                break;
+            case OrderEventService.ORDER_ANALYTICS_STREAM:
+                handleOrderAnalytics(event);
+                break;
+            default:
+                logger.warn("알 수 없는 스트림에서 이벤트 수신: {}", stream);
         }
     }
 
@@ -64,35 +79,32 @@ public class OrderEventListener implements MessageListener {
         logger.info("주문 이벤트 처리 - 이벤트 ID: {}, 타입: {}, 주문 ID: {}", 
             event.getEventId(), event.getEventType(), event.getOrderId());
 
-        try {
-            // 이벤트 타입별 처리
-            switch (event.getEventType()) {
-                case OrderEvent.ORDER_CREATED:
-                    handleOrderCreated(event);
-                    break;
-                case OrderEvent.ORDER_STATUS_CHANGED:
-                    handleOrderStatusChanged(event);
-                    break;
-                case OrderEvent.ORDER_CANCELLED:
-                    handleOrderCancelled(event);
-                    break;
-                case OrderEvent.ORDER_SHIPPED:
-                    handleOrderShipped(event);
-                    break;
-                case OrderEvent.ORDER_DELIVERED:
-                    handleOrderDelivered(event);
-                    break;
-                default:
-                    logger.warn("알 수 없는 이벤트 타입: {}", event.getEventType());
-            }
+        // 이벤트 타입별 처리
+        switch (event.getEventType()) {
+            case OrderEvent.ORDER_CREATED:
+                handleOrderCreated(event);
+                break;
+            case OrderEvent.ORDER_STATUS_CHANGED:
+                handleOrderStatusChanged(event);
+                break;
+            case OrderEvent.ORDER_CANCELLED:
+                handleOrderCancelled(event);
+                break;
+            case OrderEvent.ORDER_SHIPPED:
+                handleOrderShipped(event);
+                break;
+            case OrderEvent.ORDER_DELIVERED:
+                handleOrderDelivered(event);
+                break;
+            default:
+                logger.warn("알 수 없는 이벤트 타입: {}", event.getEventType());
+        }
 
-            // 이벤트 처리 성공 로그
-            logger.debug("주문 이벤트 처리 완료 - 이벤트 ID: {}", event.getEventId());
+        // 주문별 이벤트 히스토리 기록 (메인 스트림에서만 기록해 이벤트당 한 번)
+        orderEventService.storeEvent(event);
 
-        } catch (Exception e) {
-            logger.error("주문 이벤트 처리 실패 - 이벤트 ID: {}, 오류: {}", 
-                event.getEventId(), e.getMessage(), e);
-        }
+        // 이벤트 처리 성공 로그
+        logger.debug("주문 이벤트 처리 완료 - 이벤트 ID: {}", event.getEventId());
     }
 
     /**
@@ -110,6 +122,9 @@ public class OrderEventListener implements MessageListener {
         
         // 고객별 주문 수 업데이트
         updateCustomerOrderCount(event.getCustomerId());
+
+        // 주문 조회 캐시 예열 (상태 변경은 변경한 쪽에서 커밋 후 캐시를 갱신하므로 생성 이벤트만 예열)
+        orderCacheService.warm(event.getOrderId(), () -> orderService.getOrder(event.getOrderId()));
     }
 
     /**
@@ -208,19 +223,17 @@ public class OrderEventListener implements MessageListener {
     }
 
     /**
-     * 주문 통계 업데이트
+     * 주문 통계 업데이트 (집계기에 누적 후 주기적으로 일괄 반영)
      */
     private void updateOrderStatistics(OrderEvent event) {
         try {
             String dailyOrderKey = "stats:orders:daily:" + 
                 java.time.LocalDate.now().toString();
-            redisTemplate.opsForValue().increment(dailyOrderKey);
-            redisTemplate.expire(dailyOrderKey, java.time.Duration.ofDays(90));
+            statisticsAggregator.increment(dailyOrderKey, java.time.Duration.ofDays(90));
 
             String monthlyOrderKey = "stats:orders:monthly:" + 
                 java.time.YearMonth.now().toString();
-            redisTemplate.opsForValue().increment(monthlyOrderKey);
-            redisTemplate.expire(monthlyOrderKey, java.time.Duration.ofDays(365));
+            statisticsAggregator.increment(monthlyOrderKey, java.time.Duration.ofDays(365));
 
         } catch (Exception e) {
             logger.error("주문 통계 업데이트 실패: {}", e.getMessage());
@@ -233,8 +246,7 @@ public class OrderEventListener implements MessageListener {
     private void updateCustomerOrderCount(String customerId) {
         try {
             String customerOrderKey = "stats:customer:orders:" + customerId;
-            redisTemplate.opsForValue().increment(customerOrderKey);
-            redisTemplate.expire(customerOrderKey, java.time.Duration.ofDays(365));
+            statisticsAggregator.increment(customerOrderKey, java.time.Duration.ofDays(365));
 
         } catch (Exception e) {
             logger.error("고객 주문 수 업데이트 실패: {}", e.getMessage());
@@ -247,11 +259,13 @@ public class OrderEventListener implements MessageListener {
     private void updateRevenueStatistics(OrderEvent event) {
         try {
             if (event.getTotalAmount() != null) {
+                // 통화가 다른 금액을 한 값에 더하지 않도록 통화별 키에 최소 단위(소수 둘째 자리) 정수로 누적
+                String currency = CurrencyCode.unpack(CurrencyCode.pack(
+                    event.getCurrency() != null ? event.getCurrency() : "KRW"));
                 String dailyRevenueKey = "stats:revenue:daily:" + 
-                    java.time.LocalDate.now().toString();
-                redisTemplate.opsForValue().increment(dailyRevenueKey, 
-                    event.getTotalAmount().doubleValue());
-                redisTemplate.expire(dailyRevenueKey, java.time.Duration.ofDays(90));
+                    java.time.LocalDate.now().toString() + ":" + currency;
+                statisticsAggregator.incrementBy(dailyRevenueKey,
+                    RevenueIndex.toMinorUnits(event.getTotalAmount()), java.time.Duration.ofDays(90));
             }
 
         } catch (Exception e) {
@@ -275,21 +289,11 @@ public class OrderEventListener implements MessageListener {
     }
 
     /**
-     * 대시보드 메트릭 업데이트
+     * 대시보드 메트릭 업데이트 (파드 내 롤링 윈도에 기록, 클러스터 합계는 조회 시 파드 스냅샷을 병합)
      */
     private void updateDashboardMetrics(OrderEvent event) {
         try {
-            // 실시간 주문 수
-            String realtimeOrderKey = "metrics:realtime:orders";
-            redisTemplate.opsForValue().increment(realtimeOrderKey);
-            redisTemplate.expire(realtimeOrderKey, java.time.Duration.ofMinutes(5));
-
-            // 상태별 주문 수
-            if (event.getOrderStatus() != null) {
-                String statusKey = "metrics:orders:status:" + event.getOrderStatus().name();
-                redisTemplate.opsForValue().increment(statusKey);
-                redisTemplate.expire(statusKey, java.time.Duration.ofHours(1));
-            }
+            realtimeMetricsService.record(event);
 
         } catch (Exception e) {
             logger.error("대시보드 메트릭 업데이트 실패: {}", e.getMessage());
@@ -0,0 +1,195 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 ID 해시로 이벤트를 N 개 레인에 나눠 병렬 처리하는 엔진
+ * 같은 주문의 이벤트는 항상 같은 레인에서 순서대로 처리되고, 서로 다른 주문은 레인별로 동시에 처리된다.
+ * 레인 큐가 가득 차면 제출 스레드(스트림 컨테이너)가 대기하므로 XREADGROUP 읽기 속도가 처리 속도에 맞춰진다.
+ */
+@Component
+public class OrderEventProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventProcessor.class);
+
+    /**
+     * 레인 워커 스레드 종류
+     */
+    public enum ThreadMode {
+        PLATFORM,
+        // JDK 21 이상에서만 동작, 그 외 런타임에서는 PLATFORM 으로 대체
+        VIRTUAL
+    }
+
+    private static final class Lane {
+        final int index;
+        final BlockingQueue<Runnable> queue;
+        final Timer processingTimer;
+        Thread worker;
+
+        Lane(int index, int capacity, Timer processingTimer) {
+            this.index = index;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+            this.processingTimer = processingTimer;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final List<Lane> lanes = new ArrayList<>();
+    private volatile boolean running;
+
+    @Value("${order.events.processor.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${order.events.processor.lanes:8}")
+    private int laneCount = 8;
+
+    @Value("${order.events.processor.lane-capacity:256}")
+    private int laneCapacity = 256;
+
+    @Value("${order.events.processor.thread-mode:PLATFORM}")
+    private ThreadMode threadMode = ThreadMode.PLATFORM;
+
+    @Autowired
+    public OrderEventProcessor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        ThreadFactory threadFactory = threadFactory();
+        running = true;
+        for (int i = 0; i < laneCount; i++) {
+            String laneTag = String.valueOf(i);
+            Timer processingTimer = Timer.builder("orders.events.processor.duration")
+                .description("Time spent processing an order event on a lane")
+                .tag("lane", laneTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+            Lane lane = new Lane(i, laneCapacity, processingTimer);
+            Gauge.builder("orders.events.processor.queue.depth", lane.queue, BlockingQueue::size)
+                .description("Order events waiting on a processing lane")
+                .tag("lane", laneTag)
+                .register(meterRegistry);
+
+            lane.worker = threadFactory.newThread(() -> runLane(lane));
+            lane.worker.setName("order-event-lane-" + i);
+            lanes.add(lane);
+            lane.worker.start();
+        }
+        logger.info("주문 이벤트 레인 처리기 시작 - 레인: {}, 레인 용량: {}, 스레드: {}", laneCount, laneCapacity, threadMode);
+    }
+
+    /**
+     * 종료 시 레인에 남은 이벤트를 최대한 처리 (처리하지 못한 레코드는 ACK 되지 않아 재처리 대상으로 남음)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * 파티션 키(주문 ID)의 레인에 작업 제출, 레인이 가득 차면 자리가 날 때까지 대기
+     * 처리기가 꺼져 있으면 호출 스레드에서 바로 처리한다.
+     */
+    public void submit(String partitionKey, Runnable task) {
+        if (!isEnabled()) {
+            task.run();
+            return;
+        }
+
+        Lane lane = lanes.get(laneOf(partitionKey, lanes.size()));
+        try {
+            lane.queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // 제출하지 못한 레코드는 ACK 되지 않으므로 유휴 pending 회수 때 다시 처리된다
+            logger.warn("주문 이벤트 레인 제출 중단 - 레인: {}", lane.index);
+        }
+    }
+
+    public int getQueueDepth(int lane) {
+        return lanes.get(lane).queue.size();
+    }
+
+    /**
+     * 키 해시를 섞어 레인 번호 결정 (null 키는 0번 레인)
+     */
+    static int laneOf(String partitionKey, int laneCount) {
+        if (partitionKey == null) {
+            return 0;
+        }
+        int h = partitionKey.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), laneCount);
+    }
+
+    private void runLane(Lane lane) {
+        while (running || !lane.queue.isEmpty()) {
+            Runnable task;
+            try {
+                task = lane.queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.error("주문 이벤트 레인 처리 실패 - 레인: {}, 오류: {}", lane.index, e.getMessage(), e);
+            } finally {
+                lane.processingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private ThreadFactory threadFactory() {
+        if (threadMode == ThreadMode.VIRTUAL) {
+            try {
+                // Thread.ofVirtual().factory() - JDK 17 로 컴파일하므로 리플렉션으로 호출
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("가상 스레드를 지원하지 않는 런타임 - 플랫폼 스레드로 대체합니다 (Java {})",
+                    Runtime.version().feature());
+            }
+        }
+
+        return runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
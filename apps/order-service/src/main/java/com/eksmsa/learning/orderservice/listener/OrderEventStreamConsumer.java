@@ -0,0 +1,367 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import com.eksmsa.learning.orderservice.service.OrderEventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 이벤트 스트림 컨슈머 그룹 소비자
+ * 모든 레플리카가 같은 컨슈머 그룹으로 XREADGROUP 하므로 각 레코드는 한 컨슈머에게만 전달된다.
+ * 죽은 파드가 처리하지 못하고 남긴 pending 레코드는 주기적으로 XCLAIM 해 다시 처리한다.
+ * 레코드 처리는 OrderEventProcessor 의 주문 ID 레인에서 병렬로 실행된다.
+ * 중복 제거가 켜져 있으면 OrderEventDeduplicator 로 처리권을 선점한 뒤 처리하고, 성공해야 완료 기록과 함께 ACK 한다.
+ * 처리에 실패한 이벤트는 선점만 풀고 레코드를 pending 으로 남겨 회수 경로에서 재시도한다 (스트림 끝에 다시 넣지 않음).
+ * event 필드는 JSON 또는 바이너리(OrderEventCodec)이므로 값은 문자열로 변환하지 않고 바이트 그대로 다룬다.
+ */
+@Component
+public class OrderEventStreamConsumer implements StreamListener<String, MapRecord<String, String, byte[]>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventStreamConsumer.class);
+
+    public static final List<String> STREAMS = List.of(
+        OrderEventService.ORDER_EVENTS_STREAM,
+        OrderEventService.ORDER_NOTIFICATIONS_STREAM,
+        OrderEventService.ORDER_ANALYTICS_STREAM);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderEventListener orderEventListener;
+    private final OrderEventProcessor orderEventProcessor;
+    private final OrderEventDeduplicator orderEventDeduplicator;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter processedCounter;
+    private final Counter failureCounter;
+    private final Counter reclaimedCounter;
+    private final Counter deadLetterCounter;
+    private final Map<String, AtomicLong> pendingGauges = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> lagGauges = new LinkedHashMap<>();
+
+    private volatile boolean groupsReady;
+
+    @Value("${order.events.stream.group:order-service}")
+    private String group = "order-service";
+
+    // 파드 이름 (쿠버네티스에서는 HOSTNAME 이 파드 이름)
+    @Value("${order.events.stream.consumer:${HOSTNAME:order-service}}")
+    private String consumerName = "order-service";
+
+    // 이 시간 이상 ACK 되지 않은 pending 레코드는 소유 파드가 죽은 것으로 보고 가져온다
+    @Value("${order.events.stream.reclaim-min-idle:60s}")
+    private Duration reclaimMinIdle = Duration.ofSeconds(60);
+
+    @Value("${order.events.stream.reclaim-batch-size:100}")
+    private int reclaimBatchSize = 100;
+
+    // 이 횟수 이상 전달(재시도)되어도 처리되지 않은 레코드는 ACK 후 dead-letter 로 집계
+    @Value("${order.events.stream.max-deliveries:5}")
+    private long maxDeliveries = 5;
+
+    @Autowired
+    public OrderEventStreamConsumer(StringRedisTemplate stringRedisTemplate, OrderEventListener orderEventListener,
+                                    OrderEventProcessor orderEventProcessor,
+                                    OrderEventDeduplicator orderEventDeduplicator, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.orderEventListener = orderEventListener;
+        this.orderEventProcessor = orderEventProcessor;
+        this.orderEventDeduplicator = orderEventDeduplicator;
+        this.meterRegistry = meterRegistry;
+
+        this.processedCounter = Counter.builder("orders.events.stream.processed")
+            .description("Order stream records processed and acknowledged")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("orders.events.stream.failures")
+            .description("Order stream records that failed processing")
+            .register(meterRegistry);
+        this.reclaimedCounter = Counter.builder("orders.events.stream.reclaimed")
+            .description("Pending order stream records claimed from idle consumers")
+            .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("orders.events.stream.dead-letter")
+            .description("Order stream records acknowledged without processing")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        for (String stream : STREAMS) {
+            pendingGauges.put(stream, registerGauge("orders.events.stream.pending",
+                "Records delivered to the consumer group but not yet acknowledged", stream));
+            lagGauges.put(stream, registerGauge("orders.events.stream.lag",
+                "Records in the stream not yet delivered to the consumer group", stream));
+        }
+        ensureGroups();
+    }
+
+    private AtomicLong registerGauge(String name, String description, String stream) {
+        AtomicLong value = new AtomicLong();
+        Gauge.builder(name, value, AtomicLong::get)
+            .description(description)
+            .tag("stream", stream)
+            .tag("group", group)
+            .register(meterRegistry);
+        return value;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    public Consumer consumer() {
+        return Consumer.from(group, consumerName);
+    }
+
+    /**
+     * 컨슈머 그룹 생성 (스트림이 없으면 MKSTREAM 으로 함께 생성, 이미 있으면 무시)
+     * Redis 에 연결할 수 없으면 다음 유지보수 주기에 다시 시도한다.
+     */
+    boolean ensureGroups() {
+        if (groupsReady) {
+            return true;
+        }
+
+        try {
+            for (String stream : STREAMS) {
+                createGroup(stream);
+            }
+            groupsReady = true;
+            logger.info("주문 이벤트 컨슈머 그룹 준비 완료 - 그룹: {}, 컨슈머: {}", group, consumerName);
+        } catch (Exception e) {
+            logger.warn("주문 이벤트 컨슈머 그룹 생성 실패 - 다음 주기에 재시도, 오류: {}", e.getMessage());
+        }
+        return groupsReady;
+    }
+
+    private void createGroup(String stream) {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                .xGroupCreate(stream.getBytes(StandardCharsets.UTF_8), group, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean isBusyGroup(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * XREADGROUP 으로 전달된 레코드를 주문 ID 레인에 제출
+     */
+    @Override
+    public void onMessage(MapRecord<String, String, byte[]> record) {
+        dispatch(record.getStream(), record.getId(), record.getValue());
+    }
+
+    private void dispatch(String stream, RecordId recordId, Map<String, byte[]> fields) {
+        byte[] orderId = fields.get(OrderEventService.FIELD_ORDER_ID);
+        orderEventProcessor.submit(orderId != null ? new String(orderId, StandardCharsets.UTF_8) : null,
+            () -> process(stream, recordId, fields));
+    }
+
+    /**
+     * 레코드 처리
+     * 중복 제거가 꺼져 있으면 성공한 레코드만 ACK 하고 실패한 레코드는 pending 으로 남겨 재처리 대상이 되도록 한다.
+     */
+    boolean process(String stream, RecordId recordId, Map<String, byte[]> fields) {
+        byte[] eventData = fields.get(OrderEventService.FIELD_EVENT);
+        if (eventData == null) {
+            logger.error("이벤트 필드가 없는 스트림 레코드 - 스트림: {}, 레코드 ID: {}", stream, recordId);
+            deadLetter(stream, recordId);
+            return false;
+        }
+
+        if (!orderEventDeduplicator.isEnabled()) {
+            try {
+                orderEventListener.onEvent(stream, eventData);
+                acknowledge(stream, recordId);
+                processedCounter.increment();
+                return true;
+            } catch (Exception e) {
+                failureCounter.increment();
+                logger.error("주문 이벤트 스트림 레코드 처리 실패 - 스트림: {}, 레코드 ID: {}, 오류: {}",
+                    stream, recordId, e.getMessage(), e);
+                return false;
+            }
+        }
+
+        // eventId 필드가 없는 이전 레코드는 레코드 ID 로 재전달만 거른다
+        byte[] rawEventId = fields.get(OrderEventService.FIELD_EVENT_ID);
+        String eventId = rawEventId != null ? new String(rawEventId, StandardCharsets.UTF_8) : recordId.getValue();
+
+        try {
+            if (!orderEventDeduplicator.claim(stream, recordId, eventId)) {
+                logger.debug("중복 주문 이벤트 건너뜀 - 스트림: {}, 이벤트 ID: {}", stream, eventId);
+                return false;
+            }
+        } catch (Exception e) {
+            // ACK 하지 않았으므로 pending 으로 남아 회수 대상이 된다
+            failureCounter.increment();
+            logger.warn("주문 이벤트 선점 실패 - 스트림: {}, 레코드 ID: {}, 오류: {}", stream, recordId, e.getMessage());
+            return false;
+        }
+
+        try {
+            orderEventListener.onEvent(stream, eventData);
+        } catch (Exception e) {
+            failureCounter.increment();
+            logger.error("주문 이벤트 스트림 레코드 처리 실패 - 스트림: {}, 이벤트 ID: {}, 오류: {}",
+                stream, eventId, e.getMessage(), e);
+            release(stream, eventId);
+            return false;
+        }
+
+        try {
+            orderEventDeduplicator.complete(stream, recordId, eventId);
+        } catch (Exception e) {
+            // 처리는 끝났으므로 선점을 풀지 않음 (처리 임대가 만료된 뒤 회수되면 다시 처리될 수 있음)
+            logger.warn("주문 이벤트 완료 기록 실패 - 스트림: {}, 이벤트 ID: {}, 오류: {}", stream, eventId, e.getMessage());
+        }
+        processedCounter.increment();
+        return true;
+    }
+
+    // 선점을 풀지 못해도 처리 임대가 만료되면 회수한 파드가 다시 선점한다
+    private void release(String stream, String eventId) {
+        try {
+            orderEventDeduplicator.release(stream, eventId);
+        } catch (Exception e) {
+            logger.warn("주문 이벤트 선점 해제 실패 - 스트림: {}, 이벤트 ID: {}, 오류: {}", stream, eventId, e.getMessage());
+        }
+    }
+
+    private void acknowledge(String stream, RecordId recordId) {
+        stringRedisTemplate.opsForStream().acknowledge(stream, group, recordId);
+    }
+
+    private void deadLetter(String stream, RecordId recordId) {
+        acknowledge(stream, recordId);
+        deadLetterCounter.increment();
+    }
+
+    /**
+     * 주기적 유지보수 - 유휴 pending 레코드 회수와 pending/lag 지표 갱신
+     */
+    @Scheduled(fixedDelayString = "${order.events.stream.reclaim-interval:10000}")
+    public void maintain() {
+        if (!ensureGroups()) {
+            return;
+        }
+
+        for (String stream : STREAMS) {
+            try {
+                reclaimPending(stream);
+                refreshGauges(stream);
+            } catch (Exception e) {
+                logger.warn("주문 이벤트 스트림 유지보수 실패 - 스트림: {}, 오류: {}", stream, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * reclaimMinIdle 이상 ACK 되지 않은 레코드를 이 컨슈머로 XCLAIM 해 다시 처리
+     * XCLAIM 도 min-idle 조건을 확인하므로 여러 파드가 동시에 회수해도 한 파드만 가져간다.
+     */
+    int reclaimPending(String stream) {
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        PendingMessages pending = streamOps.pending(stream, group, Range.unbounded(), reclaimBatchSize);
+        if (pending == null || pending.isEmpty()) {
+            return 0;
+        }
+
+        List<RecordId> idleIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(reclaimMinIdle) < 0) {
+                continue;
+            }
+            if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                logger.error("최대 전달 횟수 초과로 레코드 폐기 - 스트림: {}, 레코드 ID: {}, 전달 횟수: {}",
+                    stream, message.getId(), message.getTotalDeliveryCount());
+                deadLetter(stream, message.getId());
+                continue;
+            }
+            idleIds.add(message.getId());
+        }
+
+        if (idleIds.isEmpty()) {
+            return 0;
+        }
+
+        // 값이 바이너리일 수 있으므로 커넥션 수준에서 바이트 그대로 XCLAIM
+        List<ByteRecord> claimed = stringRedisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+            connection.streamCommands().xClaim(stream.getBytes(StandardCharsets.UTF_8), group, consumerName,
+                reclaimMinIdle, idleIds.toArray(new RecordId[0])));
+        if (claimed == null) {
+            return 0;
+        }
+
+        logger.info("유휴 pending 레코드 회수 - 스트림: {}, 레코드 수: {}", stream, claimed.size());
+        reclaimedCounter.increment(claimed.size());
+        for (ByteRecord record : claimed) {
+            Map<String, byte[]> fields = new HashMap<>();
+            record.getValue().forEach((field, value) -> fields.put(new String(field, StandardCharsets.UTF_8), value));
+            dispatch(stream, record.getId(), fields);
+        }
+        return claimed.size();
+    }
+
+    private void refreshGauges(String stream) {
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+
+        PendingMessagesSummary summary = streamOps.pending(stream, group);
+        if (summary != null) {
+            pendingGauges.get(stream).set(summary.getTotalPendingMessages());
+        }
+
+        // XINFO GROUPS 의 lag 필드 (Redis 7 이상에서 제공)
+        StreamInfo.XInfoGroups groups = streamOps.groups(stream);
+        if (groups != null) {
+            groups.forEach(info -> {
+                if (group.equals(info.groupName()) && info.getRaw().get("lag") instanceof Number lag) {
+                    lagGauges.get(stream).set(lag.longValue());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import com.eksmsa.learning.orderservice.service.OrderRevenueService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 파드에서 발행한 매출 인덱스 갱신 메시지 수신
+ */
+@Component
+public class OrderRevenueUpdateListener implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRevenueUpdateListener.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final OrderRevenueService orderRevenueService;
+
+    @Autowired
+    public OrderRevenueUpdateListener(RedisTemplate<String, Object> redisTemplate,
+                                      OrderRevenueService orderRevenueService) {
+        this.redisTemplate = redisTemplate;
+        this.orderRevenueService = orderRevenueService;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body != null) {
+                orderRevenueService.onUpdateMessage(body.toString());
+            }
+        } catch (Exception e) {
+            logger.warn("매출 인덱스 갱신 메시지 처리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+}
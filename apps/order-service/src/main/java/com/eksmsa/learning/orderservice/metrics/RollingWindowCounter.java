@@ -0,0 +1,124 @@
+package com.eksmsa.learning.orderservice.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 초 단위 버킷 링 버퍼로 최근 N 초의 합계를 구하는 슬라이딩 윈도 카운터
+ * 버킷마다 여러 계열(series) 값을 AtomicLongArray 로 담고, 링의 각 칸은 담고 있는 초(second)가 다르면 새 버킷으로 CAS 교체한다.
+ * 기록은 CAS 와 getAndAdd 만 쓰므로 잠금이 없고, 같은 칸이 다시 쓰이는 것은 링 한 바퀴(최대 윈도 + 1초) 뒤라 진행 중인 기록을 잃지 않는다.
+ * 조회는 현재 초부터 거꾸로 window 초만큼의 칸 중 해당 초의 버킷만 더한다 (현재 초는 진행 중인 부분 합계).
+ */
+public class RollingWindowCounter {
+
+    /**
+     * 특정 초의 계열별 값
+     */
+    private static final class Bucket {
+        final long second;
+        final AtomicLongArray values;
+
+        Bucket(long second, int seriesCount) {
+            this.second = second;
+            this.values = new AtomicLongArray(seriesCount);
+        }
+    }
+
+    private final AtomicReferenceArray<Bucket> ring;
+    private final int seriesCount;
+    private final LongSupplier clock;
+
+    /**
+     * @param seriesCount 계열 수
+     * @param maxWindowSeconds 조회할 수 있는 최대 윈도 (초)
+     * @param clock 현재 시각 (epoch 밀리초)
+     */
+    public RollingWindowCounter(int seriesCount, int maxWindowSeconds, LongSupplier clock) {
+        if (seriesCount <= 0 || maxWindowSeconds <= 0) {
+            throw new IllegalArgumentException("계열 수와 최대 윈도는 1 이상이어야 합니다");
+        }
+        this.seriesCount = seriesCount;
+        // 가장 오래된 칸을 새 초가 덮어쓰는 중에도 최대 윈도를 온전히 읽을 수 있도록 한 칸 여유
+        this.ring = new AtomicReferenceArray<>(maxWindowSeconds + 1);
+        this.clock = clock;
+    }
+
+    public RollingWindowCounter(int seriesCount, int maxWindowSeconds) {
+        this(seriesCount, maxWindowSeconds, System::currentTimeMillis);
+    }
+
+    public long currentSecond() {
+        return Math.floorDiv(clock.getAsLong(), 1000L);
+    }
+
+    public int getSeriesCount() {
+        return seriesCount;
+    }
+
+    public int getMaxWindowSeconds() {
+        return ring.length() - 1;
+    }
+
+    public void add(int series, long amount) {
+        add(currentSecond(), series, amount);
+    }
+
+    /**
+     * 해당 초의 버킷에 값 반영 (링 한 바퀴보다 오래된 초는 버림)
+     */
+    public void add(long second, int series, long amount) {
+        int index = (int) Math.floorMod(second, (long) ring.length());
+        Bucket bucket = ring.get(index);
+        while (bucket == null || bucket.second != second) {
+            if (bucket != null && bucket.second > second) {
+                return;
+            }
+            Bucket fresh = new Bucket(second, seriesCount);
+            if (ring.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = ring.get(index);
+        }
+        bucket.values.getAndAdd(series, amount);
+    }
+
+    public long[] sum(int windowSeconds) {
+        return sum(currentSecond(), windowSeconds);
+    }
+
+    /**
+     * nowSecond 를 포함한 최근 windowSeconds 초의 계열별 합계
+     */
+    public long[] sum(long nowSecond, int windowSeconds) {
+        if (windowSeconds <= 0 || windowSeconds > getMaxWindowSeconds()) {
+            throw new IllegalArgumentException("윈도는 1 ~ " + getMaxWindowSeconds() + "초여야 합니다: " + windowSeconds);
+        }
+        long[] totals = new long[seriesCount];
+        for (long second = nowSecond - windowSeconds + 1; second <= nowSecond; second++) {
+            Bucket bucket = ring.get((int) Math.floorMod(second, (long) ring.length()));
+            if (bucket != null && bucket.second == second) {
+                for (int s = 0; s < seriesCount; s++) {
+                    totals[s] += bucket.values.get(s);
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 한 계열의 최근 windowSeconds 초 합계 (게이지용)
+     */
+    public long seriesSum(int series, int windowSeconds) {
+        long nowSecond = currentSecond();
+        long total = 0;
+        for (long second = nowSecond - windowSeconds + 1; second <= nowSecond; second++) {
+            Bucket bucket = ring.get((int) Math.floorMod(second, (long) ring.length()));
+            if (bucket != null && bucket.second == second) {
+                total += bucket.values.get(series);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,104 @@
+package com.eksmsa.learning.orderservice.metrics;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 한 시점의 윈도별/계열별 합계 (파드 간 병합용)
+ * Redis 에는 버전, 기준 초, 윈도 수, 계열 수, 합계를 차례로 unsigned varint 로 담은 바이트열로 저장한다
+ * (값은 모두 0 이상이라 대부분 1~4바이트, 3개 윈도 x 10개 계열이 100바이트 안팎).
+ */
+public class WindowSnapshot {
+
+    private static final int VERSION = 1;
+
+    private final long second;
+    // [윈도][계열]
+    private final long[][] totals;
+
+    public WindowSnapshot(long second, long[][] totals) {
+        this.second = second;
+        this.totals = totals;
+    }
+
+    public long getSecond() {
+        return second;
+    }
+
+    public long[][] getTotals() {
+        return totals;
+    }
+
+    /**
+     * 다른 파드의 합계를 더한 새 스냅샷 (윈도/계열 수가 다르면 겹치는 부분만 더함, 기준 초는 더 최신 쪽)
+     */
+    public WindowSnapshot merge(WindowSnapshot other) {
+        long[][] merged = new long[totals.length][];
+        for (int w = 0; w < totals.length; w++) {
+            merged[w] = totals[w].clone();
+            if (w < other.totals.length) {
+                for (int s = 0; s < Math.min(merged[w].length, other.totals[w].length); s++) {
+                    merged[w][s] += other.totals[w][s];
+                }
+            }
+        }
+        return new WindowSnapshot(Math.max(second, other.second), merged);
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        writeVarLong(out, VERSION);
+        writeVarLong(out, second);
+        writeVarLong(out, totals.length);
+        writeVarLong(out, totals.length > 0 ? totals[0].length : 0);
+        for (long[] window : totals) {
+            for (long value : window) {
+                writeVarLong(out, value);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static WindowSnapshot decode(byte[] data) {
+        int[] position = {0};
+        long version = readVarLong(data, position);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 윈도 스냅샷 버전: " + version);
+        }
+        long second = readVarLong(data, position);
+        int windowCount = (int) readVarLong(data, position);
+        int seriesCount = (int) readVarLong(data, position);
+        long[][] totals = new long[windowCount][seriesCount];
+        for (int w = 0; w < windowCount; w++) {
+            for (int s = 0; s < seriesCount; s++) {
+                totals[w][s] = readVarLong(data, position);
+            }
+        }
+        return new WindowSnapshot(second, totals);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("윈도 합계는 0 이상이어야 합니다: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] data, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= data.length) {
+                throw new IllegalArgumentException("윈도 스냅샷이 잘렸습니다");
+            }
+            byte b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("윈도 스냅샷 varint 형식 오류");
+    }
+}
@@ -0,0 +1,94 @@
+package com.eksmsa.learning.orderservice.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 타입 (최소 단위 long)
+ * 주문 금액 컬럼이 모두 NUMERIC(10, 2) 이므로 통화와 관계없이 소수 둘째 자리를 최소 단위로 고정한다.
+ * 덧셈/뺄셈/곱셈은 long 연산 하나로 끝나 BigDecimal 처럼 중간 객체를 만들지 않고, 넘치면 ArithmeticException 을 던진다.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    // 1 단위당 최소 단위 수 (10^SCALE)
+    public static final long MINOR_UNITS_PER_UNIT = BigDecimal.ONE.scaleByPowerOfTen(SCALE).longValueExact();
+
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * BigDecimal 금액으로 생성 (소수 셋째 자리 이하는 DB NUMERIC 과 같은 HALF_UP 으로 반올림, null 이면 null)
+     */
+    public static Money of(BigDecimal amount) {
+        return amount == null ? null : ofMinor(toMinorUnits(amount));
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * null 이면 0 으로 취급한 최소 단위 금액
+     */
+    public static long minorUnitsOf(Money money) {
+        return money == null ? 0 : money.minorUnits;
+    }
+
+    /**
+     * null 이면 null 인 BigDecimal 금액
+     */
+    public static BigDecimal decimalOf(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long multiplier) {
+        return ofMinor(Math.multiplyExact(minorUnits, multiplier));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset 페이지네이션 위치 (created_at, id)
+ * 클라이언트에는 URL-safe Base64 로 인코딩한 불투명 토큰으로 전달한다.
+ */
+public final class OrderCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    public OrderCursor(LocalDateTime createdAt, String id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 복원 (형식이 잘못되면 IllegalArgumentException)
+     */
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + token);
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + token, e);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public String getId() { return id; }
+}
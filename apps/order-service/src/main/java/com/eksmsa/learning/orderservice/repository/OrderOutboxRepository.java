@@ -0,0 +1,43 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // 발행 대기 이벤트 선점 (다른 릴레이가 잠근 행은 건너뛰어 여러 파드가 병렬로 처리)
+    // 비동기 발행기가 선점 중인 행과, 같은 주문에서 그보다 뒤에 기록된 행은 제외 (주문별 순서 유지)
+    @Query(value = "SELECT * FROM order_outbox o " +
+                   "WHERE (o.claimed_until IS NULL OR o.claimed_until < :now) " +
+                   "AND NOT EXISTS (SELECT 1 FROM order_outbox p WHERE p.order_id = o.order_id " +
+                   "AND p.seq < o.seq AND p.claimed_until >= :now) " +
+                   "ORDER BY o.seq LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderOutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 비동기 발행기 배치 행 잠금 (선점 기한이 지나 릴레이가 이미 발행한 행은 빠짐)
+    @Query(value = "SELECT id FROM order_outbox WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIds(@Param("ids") Collection<Long> ids);
+
+    // 주문별 발행 대기 행 (id, order_id) 을 seq 순으로 (주문별 선두 이벤트 판별용)
+    @Query(value = "SELECT id, order_id FROM order_outbox WHERE order_id IN (:orderIds) ORDER BY seq",
+           nativeQuery = true)
+    List<Object[]> findPendingByOrderIds(@Param("orderIds") Collection<String> orderIds);
+
+    // 비동기 발행기 선점 해제 (릴레이가 이어서 발행)
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.claimedUntil = NULL WHERE e.id IN :ids")
+    int releaseClaims(@Param("ids") Collection<Long> ids);
+
+    // 가장 오래된 발행 대기 이벤트 생성 시각 (outbox 지연 측정용)
+    @Query("SELECT MIN(e.createdAt) FROM OrderOutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
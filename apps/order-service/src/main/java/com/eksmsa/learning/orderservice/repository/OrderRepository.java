@@ -1,20 +1,40 @@
 package com.eksmsa.learning.orderservice.repository;
 
+import com.eksmsa.learning.orderservice.dto.OrderExportRow;
+import com.eksmsa.learning.orderservice.dto.OrderSummaryResponse;
 import com.eksmsa.learning.orderservice.entity.Order;
 import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, String> {
+public interface OrderRepository extends JpaRepository<Order, String>, OrderRepositoryCustom {
+
+    String SUMMARY_SELECT = "SELECT new com.eksmsa.learning.orderservice.dto.OrderSummaryResponse("
+        + "o.id, o.customerId, o.customerName, o.status, o.finalAmount, o.currency, o.createdAt)";
+
+    // 내보내기 행 조회 (생성자 표현식)
+    String EXPORT_SELECT = "SELECT new com.eksmsa.learning.orderservice.dto.OrderExportRow("
+        + "o.id, o.customerId, o.customerName, o.customerEmail, o.status, o.totalAmount, o.discountAmount, "
+        + "o.taxAmount, o.shippingAmount, o.finalAmount, o.currency, o.paymentMethod, o.paymentStatus, "
+        + "o.trackingNumber, o.deliveredAt, o.createdAt, o.updatedAt)";
+
+    // 내보내기 커서 fetch size (PostgreSQL 은 트랜잭션 안에서만 이 단위로 나눠 읽는 서버 커서를 쓴다)
+    String EXPORT_FETCH_SIZE = "1000";
 
     // 고객별 주문 조회
     Page<Order> findByCustomerId(String customerId, Pageable pageable);
@@ -22,6 +42,60 @@ public interface OrderRepository extends JpaRepository<Order, String> {
     // 상태별 주문 조회
     Page<Order> findByStatus(OrderStatus status, Pageable pageable);
 
+    // 주문 ID 페이지 조회 (목록 조회 1단계, 컬렉션은 ID 로 따로 로딩)
+    @Query("SELECT o.id FROM Order o")
+    Page<String> findOrderIds(Pageable pageable);
+
+    // 고객별 주문 ID 페이지 조회
+    @Query("SELECT o.id FROM Order o WHERE o.customerId = :customerId")
+    Page<String> findOrderIdsByCustomerId(@Param("customerId") String customerId, Pageable pageable);
+
+    // 상태별 주문 ID 페이지 조회
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status")
+    Page<String> findOrderIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
+    // 고객 및 상태별 주문 ID 페이지 조회
+    @Query("SELECT o.id FROM Order o WHERE o.customerId = :customerId AND o.status = :status")
+    Page<String> findOrderIdsByCustomerIdAndStatus(
+        @Param("customerId") String customerId,
+        @Param("status") OrderStatus status,
+        Pageable pageable
+    );
+
+    // 주문 요약 페이지 조회 (엔티티 로딩 없이 목록 컬럼만 조회)
+    @Query(value = SUMMARY_SELECT + " FROM Order o",
+           countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<OrderSummaryResponse> findOrderSummaries(Pageable pageable);
+
+    // 고객별 주문 요약 페이지 조회
+    @Query(value = SUMMARY_SELECT + " FROM Order o WHERE o.customerId = :customerId",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.customerId = :customerId")
+    Page<OrderSummaryResponse> findOrderSummariesByCustomerId(@Param("customerId") String customerId, Pageable pageable);
+
+    // 상태별 주문 요약 페이지 조회
+    @Query(value = SUMMARY_SELECT + " FROM Order o WHERE o.status = :status",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<OrderSummaryResponse> findOrderSummariesByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
+    // 고객 및 상태별 주문 요약 페이지 조회
+    @Query(value = SUMMARY_SELECT + " FROM Order o WHERE o.customerId = :customerId AND o.status = :status",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.customerId = :customerId AND o.status = :status")
+    Page<OrderSummaryResponse> findOrderSummariesByCustomerIdAndStatus(
+        @Param("customerId") String customerId,
+        @Param("status") OrderStatus status,
+        Pageable pageable
+    );
+
+    // 주문 + 주문 상품 일괄 조회 (목록 조회 2단계)
+    @EntityGraph(attributePaths = "items")
+    @Query("SELECT DISTINCT o FROM Order o WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<String> ids);
+
+    // 주문 + 상태 히스토리 일괄 조회 (두 컬렉션을 한 번에 fetch join 할 수 없어 분리)
+    @EntityGraph(attributePaths = "statusHistory")
+    @Query("SELECT DISTINCT o FROM Order o WHERE o.id IN :ids")
+    List<Order> findWithStatusHistoryByIdIn(@Param("ids") Collection<String> ids);
+
     // 고객 및 상태별 주문 조회
     Page<Order> findByCustomerIdAndStatus(String customerId, OrderStatus status, Pageable pageable);
 
@@ -33,6 +107,15 @@ public interface OrderRepository extends JpaRepository<Order, String> {
         Pageable pageable
     );
 
+    // 기간별 주문 내보내기 (전진 전용 커서, 읽기 전용 트랜잭션 안에서 소비하고 닫아야 함)
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(EXPORT_SELECT + " FROM Order o WHERE o.createdAt >= :start AND o.createdAt < :end ORDER BY o.createdAt")
+    Stream<OrderExportRow> streamForExport(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     // 고객별 최근 주문 조회
     @Query("SELECT o FROM Order o WHERE o.customerId = :customerId ORDER BY o.createdAt DESC")
     List<Order> findRecentOrdersByCustomerId(@Param("customerId") String customerId, Pageable pageable);
@@ -68,13 +151,27 @@ public interface OrderRepository extends JpaRepository<Order, String> {
     @Query("SELECT DISTINCT o FROM Order o JOIN o.items i WHERE i.productId = :productId")
     Page<Order> findOrdersContainingProduct(@Param("productId") String productId, Pageable pageable);
 
-    // 총 매출액 조회 (특정 기간)
-    @Query("SELECT COALESCE(SUM(o.finalAmount), 0) FROM Order o WHERE o.status = 'DELIVERED' AND o.createdAt BETWEEN :startDate AND :endDate")
-    Double getTotalRevenueBetween(
-        @Param("startDate") LocalDateTime startDate, 
-        @Param("endDate") LocalDateTime endDate
+    // 통화별 매출액 조회 (from 이상 until 미만, 통화, 합계)
+    @Query("SELECT o.currency, SUM(o.finalAmount) FROM Order o WHERE o.status = 'DELIVERED' " +
+           "AND o.createdAt >= :from AND o.createdAt < :until GROUP BY o.currency")
+    List<Object[]> getRevenueByCurrencyInRange(
+        @Param("from") LocalDateTime from,
+        @Param("until") LocalDateTime until
     );
 
+    // since 이후 생성된 배송 완료 주문의 생성 시각/최종 금액(Money)/통화 (매출 인덱스 재구성용, idx_order_delivered_revenue index-only scan)
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o.createdAt, o.finalAmount, o.currency FROM Order o WHERE o.status = 'DELIVERED' " +
+           "AND o.createdAt >= :since ORDER BY o.createdAt")
+    Stream<Object[]> streamDeliveredRevenue(@Param("since") LocalDateTime since);
+
+    // 주어진 주문 중 배송 완료 상태인 주문 ID (매출 인덱스 재구성 시 스냅샷 포함 여부 확인용)
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids AND o.status = 'DELIVERED'")
+    List<String> findDeliveredIds(@Param("ids") Collection<String> ids);
+
     // 일별 주문 통계
     @Query("SELECT DATE(o.createdAt) as orderDate, COUNT(o) as orderCount, COALESCE(SUM(o.finalAmount), 0) as totalAmount " +
            "FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate " +
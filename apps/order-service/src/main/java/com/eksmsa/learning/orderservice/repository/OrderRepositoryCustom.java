@@ -0,0 +1,22 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import com.eksmsa.learning.orderservice.dto.OrderSummaryResponse;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * (created_at, id) 기준 keyset 조회 - after 이후의 주문 위치를 최대 limit 건 반환 (count 쿼리 없음)
+     * customerId, status 는 null 이면 조건에서 제외한다.
+     */
+    List<OrderCursor> findOrderCursors(String customerId, OrderStatus status, OrderCursor after,
+                                       boolean ascending, int limit);
+
+    /**
+     * (created_at, id) 기준 keyset 요약 조회 - 엔티티 없이 요약 컬럼만 최대 limit 건 반환
+     */
+    List<OrderSummaryResponse> findOrderSummaries(String customerId, OrderStatus status, OrderCursor after,
+                                                  boolean ascending, int limit);
+}
@@ -0,0 +1,73 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import com.eksmsa.learning.orderservice.dto.OrderSummaryResponse;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 keyset 조회 구현
+ * 필터 조합마다 필요한 조건만 붙여 JPQL 을 만들어, 각 조합이 (필터 컬럼, created_at) 인덱스를 탈 수 있게 한다.
+ */
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderCursor> findOrderCursors(String customerId, OrderStatus status, OrderCursor after,
+                                              boolean ascending, int limit) {
+        List<Object[]> rows = seekQuery("SELECT o.createdAt, o.id", Object[].class,
+            customerId, status, after, ascending, limit).getResultList();
+
+        List<OrderCursor> cursors = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            cursors.add(new OrderCursor((LocalDateTime) row[0], (String) row[1]));
+        }
+        return cursors;
+    }
+
+    @Override
+    public List<OrderSummaryResponse> findOrderSummaries(String customerId, OrderStatus status, OrderCursor after,
+                                                         boolean ascending, int limit) {
+        return seekQuery(OrderRepository.SUMMARY_SELECT, OrderSummaryResponse.class,
+            customerId, status, after, ascending, limit).getResultList();
+    }
+
+    private <T> TypedQuery<T> seekQuery(String select, Class<T> resultType, String customerId, OrderStatus status,
+                                        OrderCursor after, boolean ascending, int limit) {
+        StringBuilder jpql = new StringBuilder(select).append(" FROM Order o WHERE 1 = 1");
+        if (customerId != null) {
+            jpql.append(" AND o.customerId = :customerId");
+        }
+        if (status != null) {
+            jpql.append(" AND o.status = :status");
+        }
+        if (after != null) {
+            // 행 값 비교여야 PostgreSQL 이 (created_at, id) 인덱스의 범위 시작점으로 써서 깊은 페이지도 바로 찾아간다
+            jpql.append(" AND (o.createdAt, o.id) ").append(ascending ? ">" : "<")
+                .append(" (:afterCreatedAt, :afterId)");
+        }
+        String direction = ascending ? " ASC" : " DESC";
+        jpql.append(" ORDER BY o.createdAt").append(direction).append(", o.id").append(direction);
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), resultType);
+        if (customerId != null) {
+            query.setParameter("customerId", customerId);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (after != null) {
+            query.setParameter("afterCreatedAt", after.getCreatedAt());
+            query.setParameter("afterId", after.getId());
+        }
+        query.setMaxResults(limit);
+        return query;
+    }
+}
@@ -0,0 +1,230 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import com.eksmsa.learning.orderservice.dto.OrderCustomerStatsResponse;
+import com.eksmsa.learning.orderservice.dto.OrderDailyStatsResponse;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 통계 요약 테이블 (order_status_stats, order_daily_stats, order_customer_stats)
+ * 델타는 키마다 upsert 로 더하고, 트랜잭션 하나의 델타는 테이블별로 한 번의 JDBC 배치로 보낸다.
+ * PostgreSQL 은 INSERT ... ON CONFLICT DO UPDATE 를 쓰고 (동시에 같은 키를 처음 넣어도 충돌 없이 합산),
+ * 그 외 DB(테스트용 H2)는 표준 MERGE 를 쓴다.
+ */
+@Repository
+public class OrderStatsRepository {
+
+    private static final String PG_STATUS_UPSERT =
+        "INSERT INTO order_status_stats (status, slot, order_count) VALUES (?, ?, ?) " +
+        "ON CONFLICT (status, slot) DO UPDATE SET order_count = order_status_stats.order_count + EXCLUDED.order_count";
+
+    private static final String PG_DAILY_UPSERT =
+        "INSERT INTO order_daily_stats (stat_date, slot, order_count, total_amount) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (stat_date, slot) DO UPDATE SET order_count = order_daily_stats.order_count + EXCLUDED.order_count, " +
+        "total_amount = order_daily_stats.total_amount + EXCLUDED.total_amount";
+
+    private static final String PG_CUSTOMER_UPSERT =
+        "INSERT INTO order_customer_stats (customer_id, customer_name, order_count, total_amount) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (customer_id) DO UPDATE SET customer_name = EXCLUDED.customer_name, " +
+        "order_count = order_customer_stats.order_count + EXCLUDED.order_count, " +
+        "total_amount = order_customer_stats.total_amount + EXCLUDED.total_amount";
+
+    private static final String MERGE_STATUS =
+        "MERGE INTO order_status_stats t USING (VALUES (CAST(? AS VARCHAR(20)), CAST(? AS SMALLINT), CAST(? AS BIGINT))) " +
+        "s (status, slot, order_count) ON t.status = s.status AND t.slot = s.slot " +
+        "WHEN MATCHED THEN UPDATE SET order_count = t.order_count + s.order_count " +
+        "WHEN NOT MATCHED THEN INSERT (status, slot, order_count) VALUES (s.status, s.slot, s.order_count)";
+
+    private static final String MERGE_DAILY =
+        "MERGE INTO order_daily_stats t USING (VALUES (CAST(? AS DATE), CAST(? AS SMALLINT), CAST(? AS BIGINT), " +
+        "CAST(? AS NUMERIC(18, 2)))) s (stat_date, slot, order_count, total_amount) " +
+        "ON t.stat_date = s.stat_date AND t.slot = s.slot " +
+        "WHEN MATCHED THEN UPDATE SET order_count = t.order_count + s.order_count, " +
+        "total_amount = t.total_amount + s.total_amount " +
+        "WHEN NOT MATCHED THEN INSERT (stat_date, slot, order_count, total_amount) " +
+        "VALUES (s.stat_date, s.slot, s.order_count, s.total_amount)";
+
+    private static final String MERGE_CUSTOMER =
+        "MERGE INTO order_customer_stats t USING (VALUES (CAST(? AS VARCHAR(50)), CAST(? AS VARCHAR(100)), " +
+        "CAST(? AS BIGINT), CAST(? AS NUMERIC(18, 2)))) s (customer_id, customer_name, order_count, total_amount) " +
+        "ON t.customer_id = s.customer_id " +
+        "WHEN MATCHED THEN UPDATE SET customer_name = s.customer_name, order_count = t.order_count + s.order_count, " +
+        "total_amount = t.total_amount + s.total_amount " +
+        "WHEN NOT MATCHED THEN INSERT (customer_id, customer_name, order_count, total_amount) " +
+        "VALUES (s.customer_id, s.customer_name, s.order_count, s.total_amount)";
+
+    private static final String[] REBUILD_STATEMENTS = {
+        "DELETE FROM order_status_stats",
+        "DELETE FROM order_daily_stats",
+        "DELETE FROM order_customer_stats",
+        "INSERT INTO order_status_stats (status, slot, order_count) " +
+            "SELECT status, 0, COUNT(*) FROM orders GROUP BY status",
+        "INSERT INTO order_daily_stats (stat_date, slot, order_count, total_amount) " +
+            "SELECT CAST(created_at AS DATE), 0, COUNT(*), COALESCE(SUM(final_amount), 0) " +
+            "FROM orders GROUP BY CAST(created_at AS DATE)",
+        "INSERT INTO order_customer_stats (customer_id, customer_name, order_count, total_amount) " +
+            "SELECT customer_id, MAX(customer_name), COUNT(*), COALESCE(SUM(final_amount), 0) " +
+            "FROM orders GROUP BY customer_id"
+    };
+
+    /**
+     * 고객별 델타
+     */
+    public static final class CustomerDelta {
+        String customerName;
+        long orderCount;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        public void add(String customerName, BigDecimal amount) {
+            this.customerName = customerName;
+            this.orderCount++;
+            this.totalAmount = totalAmount.add(amount);
+        }
+
+        public String getCustomerName() { return customerName; }
+        public long getOrderCount() { return orderCount; }
+        public BigDecimal getTotalAmount() { return totalAmount; }
+    }
+
+    /**
+     * 일별 델타
+     */
+    public static final class DailyDelta {
+        long orderCount;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        public void add(BigDecimal amount) {
+            this.orderCount++;
+            this.totalAmount = totalAmount.add(amount);
+        }
+
+        public long getOrderCount() { return orderCount; }
+        public BigDecimal getTotalAmount() { return totalAmount; }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    /**
+     * 델타 반영 (호출한 트랜잭션 안에서 실행)
+     * 키 순서가 고정된 맵(EnumMap, TreeMap)을 넘기면 트랜잭션끼리 같은 순서로 행을 잠가 교착을 피한다.
+     */
+    public void applyDeltas(short slot, Map<OrderStatus, Long> statusDeltas, Map<LocalDate, DailyDelta> dailyDeltas,
+                            Map<String, CustomerDelta> customerDeltas) {
+        boolean pg = isPostgres();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            if (!statusDeltas.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(pg ? PG_STATUS_UPSERT : MERGE_STATUS)) {
+                    for (Map.Entry<OrderStatus, Long> entry : statusDeltas.entrySet()) {
+                        if (entry.getValue() == 0) {
+                            continue;
+                        }
+                        statement.setString(1, entry.getKey().name());
+                        statement.setShort(2, slot);
+                        statement.setLong(3, entry.getValue());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            if (!dailyDeltas.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(pg ? PG_DAILY_UPSERT : MERGE_DAILY)) {
+                    for (Map.Entry<LocalDate, DailyDelta> entry : dailyDeltas.entrySet()) {
+                        statement.setDate(1, Date.valueOf(entry.getKey()));
+                        statement.setShort(2, slot);
+                        statement.setLong(3, entry.getValue().orderCount);
+                        statement.setBigDecimal(4, entry.getValue().totalAmount);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            if (!customerDeltas.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(pg ? PG_CUSTOMER_UPSERT : MERGE_CUSTOMER)) {
+                    for (Map.Entry<String, CustomerDelta> entry : customerDeltas.entrySet()) {
+                        statement.setString(1, entry.getKey());
+                        statement.setString(2, entry.getValue().customerName);
+                        statement.setLong(3, entry.getValue().orderCount);
+                        statement.setBigDecimal(4, entry.getValue().totalAmount);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    /**
+     * 상태별 주문 수 (상태, 주문 수)
+     */
+    public List<Object[]> findStatusCounts() {
+        return entityManager.createQuery(
+                "SELECT s.status, SUM(s.orderCount) FROM OrderStatusStats s " +
+                "GROUP BY s.status HAVING SUM(s.orderCount) > 0 ORDER BY s.status", Object[].class)
+            .getResultList();
+    }
+
+    /**
+     * 기간(생성일 기준, 양 끝 포함) 일별 주문 수/금액
+     */
+    public List<OrderDailyStatsResponse> findDailyStats(LocalDate startDate, LocalDate endDate) {
+        return entityManager.createQuery(
+                "SELECT new com.eksmsa.learning.orderservice.dto.OrderDailyStatsResponse(" +
+                "d.statDate, SUM(d.orderCount), SUM(d.totalAmount)) FROM OrderDailyStats d " +
+                "WHERE d.statDate BETWEEN :startDate AND :endDate GROUP BY d.statDate ORDER BY d.statDate",
+                OrderDailyStatsResponse.class)
+            .setParameter("startDate", startDate)
+            .setParameter("endDate", endDate)
+            .getResultList();
+    }
+
+    /**
+     * 주문 금액 상위 고객
+     */
+    public List<OrderCustomerStatsResponse> findTopCustomers(int limit) {
+        return entityManager.createQuery(
+                "SELECT new com.eksmsa.learning.orderservice.dto.OrderCustomerStatsResponse(" +
+                "c.customerId, c.customerName, c.orderCount, c.totalAmount) FROM OrderCustomerStats c " +
+                "ORDER BY c.totalAmount DESC", OrderCustomerStatsResponse.class)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * orders 에서 요약 테이블 재구성 (호출한 트랜잭션 안에서 실행)
+     * PostgreSQL 에서는 요약 테이블을 먼저 잠가, 재구성 중 커밋되는 주문의 델타가 재구성 결과 위에 더해지도록 한다.
+     */
+    public void rebuild() {
+        if (isPostgres()) {
+            entityManager.createNativeQuery(
+                    "LOCK TABLE order_status_stats, order_daily_stats, order_customer_stats IN EXCLUSIVE MODE")
+                .executeUpdate();
+        }
+        for (String sql : REBUILD_STATEMENTS) {
+            entityManager.createNativeQuery(sql).executeUpdate();
+        }
+    }
+
+    // 설정된 Hibernate 방언이 아니라 실제 접속한 DB 로 판단 (테스트 H2 에도 PostgreSQL 방언이 설정될 수 있음)
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * 설정값으로 만드는 로컬 환율표
+ * order.revenue.exchange.rates 에 "USD=1350.00,EUR=1470.00" 처럼 기준 통화 대비 환율을 적는다.
+ * 두 외화 사이 환율은 기준 통화를 거쳐 계산한다.
+ */
+@Component
+public class ConfiguredExchangeRateTable implements ExchangeRateTable {
+
+    private final String baseCurrency;
+    private final int base;
+    // 통화 1 단위의 기준 통화 금액
+    private final CurrencyMap<BigDecimal> toBase = new CurrencyMap<>();
+
+    public ConfiguredExchangeRateTable(@Value("${order.revenue.exchange.base-currency:KRW}") String baseCurrency,
+                                       @Value("${order.revenue.exchange.rates:}") String rates) {
+        this.base = CurrencyCode.pack(baseCurrency);
+        this.baseCurrency = CurrencyCode.unpack(base);
+        for (String entry : rates.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("환율 설정 형식 오류 (통화=환율): " + entry);
+            }
+            BigDecimal rate = new BigDecimal(entry.substring(separator + 1).trim());
+            if (rate.signum() <= 0) {
+                throw new IllegalArgumentException("환율은 0 보다 커야 합니다: " + entry);
+            }
+            toBase.put(CurrencyCode.pack(entry.substring(0, separator).trim()), rate);
+        }
+    }
+
+    @Override
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    @Override
+    public BigDecimal rate(int fromCurrency, int toCurrency) {
+        if (fromCurrency == toCurrency) {
+            return BigDecimal.ONE;
+        }
+        BigDecimal from = fromCurrency == base ? BigDecimal.ONE : toBase.get(fromCurrency);
+        BigDecimal to = toCurrency == base ? BigDecimal.ONE : toBase.get(toCurrency);
+        if (from == null || to == null) {
+            return null;
+        }
+        return to == BigDecimal.ONE ? from : from.divide(to, MathContext.DECIMAL64);
+    }
+}
@@ -0,0 +1,42 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+/**
+ * ISO 4217 통화 코드(영문 3자)를 int 하나로 변환
+ * 세 글자를 각각 한 바이트로 담으므로 ("KRW" -> 0x4B5257) 0 이 될 수 없고, 0 을 빈 칸 표시로 쓸 수 있다.
+ */
+public final class CurrencyCode {
+
+    private CurrencyCode() {
+    }
+
+    public static int pack(String code) {
+        if (code == null) {
+            throw new IllegalArgumentException("통화 코드가 없습니다");
+        }
+        return pack(code, 0, code.length());
+    }
+
+    /**
+     * 문자열 일부(start 이상 end 미만)를 통화 코드로 변환 (소문자는 대문자로 취급)
+     */
+    public static int pack(CharSequence text, int start, int end) {
+        if (end - start != 3) {
+            throw new IllegalArgumentException("통화 코드는 영문 3자여야 합니다: " + text.subSequence(start, end));
+        }
+        int packed = 0;
+        for (int i = start; i < end; i++) {
+            char c = Character.toUpperCase(text.charAt(i));
+            if (c < 'A' || c > 'Z') {
+                throw new IllegalArgumentException("통화 코드는 영문 3자여야 합니다: " + text.subSequence(start, end));
+            }
+            packed = (packed << 8) | c;
+        }
+        return packed;
+    }
+
+    public static String unpack(int packed) {
+        return new String(new char[] {
+            (char) ((packed >>> 16) & 0xFF), (char) ((packed >>> 8) & 0xFF), (char) (packed & 0xFF)
+        });
+    }
+}
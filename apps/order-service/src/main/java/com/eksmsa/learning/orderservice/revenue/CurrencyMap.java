@@ -0,0 +1,113 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+/**
+ * 통화 코드(CurrencyCode.pack 값)를 키로 하는 open addressing 맵
+ * 키를 int 배열에 그대로 담아 조회 시 박싱/해시 객체가 없다. 0 은 빈 칸 표시다.
+ * 스레드 안전하지 않으므로 여러 스레드가 읽는 경우 copy() 로 만든 사본을 교체해 쓴다.
+ */
+public class CurrencyMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public CurrencyMap() {
+        this(MIN_CAPACITY);
+    }
+
+    private CurrencyMap(int capacity) {
+        this(new int[capacity], new Object[capacity], 0);
+    }
+
+    private CurrencyMap(int[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int currency) {
+        int mask = keys.length - 1;
+        for (int i = slot(currency, mask); ; i = (i + 1) & mask) {
+            int key = keys[i];
+            if (key == currency) {
+                return (V) values[i];
+            }
+            if (key == 0) {
+                return null;
+            }
+        }
+    }
+
+    public void put(int currency, V value) {
+        if (currency == 0) {
+            throw new IllegalArgumentException("통화 코드 0 은 사용할 수 없습니다");
+        }
+        int mask = keys.length - 1;
+        for (int i = slot(currency, mask); ; i = (i + 1) & mask) {
+            int key = keys[i];
+            if (key == currency) {
+                values[i] = value;
+                return;
+            }
+            if (key == 0) {
+                keys[i] = currency;
+                values[i] = value;
+                // 채움률 1/2 이하 유지
+                if (++size * 2 > keys.length) {
+                    resize(keys.length * 2);
+                }
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 들어 있는 통화 코드 (순서 없음)
+     */
+    public int[] currencies() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    public CurrencyMap<V> copy() {
+        return new CurrencyMap<>(keys.clone(), values.clone(), size);
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if (key == 0) {
+                continue;
+            }
+            int i = slot(key, mask);
+            while (keys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = oldValues[j];
+        }
+    }
+
+    // 연속된 코드("KRW", "KRX")가 이웃 칸에 몰리지 않도록 섞는다
+    private static int slot(int currency, int mask) {
+        return (currency * 0x9E3779B9 >>> 16) & mask;
+    }
+}
@@ -0,0 +1,82 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 통화별 매출 인덱스
+ * 통화마다 RevenueIndex 를 따로 두어 서로 다른 통화 금액이 섞이지 않게 하고, 환산은 조회하는 쪽에 맡긴다.
+ * 통화 맵은 새 통화가 처음 들어올 때만 사본을 만들어 교체하므로 조회는 잠금 없이 volatile 참조 하나만 읽는다.
+ */
+public class CurrencyRevenueIndex {
+
+    private final Duration bucketSize;
+    private final Duration maxSpan;
+    private volatile CurrencyMap<RevenueIndex> indexes = new CurrencyMap<>();
+
+    /**
+     * @param maxSpan 통화별 인덱스가 담을 수 있는 최대 시간 폭 (보존 기간에 맞춰 배열 상한을 정한다)
+     */
+    public CurrencyRevenueIndex(Duration bucketSize, Duration maxSpan) {
+        this.bucketSize = bucketSize;
+        this.maxSpan = maxSpan;
+    }
+
+    /**
+     * 해당 통화, 시각의 버킷에 금액(최소 단위, 음수면 차감) 반영
+     */
+    public void add(int currency, LocalDateTime time, long minorUnits) {
+        RevenueIndex index = indexes.get(currency);
+        if (index == null) {
+            index = indexFor(currency);
+        }
+        index.add(time, minorUnits);
+    }
+
+    /**
+     * from 이 속한 버킷부터 to 가 속한 버킷까지(양 끝 포함)의 통화별 합계
+     */
+    public RevenueTotals sum(LocalDateTime from, LocalDateTime to) {
+        CurrencyMap<RevenueIndex> current = indexes;
+        RevenueTotals totals = new RevenueTotals();
+        for (int currency : current.currencies()) {
+            RevenueIndex index = current.get(currency);
+            totals.add(currency, index.sumBuckets(index.bucketOf(from), index.bucketOf(to)));
+        }
+        return totals;
+    }
+
+    /**
+     * 다른 인덱스의 내용으로 교체 (재구성 결과 반영, other 는 이후 사용하지 않아야 한다)
+     */
+    public synchronized void replaceWith(CurrencyRevenueIndex other) {
+        indexes = other.indexes;
+    }
+
+    /**
+     * 모든 통화가 담고 있는 버킷 수 합계
+     */
+    public long capacity() {
+        CurrencyMap<RevenueIndex> current = indexes;
+        long capacity = 0;
+        for (int currency : current.currencies()) {
+            capacity += current.get(currency).capacity();
+        }
+        return capacity;
+    }
+
+    public int currencyCount() {
+        return indexes.size();
+    }
+
+    private synchronized RevenueIndex indexFor(int currency) {
+        RevenueIndex index = indexes.get(currency);
+        if (index == null) {
+            index = new RevenueIndex(bucketSize, maxSpan);
+            CurrencyMap<RevenueIndex> copy = indexes.copy();
+            copy.put(currency, index);
+            indexes = copy;
+        }
+        return index;
+    }
+}
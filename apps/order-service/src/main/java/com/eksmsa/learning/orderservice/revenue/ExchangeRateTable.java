@@ -0,0 +1,22 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+import java.math.BigDecimal;
+
+/**
+ * 매출 환산용 환율표
+ * 조회 시점에만 쓰이며 (인덱스에는 원래 통화 금액이 그대로 쌓인다), 다른 구현을 @Primary 빈으로 등록하면 대체된다.
+ */
+public interface ExchangeRateTable {
+
+    /**
+     * 환산 통화를 지정하지 않았을 때 쓰는 기준 통화
+     */
+    String getBaseCurrency();
+
+    /**
+     * from 통화 1 단위가 to 통화로 얼마인지 (CurrencyCode.pack 값)
+     *
+     * @return 환율을 모르면 null
+     */
+    BigDecimal rate(int fromCurrency, int toCurrency);
+}
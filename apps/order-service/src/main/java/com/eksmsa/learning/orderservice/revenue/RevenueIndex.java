@@ -0,0 +1,259 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+import com.eksmsa.learning.orderservice.money.Money;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 시간 버킷별 매출 합계 인덱스
+ * 버킷(기본 1분)마다 금액을 최소 화폐 단위(소수 둘째 자리까지, long)로 Fenwick 트리에 담아
+ * 점 갱신과 임의 구간 합계를 모두 O(log n) 으로 처리한다. 1년치 분 단위 버킷이면 약 52만 칸(4MB)이다.
+ * 범위를 벗어난 버킷이 들어오면 배열을 두 배씩 늘려 O(n) 으로 다시 만든다.
+ * 조회는 StampedLock 낙관적 읽기로 잠금 없이 수행하고, 그 사이 갱신이 있었을 때만 읽기 잠금으로 다시 읽는다.
+ *
+ * 시간 축은 LocalDateTime 을 UTC 로 간주한 epoch 초를 버킷 크기로 나눈 값이다 (주문 created_at 과 같은 기준).
+ */
+public class RevenueIndex {
+
+    // final_amount NUMERIC(10, 2) 기준 최소 단위
+    public static final int SCALE = Money.SCALE;
+
+    private static final int MIN_CAPACITY = 1024;
+
+    // 최대 폭을 지정하지 않았을 때의 버킷 수 상한 (분 단위면 약 32년, 128MB)
+    private static final long DEFAULT_MAX_CAPACITY = 1L << 24;
+
+    private final long bucketSeconds;
+    // 잘못된 시각 하나로 배열이 과도하게 커지지 않도록 하는 버킷 수 상한
+    private final long maxCapacity;
+    private final StampedLock lock = new StampedLock();
+
+    // 1-based Fenwick 트리 (tree[0] 미사용), tree.length - 1 개의 버킷을 담는다
+    private long[] tree;
+    // tree 의 1번 칸에 해당하는 버킷 번호
+    private long origin;
+    // 아직 값이 들어온 적 없으면 첫 버킷을 origin 으로 삼는다
+    private boolean empty = true;
+
+    public RevenueIndex(Duration bucketSize) {
+        this(bucketSize, bucketSize.multipliedBy(DEFAULT_MAX_CAPACITY));
+    }
+
+    /**
+     * @param maxSpan 인덱스 하나가 담을 수 있는 최대 시간 폭 (버킷 크기 단위로 올림, 최소 MIN_CAPACITY 버킷)
+     */
+    public RevenueIndex(Duration bucketSize, Duration maxSpan) {
+        this.bucketSeconds = bucketSize.getSeconds();
+        if (bucketSeconds <= 0) {
+            throw new IllegalArgumentException("버킷 크기는 1초 이상이어야 합니다: " + bucketSize);
+        }
+        this.maxCapacity = Math.min(Math.max((maxSpan.getSeconds() + bucketSeconds - 1) / bucketSeconds, MIN_CAPACITY),
+            DEFAULT_MAX_CAPACITY);
+        this.tree = new long[MIN_CAPACITY + 1];
+        this.origin = 0;
+    }
+
+    /**
+     * 인덱스 하나가 담을 수 있는 최대 시간 폭 (버킷 크기 x 최대 버킷 수)
+     */
+    public Duration maxSpan() {
+        return Duration.ofSeconds(bucketSeconds).multipliedBy(maxCapacity);
+    }
+
+    /**
+     * 버킷별 금액(최소 단위)으로 인덱스 생성 (O(n))
+     *
+     * @param firstBucket values[0] 의 버킷 번호
+     */
+    public static RevenueIndex of(Duration bucketSize, long firstBucket, long[] values) {
+        RevenueIndex index = new RevenueIndex(bucketSize);
+        index.origin = firstBucket;
+        index.tree = build(values, Math.max(MIN_CAPACITY, values.length));
+        index.empty = false;
+        return index;
+    }
+
+    /**
+     * 해당 시각이 속한 버킷 번호
+     */
+    public long bucketOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+    }
+
+    /**
+     * 금액을 최소 단위 long 으로 변환 (반올림은 DB NUMERIC 과 같은 HALF_UP)
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return Money.toMinorUnits(amount);
+    }
+
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * 해당 시각의 버킷에 금액(최소 단위, 음수면 차감) 반영
+     */
+    public void add(LocalDateTime time, long minorUnits) {
+        addToBucket(bucketOf(time), minorUnits);
+    }
+
+    public void addToBucket(long bucket, long minorUnits) {
+        if (minorUnits == 0) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCovers(bucket);
+            long[] t = tree;
+            for (int i = (int) (bucket - origin) + 1; i < t.length; i += i & -i) {
+                t[i] += minorUnits;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * from 이 속한 버킷부터 to 가 속한 버킷까지(양 끝 포함)의 합계 (최소 단위)
+     */
+    public long sum(LocalDateTime from, LocalDateTime to) {
+        return sumBuckets(bucketOf(from), bucketOf(to));
+    }
+
+    public long sumBuckets(long fromBucket, long toBucket) {
+        if (toBucket < fromBucket) {
+            return 0;
+        }
+        long stamp = lock.tryOptimisticRead();
+        long result = sumBuckets(tree, origin, fromBucket, toBucket);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = sumBuckets(tree, origin, fromBucket, toBucket);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 다른 인덱스의 내용으로 교체 (재구성 결과 반영)
+     */
+    public void replaceWith(RevenueIndex other) {
+        long otherStamp = other.lock.readLock();
+        try {
+            long stamp = lock.writeLock();
+            try {
+                tree = other.tree.clone();
+                origin = other.origin;
+                empty = other.empty;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        } finally {
+            other.lock.unlockRead(otherStamp);
+        }
+    }
+
+    /**
+     * 현재 담고 있는 버킷 수
+     */
+    public int capacity() {
+        long stamp = lock.readLock();
+        try {
+            return tree.length - 1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 잠금 없이 호출될 수 있으므로 tree/origin 을 지역 변수로 받아 배열 범위만 지킨다 (값 검증은 호출 측 validate)
+    private static long sumBuckets(long[] t, long base, long fromBucket, long toBucket) {
+        long last = base + t.length - 2;
+        long lo = Math.max(fromBucket, base);
+        long hi = Math.min(toBucket, last);
+        if (hi < lo) {
+            return 0;
+        }
+        return prefix(t, (int) (hi - base) + 1) - prefix(t, (int) (lo - base));
+    }
+
+    // 1..i 번 칸의 합
+    private static long prefix(long[] t, int i) {
+        long sum = 0;
+        for (; i > 0; i -= i & -i) {
+            sum += t[i];
+        }
+        return sum;
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void ensureCovers(long bucket) {
+        if (empty) {
+            origin = bucket;
+            empty = false;
+        }
+        int capacity = tree.length - 1;
+        long offset = bucket - origin;
+        if (offset >= 0 && offset < capacity) {
+            return;
+        }
+
+        long required = offset < 0 ? capacity - offset : offset + 1;
+        if (required > maxCapacity) {
+            throw new IllegalStateException("매출 인덱스 범위가 너무 큽니다 - 버킷: " + bucket + ", 시작 버킷: " + origin);
+        }
+
+        long[] values = toValues(tree);
+        long newOrigin = origin;
+        long needed;
+        // 여유분은 상한 안에서만 두어, 담을 수 있는 범위라면 여유 때문에 실패하지 않게 한다
+        if (offset < 0) {
+            // 앞쪽으로 늘릴 때도 여유를 두어 과거 버킷이 이어서 들어와도 매번 다시 만들지 않게 한다
+            long grow = Math.min(Math.max(-offset, capacity), maxCapacity - capacity);
+            newOrigin = origin - grow;
+            needed = capacity + grow;
+        } else {
+            needed = Math.min(Math.max(offset + 1, (long) capacity * 2), maxCapacity);
+        }
+
+        long[] shifted = new long[(int) needed];
+        System.arraycopy(values, 0, shifted, (int) (origin - newOrigin), values.length);
+        tree = build(shifted, shifted.length);
+        origin = newOrigin;
+    }
+
+    // 버킷 값 배열로 Fenwick 트리 생성 (O(n))
+    private static long[] build(long[] values, int capacity) {
+        long[] t = new long[capacity + 1];
+        System.arraycopy(values, 0, t, 1, values.length);
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                t[parent] += t[i];
+            }
+        }
+        return t;
+    }
+
+    // Fenwick 트리를 버킷 값 배열로 되돌림 (build 의 역순, O(n))
+    private static long[] toValues(long[] t) {
+        long[] copy = t.clone();
+        int capacity = copy.length - 1;
+        for (int i = capacity; i >= 1; i--) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                copy[parent] -= copy[i];
+            }
+        }
+        long[] values = new long[capacity];
+        System.arraycopy(copy, 1, values, 0, capacity);
+        return values;
+    }
+}
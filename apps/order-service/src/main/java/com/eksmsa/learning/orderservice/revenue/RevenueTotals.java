@@ -0,0 +1,45 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+import java.util.Arrays;
+
+/**
+ * 통화별 매출 합계 (최소 단위 long)
+ * 한 번의 조회 결과에 들어가는 통화는 몇 개뿐이므로 통화 코드/금액을 나란한 배열에 담고 순차 탐색한다.
+ */
+public class RevenueTotals {
+
+    private int[] currencies = new int[4];
+    private long[] minorUnits = new long[4];
+    private int size;
+
+    /**
+     * 통화별 금액 누적 (같은 통화는 합산)
+     */
+    public void add(int currency, long amount) {
+        for (int i = 0; i < size; i++) {
+            if (currencies[i] == currency) {
+                minorUnits[i] = Math.addExact(minorUnits[i], amount);
+                return;
+            }
+        }
+        if (size == currencies.length) {
+            currencies = Arrays.copyOf(currencies, size * 2);
+            minorUnits = Arrays.copyOf(minorUnits, size * 2);
+        }
+        currencies[size] = currency;
+        minorUnits[size] = amount;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int currencyAt(int i) {
+        return currencies[i];
+    }
+
+    public long minorUnitsAt(int i) {
+        return minorUnits[i];
+    }
+}
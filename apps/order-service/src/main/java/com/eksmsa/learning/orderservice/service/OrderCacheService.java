@@ -0,0 +1,329 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderResponse;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문 조회 read-through 캐시 (파드 내 near cache -> Redis -> DB)
+ * Redis 에는 주문 ID 키에 OrderResponse JSON 바이트를, 배송 추적 번호 키에 주문 ID 를 저장한다.
+ * 주문 키는 템플릿 값 직렬화기를 거치지 않고 바이트 그대로 읽고 써서 JSON 문자열을 다시 JSON 으로 감싸지 않는다.
+ * 주문이 변경되면 무효화 채널로 다른 파드의 near cache 를 비운다.
+ */
+@Service
+public class OrderCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCacheService.class);
+
+    static final String ORDER_KEY_PREFIX = "order:cache:";
+    static final String TRACKING_KEY_PREFIX = "order:cache:tracking:";
+    static final String WARMUP_CLAIM_PREFIX = "order:cache:warmup:";
+
+    // 파드 간 near cache 무효화 채널
+    public static final String CACHE_INVALIDATION_CHANNEL = "order.cache.invalidation";
+
+    // 무효화 메시지 구분자 ("{발신 인스턴스}|{주문 ID}")
+    private static final char INVALIDATION_SEPARATOR = '|';
+
+    private static final Duration WARMUP_CLAIM_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final OrderNearCache nearCache;
+    private final ObjectReader responseReader;
+    private final ObjectWriter responseWriter;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    @Value("${order.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${order.cache.ttl:10m}")
+    private Duration ttl = Duration.ofMinutes(10);
+
+    @Value("${order.cache.warm-from-events:true}")
+    private boolean warmFromEvents = true;
+
+    @Autowired
+    public OrderCacheService(RedisTemplate<String, Object> redisTemplate, OrderNearCache nearCache,
+                             OrderJsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.nearCache = nearCache;
+        this.responseReader = jsonMapper.getResponseReader();
+        this.responseWriter = jsonMapper.getResponseWriter();
+
+        this.hitCounter = Counter.builder("orders.cache.requests")
+            .description("Order cache lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("orders.cache.requests")
+            .description("Order cache lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.errorCounter = Counter.builder("orders.cache.requests")
+            .description("Order cache lookups")
+            .tag("result", "error")
+            .register(meterRegistry);
+        this.hitTimer = Timer.builder("orders.cache.latency")
+            .description("Order lookup latency by cache result")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missTimer = Timer.builder("orders.cache.latency")
+            .description("Order lookup latency by cache result")
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 주문 ID 로 캐시 조회, 없으면 loader 로 조회 후 캐시에 저장
+     */
+    public OrderResponse getOrLoad(String orderId, Supplier<OrderResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long start = System.nanoTime();
+        OrderResponse cached = nearCache.get(orderId);
+        if (cached == null) {
+            long generation = nearCache.generation();
+            cached = read(orderKey(orderId));
+            nearCache.putIfNotInvalidated(cached, generation);
+        }
+        if (cached != null) {
+            hitCounter.increment();
+            hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        missCounter.increment();
+        OrderResponse loaded = loader.get();
+        putIfAbsent(loaded);
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return loaded;
+    }
+
+    /**
+     * 배송 추적 번호로 캐시 조회 (추적 번호 -> 주문 ID -> 주문), 없으면 loader 로 조회 후 저장
+     */
+    public OrderResponse getByTrackingNumberOrLoad(String trackingNumber, Supplier<OrderResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object orderId = redisTemplate.opsForValue().get(TRACKING_KEY_PREFIX + trackingNumber);
+            if (orderId != null) {
+                OrderResponse cached = nearCache.get(orderId.toString());
+                if (cached == null) {
+                    long generation = nearCache.generation();
+                    cached = read(orderKey(orderId.toString()));
+                    nearCache.putIfNotInvalidated(cached, generation);
+                }
+                if (cached != null && trackingNumber.equals(cached.getTrackingNumber())) {
+                    hitCounter.increment();
+                    hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return cached;
+                }
+            }
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.warn("주문 캐시 조회 실패 - 추적 번호: {}, 오류: {}", trackingNumber, e.getMessage());
+        }
+
+        missCounter.increment();
+        OrderResponse loaded = loader.get();
+        putIfAbsent(loaded);
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return loaded;
+    }
+
+    /**
+     * 주문 캐시 저장 (추적 번호가 있으면 보조 키도 저장)
+     */
+    public void put(OrderResponse order) {
+        if (!enabled || order == null || order.getId() == null) {
+            return;
+        }
+
+        nearCache.put(order);
+        write(order, SetOption.upsert());
+    }
+
+    /**
+     * 캐시 미스 후 로드한 주문 저장 (키가 없을 때만)
+     * 로드한 뒤 커밋된 변경을 putAfterCommit 이 먼저 써 두었을 수 있으므로, 덮어쓰지 않고
+     * 저장에 성공한 경우에만 near cache 에 넣는다.
+     */
+    void putIfAbsent(OrderResponse order) {
+        if (!enabled || order == null || order.getId() == null) {
+            return;
+        }
+
+        if (write(order, SetOption.ifAbsent())) {
+            nearCache.put(order);
+        }
+    }
+
+    private boolean write(OrderResponse order, SetOption option) {
+        try {
+            byte[] key = rawKey(orderKey(order.getId()));
+            byte[] json = responseWriter.writeValueAsBytes(order);
+            Boolean stored = redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(key, json, Expiration.from(ttl), option));
+            if (!Boolean.TRUE.equals(stored)) {
+                return false;
+            }
+
+            if (order.getTrackingNumber() != null) {
+                redisTemplate.opsForValue().set(TRACKING_KEY_PREFIX + order.getTrackingNumber(), order.getId(), ttl);
+            }
+            return true;
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.warn("주문 캐시 저장 실패 - 주문 ID: {}, 오류: {}", order.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 주문 캐시 갱신 (롤백된 변경이 캐시에 남지 않도록)
+     */
+    public void putAfterCommit(OrderResponse order) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(order.getId());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(order);
+                    publishInvalidation(order.getId());
+                }
+            });
+        } else {
+            put(order);
+            publishInvalidation(order.getId());
+        }
+    }
+
+    /**
+     * 주문 캐시 무효화
+     */
+    public void evict(String orderId) {
+        if (!enabled) {
+            return;
+        }
+
+        nearCache.invalidate(orderId);
+        try {
+            redisTemplate.delete(orderKey(orderId));
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.warn("주문 캐시 무효화 실패 - 주문 ID: {}, 오류: {}", orderId, e.getMessage());
+        }
+        publishInvalidation(orderId);
+    }
+
+    /**
+     * 다른 파드에서 수신한 near cache 무효화 메시지 처리 (자기 자신이 보낸 메시지는 무시)
+     */
+    public void onInvalidationMessage(String message) {
+        int separator = message.indexOf(INVALIDATION_SEPARATOR);
+        if (separator < 0) {
+            nearCache.invalidate(message);
+            return;
+        }
+
+        if (!message.regionMatches(0, instanceId, 0, separator) || separator != instanceId.length()) {
+            nearCache.invalidate(message.substring(separator + 1));
+        }
+    }
+
+    /**
+     * 다른 파드의 near cache 무효화 요청 발행
+     */
+    private void publishInvalidation(String orderId) {
+        try {
+            redisTemplate.convertAndSend(CACHE_INVALIDATION_CHANNEL, instanceId + INVALIDATION_SEPARATOR + orderId);
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.warn("near cache 무효화 발행 실패 - 주문 ID: {}, 오류: {}", orderId, e.getMessage());
+        }
+    }
+
+    /**
+     * 주문 이벤트 수신 시 캐시 예열
+     * 캐시에 없을 때만, 여러 파드 중 하나만 (SET NX 선점) loader 를 실행한다.
+     */
+    public void warm(String orderId, Supplier<OrderResponse> loader) {
+        if (!enabled || !warmFromEvents || orderId == null) {
+            return;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(orderKey(orderId)))) {
+                return;
+            }
+
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(WARMUP_CLAIM_PREFIX + orderId, "1", WARMUP_CLAIM_TTL);
+            if (Boolean.TRUE.equals(claimed)) {
+                putIfAbsent(loader.get());
+                logger.debug("주문 캐시 예열 완료 - 주문 ID: {}", orderId);
+            }
+        } catch (Exception e) {
+            logger.debug("주문 캐시 예열 건너뜀 - 주문 ID: {}, 사유: {}", orderId, e.getMessage());
+        }
+    }
+
+    private OrderResponse read(String key) {
+        try {
+            byte[] rawKey = rawKey(key);
+            byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(rawKey));
+            if (value == null || value.length == 0) {
+                return null;
+            }
+            return responseReader.readValue(value);
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.warn("주문 캐시 조회 실패 - 키: {}, 오류: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private String orderKey(String orderId) {
+        return ORDER_KEY_PREFIX + orderId;
+    }
+
+    private static byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
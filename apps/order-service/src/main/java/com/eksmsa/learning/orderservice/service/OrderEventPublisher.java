@@ -0,0 +1,400 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
+import com.eksmsa.learning.orderservice.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 커밋된 outbox 이벤트를 즉시 발행하는 비동기 발행기 (릴레이 폴링 주기를 기다리지 않는 fast path)
+ * 생산자는 주문 ID 해시로 고른 레인의 lock-free 큐에 넣기만 하고, 레인 전용 발행 스레드가 배치로 꺼내 파이프라인 발행 후
+ * outbox 행을 삭제한다. 같은 주문의 이벤트는 항상 같은 레인에서 순서대로 발행된다.
+ *
+ * outbox 행은 선점 상태(claimed_until)로 기록되어 있어 릴레이는 발행기가 넘겨줄 때까지 그 행과 같은 주문의 뒤 행을 건너뛴다.
+ * 큐가 가득 차 버리거나 발행에 실패한 이벤트는 선점을 풀어 릴레이에 넘기고, 발행 직전에는 같은 주문의 앞선 행이
+ * outbox 에 남아 있는지 확인해 남아 있으면 그 이벤트도 릴레이에 넘긴다. 따라서 넘겨준 이벤트를 뒤 이벤트가 앞지르지 않는다.
+ */
+@Component
+public class OrderEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventPublisher.class);
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        // 공간이 생길 때까지 block-timeout 만큼 대기, 그래도 가득 차 있으면 outbox 에 맡김
+        BLOCK,
+        // 가장 오래된 대기 이벤트를 큐에서 빼고 새 이벤트를 넣음 (뺀 이벤트는 릴레이가 발행)
+        DROP_OLDEST,
+        // 새 이벤트를 큐에 넣지 않고 outbox 릴레이에 맡김
+        SPILL_TO_OUTBOX
+    }
+
+    private static final class PendingEvent {
+        final OrderOutboxEvent event;
+        final long enqueuedAt;
+
+        PendingEvent(OrderOutboxEvent event, long enqueuedAt) {
+            this.event = event;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private static final class Lane {
+        final Queue<PendingEvent> queue = new ConcurrentLinkedQueue<>();
+        volatile Thread worker;
+        volatile boolean idle;
+    }
+
+    private final OrderEventService orderEventService;
+    private final OrderOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 레인별 큐는 lock-free 이고, 전체 크기 제한은 CAS 로 관리
+    private Lane[] lanes = new Lane[0];
+    private final AtomicInteger depth = new AtomicInteger();
+    // 릴레이에 넘길 (선점을 풀) outbox 행 ID
+    private final Queue<Long> handBacks = new ConcurrentLinkedQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter publishedCounter;
+    private final Counter spilledCounter;
+    private final Counter droppedCounter;
+    private final Counter deferredCounter;
+    private final Counter failureCounter;
+    private final Timer publishLatencyTimer;
+
+    @Value("${order.events.publisher.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${order.events.publisher.capacity:10000}")
+    private int capacity = 10000;
+
+    @Value("${order.events.publisher.threads:2}")
+    private int threads = 2;
+
+    @Value("${order.events.publisher.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${order.events.publisher.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    @Value("${order.events.publisher.block-timeout:50ms}")
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    // outbox 행 선점 기한 (파드가 죽어 넘겨주지 못한 행은 이 시간이 지나면 릴레이가 발행)
+    @Value("${order.events.publisher.claim-ttl:30s}")
+    private Duration claimTtl = Duration.ofSeconds(30);
+
+    @Autowired
+    public OrderEventPublisher(OrderEventService orderEventService, OrderOutboxRepository outboxRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.orderEventService = orderEventService;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.publishedCounter = Counter.builder("orders.events.publisher.published")
+            .description("Order events published by the async publisher")
+            .register(meterRegistry);
+        this.spilledCounter = Counter.builder("orders.events.publisher.overflow")
+            .description("Order events left to the outbox relay because the publisher queue was full")
+            .tag("action", "spilled")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("orders.events.publisher.overflow")
+            .description("Order events left to the outbox relay because the publisher queue was full")
+            .tag("action", "dropped-oldest")
+            .register(meterRegistry);
+        this.deferredCounter = Counter.builder("orders.events.publisher.deferred")
+            .description("Order events handed to the outbox relay because an earlier event of the same order was pending")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("orders.events.publisher.failures")
+            .description("Failed async publish batches")
+            .register(meterRegistry);
+        this.publishLatencyTimer = Timer.builder("orders.events.publisher.latency")
+            .description("Time from enqueue to Redis publish")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("orders.events.publisher.queue.depth", depth, AtomicInteger::get)
+            .description("Events waiting in the async publisher queue")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        lanes = new Lane[Math.max(1, threads)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane();
+        }
+        running = true;
+        for (int i = 0; i < threads; i++) {
+            Lane lane = lanes[i];
+            Thread worker = new Thread(() -> runWorker(lane), "order-event-publisher-" + i);
+            worker.setDaemon(true);
+            lane.worker = worker;
+            workers.add(worker);
+            worker.start();
+        }
+        logger.info("주문 이벤트 비동기 발행기 시작 - 스레드: {}, 용량: {}, 정책: {}", threads, capacity, overflowPolicy);
+    }
+
+    /**
+     * 종료 시 남은 이벤트를 최대한 발행하고, 발행하지 못한 이벤트는 선점을 풀어 릴레이에 넘김
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (!workers.isEmpty()) {
+            releaseHandBacks();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    public Duration getClaimTtl() {
+        return claimTtl;
+    }
+
+    /**
+     * 커밋된 outbox 이벤트를 발행 큐에 추가 (락 없이 CAS 로 자리 확보)
+     *
+     * @return 큐에 들어갔으면 true, outbox 릴레이에 맡겨졌으면 false
+     */
+    public boolean submit(OrderOutboxEvent event) {
+        if (!isEnabled()) {
+            // 종료 중이면 선점 기한이 지난 뒤 릴레이가 발행
+            return false;
+        }
+
+        Lane lane = lanes[laneOf(event.getOrderId())];
+        if (!tryReserve()) {
+            switch (overflowPolicy) {
+                case BLOCK:
+                    if (!reserveWithin(blockTimeout.toNanos())) {
+                        spill(event);
+                        return false;
+                    }
+                    break;
+                case DROP_OLDEST:
+                    PendingEvent dropped = pollOldest(lane);
+                    if (dropped != null) {
+                        // 자리를 그대로 넘겨받음 (depth 변화 없음), 뺀 이벤트는 릴레이에 넘김
+                        handBack(dropped.event.getId());
+                        droppedCounter.increment();
+                    } else if (!tryReserve()) {
+                        spill(event);
+                        return false;
+                    }
+                    break;
+                default:
+                    spill(event);
+                    return false;
+            }
+        }
+
+        lane.queue.offer(new PendingEvent(event, System.nanoTime()));
+        Thread worker = lane.worker;
+        if (worker != null && lane.idle) {
+            LockSupport.unpark(worker);
+        }
+        return true;
+    }
+
+    public void submitAll(List<OrderOutboxEvent> events) {
+        for (OrderOutboxEvent event : events) {
+            submit(event);
+        }
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    private int laneOf(String orderId) {
+        return orderId == null ? 0 : (orderId.hashCode() & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    /**
+     * 가장 오래된 대기 이벤트를 꺼냄 (새 이벤트의 레인부터 확인)
+     */
+    private PendingEvent pollOldest(Lane preferred) {
+        PendingEvent pending = preferred.queue.poll();
+        for (int i = 0; pending == null && i < lanes.length; i++) {
+            pending = lanes[i].queue.poll();
+        }
+        return pending;
+    }
+
+    private void spill(OrderOutboxEvent event) {
+        handBack(event.getId());
+        spilledCounter.increment();
+    }
+
+    private void handBack(Long outboxId) {
+        if (outboxId != null) {
+            handBacks.offer(outboxId);
+        }
+    }
+
+    private boolean tryReserve() {
+        int current;
+        do {
+            current = depth.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!depth.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private boolean reserveWithin(long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (System.nanoTime() < deadline) {
+            if (tryReserve()) {
+                return true;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return tryReserve();
+    }
+
+    private void runWorker(Lane lane) {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !lane.queue.isEmpty()) {
+            releaseHandBacks();
+
+            PendingEvent pending;
+            while (batch.size() < batchSize && (pending = lane.queue.poll()) != null) {
+                depth.decrementAndGet();
+                batch.add(pending);
+            }
+
+            if (batch.isEmpty()) {
+                lane.idle = true;
+                // 표시 직후 들어온 이벤트를 놓치지 않도록 재확인 후 대기
+                if (lane.queue.isEmpty() && running) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                }
+                lane.idle = false;
+                continue;
+            }
+
+            publishBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치 행을 잠그고, 주문별로 앞선 행이 남아 있지 않은 이벤트만 파이프라인 발행 후 outbox 에서 삭제 (하나의 트랜잭션)
+     * 보류한 이벤트와 발행에 실패한 이벤트는 선점을 풀어 릴레이가 seq 순서대로 발행하게 한다.
+     */
+    void publishBatch(List<PendingEvent> batch) {
+        List<OrderOutboxEvent> events = new ArrayList<>(batch.size());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (PendingEvent pending : batch) {
+            events.add(pending.event);
+            ids.add(pending.event.getId());
+        }
+
+        try {
+            List<OrderOutboxEvent> published = transactionTemplate.execute(status -> {
+                Set<Long> locked = new HashSet<>(outboxRepository.lockByIds(ids));
+                List<OrderOutboxEvent> candidates = new ArrayList<>(events.size());
+                for (OrderOutboxEvent event : events) {
+                    if (locked.contains(event.getId())) {
+                        candidates.add(event);
+                    }
+                }
+                List<OrderOutboxEvent> publishable = candidates.isEmpty() ? candidates
+                    : OrderOutboxService.publishableInOrder(candidates,
+                        outboxRepository.findPendingByOrderIds(OrderOutboxService.orderIds(candidates)));
+                if (publishable.isEmpty()) {
+                    return publishable;
+                }
+
+                orderEventService.publishOutboxEvents(publishable);
+
+                List<Long> publishedIds = new ArrayList<>(publishable.size());
+                for (OrderOutboxEvent event : publishable) {
+                    publishedIds.add(event.getId());
+                }
+                outboxRepository.deleteAllByIdInBatch(publishedIds);
+                return publishable;
+            });
+
+            Set<OrderOutboxEvent> publishedEvents = published != null ? new HashSet<>(published) : Set.of();
+            long now = System.nanoTime();
+            for (PendingEvent pending : batch) {
+                if (publishedEvents.contains(pending.event)) {
+                    publishLatencyTimer.record(now - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+                } else {
+                    // 앞선 이벤트가 남아 있거나 이미 릴레이가 발행한 행 (없는 행의 선점 해제는 아무 영향 없음)
+                    handBack(pending.event.getId());
+                    deferredCounter.increment();
+                }
+            }
+            publishedCounter.increment(publishedEvents.size());
+        } catch (Exception e) {
+            failureCounter.increment();
+            ids.forEach(this::handBack);
+            logger.warn("주문 이벤트 비동기 발행 실패, outbox 릴레이로 재시도 - 이벤트 수: {}, 오류: {}",
+                batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 넘겨줄 행의 선점을 일괄 해제 (실패하면 선점 기한이 지난 뒤 릴레이가 발행)
+     */
+    void releaseHandBacks() {
+        if (handBacks.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while (ids.size() < batchSize * 10 && (id = handBacks.poll()) != null) {
+            ids.add(id);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseClaims(ids));
+        } catch (Exception e) {
+            logger.warn("outbox 선점 해제 실패, 선점 기한 후 릴레이가 발행 - 이벤트 수: {}, 오류: {}",
+                ids.size(), e.getMessage());
+        }
+    }
+}
@@ -1,142 +1,217 @@
 package com.eksmsa.learning.orderservice.service;
 
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
 import com.eksmsa.learning.orderservice.event.OrderEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.eksmsa.learning.orderservice.event.OrderEventCodec;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
 public class OrderEventService {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderEventService.class);
 
-    // Redis 채널 이름
-    public static final String ORDER_EVENTS_CHANNEL = "order.events";
-    public static final String ORDER_NOTIFICATIONS_CHANNEL = "order.notifications";
-    public static final String ORDER_ANALYTICS_CHANNEL = "order.analytics";
+    // Redis 스트림 이름 (컨슈머 그룹으로 배포 전체에서 이벤트당 한 번씩 처리)
+    public static final String ORDER_EVENTS_STREAM = "order.events";
+    public static final String ORDER_NOTIFICATIONS_STREAM = "order.notifications";
+    public static final String ORDER_ANALYTICS_STREAM = "order.analytics";
+
+    // 스트림 레코드 필드
+    public static final String FIELD_TYPE = "type";
+    public static final String FIELD_ORDER_ID = "orderId";
+    public static final String FIELD_EVENT_ID = "eventId";
+    public static final String FIELD_EVENT = "event";
+
+    private static final byte[] RAW_FIELD_TYPE = FIELD_TYPE.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_FIELD_ORDER_ID = FIELD_ORDER_ID.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_FIELD_EVENT_ID = FIELD_EVENT_ID.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_FIELD_EVENT = FIELD_EVENT.getBytes(StandardCharsets.UTF_8);
+
+    // 주문별 이벤트 히스토리 스트림
+    private static final String HISTORY_KEY_PREFIX = "order:history:";
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final OrderEventCodec eventCodec;
+    private final OrderEventCodec.Format format;
+    private final XAddOptions addOptions;
+
+    @Value("${order.events.history.ttl:30d}")
+    private Duration historyTtl = Duration.ofDays(30);
+
+    // 주문당 보관할 최대 이벤트 수 (MAXLEN ~)
+    @Value("${order.events.history.max-length:1000}")
+    private long historyMaxLength = 1000;
+
+    // 스트림 키 인코딩 결과 캐시 (발행마다 다시 인코딩하지 않도록)
+    private final Map<String, byte[]> rawStreams = new ConcurrentHashMap<>();
 
     @Autowired
-    public OrderEventService(RedisTemplate<String, Object> redisTemplate) {
+    public OrderEventService(RedisTemplate<String, Object> redisTemplate, OrderJsonMapper jsonMapper,
+                             @Value("${order.events.stream.max-length:100000}") long maxLength,
+                             @Value("${order.events.encoding:BINARY}") OrderEventCodec.Format format) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.eventCodec = new OrderEventCodec(jsonMapper);
+        this.format = format;
+        // MAXLEN ~ 로 스트림 길이를 대략 제한 (정확한 트리밍보다 훨씬 저렴)
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
     }
 
     /**
-     * 주문 이벤트 발행
+     * outbox 에 저장된 이벤트를 하나의 파이프라인으로 발행 (이벤트 수 x 스트림 수 만큼의 XADD 를 한 번의 왕복으로 전송)
+     * 주문 이벤트는 모두 order_outbox 를 거쳐 OrderEventPublisher / OrderOutboxRelay 에서만 이 메서드로 발행된다.
      */
-    public void publishOrderEvent(OrderEvent event) {
-        try {
-            String eventJson = objectMapper.writeValueAsString(event);
-            
-            // 메인 이벤트 채널에 발행
-            redisTemplate.convertAndSend(ORDER_EVENTS_CHANNEL, eventJson);
-            
-            // 이벤트 타입에 따라 추가 채널에 발행
-            publishToSpecificChannels(event, eventJson);
-            
-            logger.info("주문 이벤트 발행 완료 - 이벤트 ID: {}, 타입: {}, 주문 ID: {}", 
-                event.getEventId(), event.getEventType(), event.getOrderId());
-
-        } catch (JsonProcessingException e) {
-            logger.error("주문 이벤트 직렬화 실패 - 이벤트 ID: {}, 오류: {}", 
-                event.getEventId(), e.getMessage(), e);
-            throw new RuntimeException("이벤트 발행에 실패했습니다", e);
-        } catch (Exception e) {
-            logger.error("주문 이벤트 발행 실패 - 이벤트 ID: {}, 오류: {}", 
-                event.getEventId(), e.getMessage(), e);
-            throw new RuntimeException("이벤트 발행에 실패했습니다", e);
+    public void publishOutboxEvents(List<OrderOutboxEvent> outboxEvents) {
+        if (outboxEvents == null || outboxEvents.isEmpty()) {
+            return;
         }
-    }
 
-    /**
-     * 특정 채널에 이벤트 발행
-     */
-    private void publishToSpecificChannels(OrderEvent event, String eventJson) {
-        switch (event.getEventType()) {
-            case OrderEvent.ORDER_CREATED:
-            case OrderEvent.ORDER_STATUS_CHANGED:
-            case OrderEvent.ORDER_CANCELLED:
-            case OrderEvent.ORDER_SHIPPED:
-            case OrderEvent.ORDER_DELIVERED:
-                // 알림 채널에 발행 (고객 알림용)
-                redisTemplate.convertAndSend(ORDER_NOTIFICATIONS_CHANNEL, eventJson);
-                break;
+        List<String> eventTypes = new ArrayList<>(outboxEvents.size());
+        List<String> orderIds = new ArrayList<>(outboxEvents.size());
+        List<String> eventIds = new ArrayList<>(outboxEvents.size());
+        List<byte[]> payloads = new ArrayList<>(outboxEvents.size());
+        for (OrderOutboxEvent outboxEvent : outboxEvents) {
+            eventTypes.add(outboxEvent.getEventType());
+            orderIds.add(outboxEvent.getOrderId());
+            eventIds.add(outboxEvent.getEventId());
+            payloads.add(outboxPayload(outboxEvent));
         }
 
-        // 모든 이벤트를 분석 채널에 발행 (분석 및 모니터링용)
-        redisTemplate.convertAndSend(ORDER_ANALYTICS_CHANNEL, eventJson);
+        publishPipelined(eventTypes, orderIds, eventIds, payloads);
+        logger.info("outbox 주문 이벤트 발행 완료 - 이벤트 수: {}", outboxEvents.size());
     }
 
     /**
-     * 주문 생성 이벤트 발행
+     * outbox 의 JSON 페이로드를 발행 포맷으로 변환
+     * 커밋 직후 발행 경로는 메모리에 남아 있는 이벤트 객체를 바로 인코딩하고, 릴레이 경로만 JSON 을 다시 읽는다.
      */
-    public void publishOrderCreatedEvent(String orderId, String customerId, String customerName,
-                                       java.math.BigDecimal totalAmount, String currency) {
-        OrderEvent event = OrderEvent.orderCreated(orderId, customerId, customerName, totalAmount, currency);
-        publishOrderEvent(event);
-    }
+    private byte[] outboxPayload(OrderOutboxEvent outboxEvent) {
+        byte[] json = outboxEvent.getPayload().getBytes(StandardCharsets.UTF_8);
+        if (format == OrderEventCodec.Format.JSON) {
+            return json;
+        }
 
-    /**
-     * 주문 상태 변경 이벤트 발행
-     */
-    public void publishOrderStatusChangedEvent(String orderId, String customerId,
-                                             com.eksmsa.learning.orderservice.entity.OrderStatus previousStatus,
-                                             com.eksmsa.learning.orderservice.entity.OrderStatus newStatus,
-                                             String reason, String changedBy) {
-        OrderEvent event = OrderEvent.orderStatusChanged(orderId, customerId, previousStatus, newStatus, reason, changedBy);
-        publishOrderEvent(event);
+        try {
+            OrderEvent event = outboxEvent.getEvent() != null ? outboxEvent.getEvent() : eventCodec.decode(json);
+            return OrderEventCodec.encodeBinary(event);
+        } catch (IOException e) {
+            // 읽을 수 없는 페이로드는 그대로 발행해 소비 측 dead-letter 처리에 맡김
+            logger.warn("outbox 이벤트 변환 실패, JSON 으로 발행 - 이벤트 ID: {}, 오류: {}",
+                outboxEvent.getEventId(), e.getMessage());
+            return json;
+        }
     }
 
     /**
-     * 주문 취소 이벤트 발행
+     * 이벤트별로 한 번만 인코딩하고, 스트림별 XADD 는 같은 필드 맵을 공유해 하나의 파이프라인으로 전송
+     * orderId 필드는 소비 측이 본문을 파싱하지 않고 처리 레인을 고르는 데, eventId 필드는 중복 처리를 거르는 데 쓰인다.
      */
-    public void publishOrderCancelledEvent(String orderId, String customerId, String reason, String cancelledBy) {
-        OrderEvent event = OrderEvent.orderCancelled(orderId, customerId, reason, cancelledBy);
-        publishOrderEvent(event);
+    private void publishPipelined(List<String> eventTypes, List<String> orderIds, List<String> eventIds,
+                                  List<byte[]> payloads) {
+        try {
+            List<MapRecord<byte[], byte[], byte[]>> records = new ArrayList<>(payloads.size() * 3);
+            for (int i = 0; i < payloads.size(); i++) {
+                Map<byte[], byte[]> body = new LinkedHashMap<>(8);
+                body.put(RAW_FIELD_TYPE, eventTypes.get(i).getBytes(StandardCharsets.UTF_8));
+                if (orderIds.get(i) != null) {
+                    body.put(RAW_FIELD_ORDER_ID, orderIds.get(i).getBytes(StandardCharsets.UTF_8));
+                }
+                if (eventIds.get(i) != null) {
+                    body.put(RAW_FIELD_EVENT_ID, eventIds.get(i).getBytes(StandardCharsets.UTF_8));
+                }
+                body.put(RAW_FIELD_EVENT, payloads.get(i));
+                for (String stream : resolveStreams(eventTypes.get(i))) {
+                    records.add(StreamRecords.rawBytes(body).withStreamKey(rawStream(stream)));
+                }
+            }
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (MapRecord<byte[], byte[], byte[]> record : records) {
+                    connection.streamCommands().xAdd(record, addOptions);
+                }
+                return null;
+            });
+
+            logger.debug("주문 이벤트 파이프라인 발행 - 이벤트 수: {}, 레코드 수: {}", payloads.size(), records.size());
+
+        } catch (Exception e) {
+            logger.error("주문 이벤트 발행 실패 - 이벤트 수: {}, 오류: {}", payloads.size(), e.getMessage(), e);
+            throw new RuntimeException("이벤트 발행에 실패했습니다", e);
+        }
     }
 
-    /**
-     * 주문 배송 시작 이벤트 발행
-     */
-    public void publishOrderShippedEvent(String orderId, String customerId, String trackingNumber) {
-        OrderEvent event = OrderEvent.orderShipped(orderId, customerId, trackingNumber);
-        publishOrderEvent(event);
+    private byte[] rawStream(String stream) {
+        return rawStreams.computeIfAbsent(stream, key -> key.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
-     * 주문 배송 완료 이벤트 발행
+     * 이벤트 타입에 따라 발행할 스트림 목록 결정
      */
-    public void publishOrderDeliveredEvent(String orderId, String customerId) {
-        OrderEvent event = OrderEvent.orderDelivered(orderId, customerId);
-        publishOrderEvent(event);
+    static List<String> resolveStreams(String eventType) {
+        List<String> streams = new ArrayList<>(3);
+
+        // 메인 이벤트 스트림
+        streams.add(ORDER_EVENTS_STREAM);
+
+        switch (eventType) {
+            case OrderEvent.ORDER_CREATED:
+            case OrderEvent.ORDER_STATUS_CHANGED:
+            case OrderEvent.ORDER_CANCELLED:
+            case OrderEvent.ORDER_SHIPPED:
+            case OrderEvent.ORDER_DELIVERED:
+                // 알림 스트림 (고객 알림용)
+                streams.add(ORDER_NOTIFICATIONS_STREAM);
+                break;
+        }
+
+        // 모든 이벤트를 분석 스트림에 발행 (분석 및 모니터링용)
+        streams.add(ORDER_ANALYTICS_STREAM);
+        return streams;
     }
 
     /**
      * 이벤트 저장 (선택적 - 이벤트 소싱을 위한)
+     * 주문별 히스토리 스트림에 바이너리로 XADD 하고 만료를 갱신한다 (하나의 파이프라인).
+     * 스트림 ID 가 기록 시각(ms)이므로 since 조회는 XRANGE 한 번으로 끝난다.
      */
     public void storeEvent(OrderEvent event) {
         try {
-            String eventKey = "order:events:" + event.getOrderId() + ":" + event.getEventId();
-            String eventJson = objectMapper.writeValueAsString(event);
-            
-            // 이벤트를 Redis에 저장 (TTL: 30일)
-            redisTemplate.opsForValue().set(eventKey, eventJson, 
-                java.time.Duration.ofDays(30));
-            
-            // 주문별 이벤트 리스트에 추가
-            String orderEventsKey = "order:events:list:" + event.getOrderId();
-            redisTemplate.opsForList().rightPush(orderEventsKey, event.getEventId());
-            redisTemplate.expire(orderEventsKey, java.time.Duration.ofDays(30));
-            
+            byte[] key = historyKey(event.getOrderId());
+            Map<byte[], byte[]> body = Map.of(RAW_FIELD_EVENT, OrderEventCodec.encodeBinary(event));
+            long ttlSeconds = historyTtl.getSeconds();
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.streamCommands().xAdd(StreamRecords.rawBytes(body).withStreamKey(key),
+                    XAddOptions.maxlen(historyMaxLength).approximateTrimming(true));
+                connection.keyCommands().expire(key, ttlSeconds);
+                return null;
+            });
+
             logger.debug("이벤트 저장 완료 - 이벤트 ID: {}", event.getEventId());
 
         } catch (Exception e) {
@@ -145,35 +220,65 @@ public class OrderEventService {
         }
     }
 
+    /**
+     * 주문별 이벤트 히스토리 조회 (전체, 최대 기본 건수)
+     */
+    public List<OrderEvent> getOrderEventHistory(String orderId) {
+        return getOrderEventHistory(orderId, null, DEFAULT_HISTORY_LIMIT);
+    }
+
     /**
      * 주문별 이벤트 히스토리 조회
+     * since 는 이벤트가 기록된 시각 기준이며, 기록 순서(오래된 것부터)로 최대 limit 건을 XRANGE 한 번으로 읽는다.
      */
-    public java.util.List<OrderEvent> getOrderEventHistory(String orderId) {
+    public List<OrderEvent> getOrderEventHistory(String orderId, LocalDateTime since, int limit) {
         try {
-            String orderEventsKey = "order:events:list:" + orderId;
-            java.util.List<Object> eventIds = redisTemplate.opsForList().range(orderEventsKey, 0, -1);
-            
-            if (eventIds == null || eventIds.isEmpty()) {
-                return java.util.Collections.emptyList();
+            byte[] key = historyKey(orderId);
+            Range<String> range = since != null
+                ? Range.rightUnbounded(Range.Bound.inclusive(
+                    since.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + "-0"))
+                : Range.unbounded();
+            Limit count = Limit.limit().count(Math.max(1, limit));
+
+            List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(key, range, count));
+            if (records == null || records.isEmpty()) {
+                return Collections.emptyList();
             }
 
-            java.util.List<OrderEvent> events = new java.util.ArrayList<>();
-            for (Object eventId : eventIds) {
-                String eventKey = "order:events:" + orderId + ":" + eventId.toString();
-                String eventJson = (String) redisTemplate.opsForValue().get(eventKey);
-                
-                if (eventJson != null) {
-                    OrderEvent event = objectMapper.readValue(eventJson, OrderEvent.class);
-                    events.add(event);
+            List<OrderEvent> events = new ArrayList<>(records.size());
+            for (ByteRecord record : records) {
+                byte[] eventData = fieldValue(record.getValue(), RAW_FIELD_EVENT);
+                if (eventData == null) {
+                    continue;
+                }
+                try {
+                    events.add(eventCodec.decode(eventData));
+                } catch (IOException e) {
+                    logger.warn("읽을 수 없는 히스토리 레코드 건너뜀 - 주문 ID: {}, 레코드 ID: {}, 오류: {}",
+                        orderId, record.getId(), e.getMessage());
                 }
             }
-
             return events;
 
         } catch (Exception e) {
             logger.error("주문 이벤트 히스토리 조회 실패 - 주문 ID: {}, 오류: {}", 
                 orderId, e.getMessage(), e);
-            return java.util.Collections.emptyList();
+            return Collections.emptyList();
+        }
+    }
+
+    // byte[] 키는 내용이 아닌 참조로 비교되므로 필드 이름을 직접 비교
+    private static byte[] fieldValue(Map<byte[], byte[]> fields, byte[] field) {
+        for (Map.Entry<byte[], byte[]> entry : fields.entrySet()) {
+            if (Arrays.equals(entry.getKey(), field)) {
+                return entry.getValue();
+            }
         }
+        return null;
+    }
+
+    private static byte[] historyKey(String orderId) {
+        return (HISTORY_KEY_PREFIX + orderId).getBytes(StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,229 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderExportRow;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.eksmsa.learning.orderservice.repository.OrderRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 기간별 주문 내보내기
+ * 전진 전용 커서로 한 행씩 읽어 바로 출력 스트림에 쓰므로, 기간이 길어도 힙에는 커서 fetch 단위와 출력 버퍼만 남는다.
+ * 행은 엔티티가 아닌 DTO 로 조회해 영속성 컨텍스트에 쌓이지 않는다.
+ */
+@Service
+public class OrderExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExportService.class);
+
+    // 클라이언트가 진행 상황을 받을 수 있도록 이 행 수마다 출력 스트림을 비운다
+    static final int FLUSH_INTERVAL = 1000;
+
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "id,customerId,customerName,customerEmail,status,totalAmount,"
+        + "discountAmount,taxAmount,shippingAmount,finalAmount,currency,paymentMethod,paymentStatus,"
+        + "trackingNumber,deliveredAt,createdAt,updatedAt";
+
+    /**
+     * 내보내기 포맷
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final OrderRepository orderRepository;
+    private final ObjectWriter rowWriter;
+    private final Map<Format, Counter> rowCounters = new EnumMap<>(Format.class);
+
+    @Autowired
+    public OrderExportService(OrderRepository orderRepository, OrderJsonMapper jsonMapper,
+                              MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        // 행마다 flush 하지 않고 FLUSH_INTERVAL 단위로만 비운다
+        this.rowWriter = jsonMapper.getObjectMapper().writerFor(OrderExportRow.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        for (Format format : Format.values()) {
+            rowCounters.put(format, Counter.builder("orders.export.rows")
+                .description("Number of order rows exported")
+                .tag("format", format.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * [start, end) 기간에 생성된 주문을 생성 시각 순으로 출력 스트림에 기록
+     * 커서는 읽기 전용 트랜잭션 안에서만 열려 있으므로 스트림 소비도 이 메서드 안에서 끝낸다.
+     * 출력 스트림은 닫지 않는다.
+     *
+     * @return 기록한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDateTime start, LocalDateTime end, Format format, OutputStream out) throws IOException {
+        long rows;
+        try (Stream<OrderExportRow> stream = orderRepository.streamForExport(start, end)) {
+            Iterator<OrderExportRow> iterator = stream.iterator();
+            rows = format == Format.CSV ? writeCsv(iterator, out) : writeNdjson(iterator, out);
+        }
+
+        logger.info("주문 내보내기 완료 - 기간: {} ~ {}, 포맷: {}, 행 수: {}", start, end, format, rows);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<OrderExportRow> rows, OutputStream out) throws IOException {
+        Counter counter = rowCounters.get(Format.NDJSON);
+        long count = 0;
+        try (JsonGenerator generator = rowWriter.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            while (rows.hasNext()) {
+                rowWriter.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                count++;
+                if (count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                    counter.increment(FLUSH_INTERVAL);
+                }
+            }
+            generator.flush();
+        }
+        counter.increment(count % FLUSH_INTERVAL);
+        return count;
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, OutputStream out) throws IOException {
+        Counter counter = rowCounters.get(Format.CSV);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            writeCsvRow(writer, rows.next());
+            count++;
+            if (count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+                counter.increment(FLUSH_INTERVAL);
+            }
+        }
+        writer.flush();
+        counter.increment(count % FLUSH_INTERVAL);
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, OrderExportRow row) throws IOException {
+        writeCsvField(writer, row.getId());
+        writer.write(',');
+        writeCsvField(writer, row.getCustomerId());
+        writer.write(',');
+        writeCsvField(writer, row.getCustomerName());
+        writer.write(',');
+        writeCsvField(writer, row.getCustomerEmail());
+        writer.write(',');
+        writeCsvField(writer, row.getStatus() != null ? row.getStatus().name() : null);
+        writer.write(',');
+        writeCsvAmount(writer, row.getTotalAmount());
+        writer.write(',');
+        writeCsvAmount(writer, row.getDiscountAmount());
+        writer.write(',');
+        writeCsvAmount(writer, row.getTaxAmount());
+        writer.write(',');
+        writeCsvAmount(writer, row.getShippingAmount());
+        writer.write(',');
+        writeCsvAmount(writer, row.getFinalAmount());
+        writer.write(',');
+        writeCsvField(writer, row.getCurrency());
+        writer.write(',');
+        writeCsvField(writer, row.getPaymentMethod());
+        writer.write(',');
+        writeCsvField(writer, row.getPaymentStatus());
+        writer.write(',');
+        writeCsvField(writer, row.getTrackingNumber());
+        writer.write(',');
+        writeCsvTime(writer, row.getDeliveredAt());
+        writer.write(',');
+        writeCsvTime(writer, row.getCreatedAt());
+        writer.write(',');
+        writeCsvTime(writer, row.getUpdatedAt());
+        writer.write('\n');
+    }
+
+    private static void writeCsvAmount(Writer writer, BigDecimal amount) throws IOException {
+        if (amount != null) {
+            writer.write(amount.toPlainString());
+        }
+    }
+
+    private static void writeCsvTime(Writer writer, LocalDateTime time) throws IOException {
+        if (time != null) {
+            writer.write(time.toString());
+        }
+    }
+
+    /**
+     * RFC 4180 필드 기록: 쉼표, 큰따옴표, 줄바꿈이 있을 때만 큰따옴표로 감싸고 내부 큰따옴표는 두 번 쓴다
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                quote = true;
+                break;
+            }
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,95 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 앞단의 파드 내 주문 near cache (크기 + 쓰기 후 만료 기반 축출)
+ * 파드 간 무효화는 Redis pub/sub 으로 전달되며, 유실되더라도 만료 시간으로 오래된 데이터가 제한된다.
+ * Redis 에서 읽은 값은 읽기 전에 받아 둔 무효화 세대가 그대로일 때만 넣어, 읽는 사이 무효화된 값이 다시 들어가지 않게 한다.
+ */
+@Component
+public class OrderNearCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderNearCache.class);
+
+    static final String CACHE_NAME = "orders.near";
+
+    private final Cache<String, OrderResponse> cache;
+    // 무효화마다 증가 (키 구분 없이 세므로 무효화가 잦으면 그 사이 읽은 값은 near cache 에 넣지 않고 넘어간다)
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public OrderNearCache(MeterRegistry meterRegistry,
+                          @Value("${order.cache.near.enabled:true}") boolean enabled,
+                          @Value("${order.cache.near.max-size:10000}") long maxSize,
+                          @Value("${order.cache.near.ttl:30s}") Duration ttl) {
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+            // cache.gets / cache.evictions / cache.size 등을 Actuator 메트릭으로 노출
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+            logger.info("주문 near cache 활성화 - 최대 크기: {}, 만료: {}", maxSize, ttl);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public OrderResponse get(String orderId) {
+        return cache != null ? cache.getIfPresent(orderId) : null;
+    }
+
+    public void put(OrderResponse order) {
+        if (cache != null && order != null && order.getId() != null) {
+            cache.put(order.getId(), order);
+        }
+    }
+
+    /**
+     * Redis 에서 읽은 값 저장, 읽기 전에 받아 둔 세대 이후 무효화가 있었으면 넣지 않는다
+     * 확인과 저장 사이에 들어온 무효화는 저장 뒤 다시 확인해 되돌린다.
+     *
+     * @param readGeneration Redis 조회 전에 generation() 으로 받아 둔 값
+     */
+    public void putIfNotInvalidated(OrderResponse order, long readGeneration) {
+        if (cache == null || order == null || order.getId() == null || generation.get() != readGeneration) {
+            return;
+        }
+        cache.put(order.getId(), order);
+        if (generation.get() != readGeneration) {
+            cache.invalidate(order.getId());
+        }
+    }
+
+    public void invalidate(String orderId) {
+        if (cache != null && orderId != null) {
+            generation.incrementAndGet();
+            cache.invalidate(orderId);
+        }
+    }
+
+    /**
+     * 현재 무효화 세대 (Redis 조회 전에 읽어 putIfNotInvalidated 에 넘긴다)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public long size() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+}
@@ -0,0 +1,138 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
+import com.eksmsa.learning.orderservice.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * order_outbox 를 배치 단위로 Redis 스트림에 발행하는 릴레이
+ * 배치마다 트랜잭션 안에서 FOR UPDATE SKIP LOCKED 로 행을 선점해 발행 후 삭제하므로 여러 레플리카가 겹치지 않게 병렬로 동작한다.
+ * 비동기 발행기가 선점 중인 행은 건너뛰고, 선점한 행 중에서도 같은 주문의 앞선 행이 아직 남아 있는 행은
+ * (다른 릴레이나 발행기가 잡고 있으므로) 다음 주기로 미뤄 주문별로 seq 순서대로만 발행한다.
+ * 발행에 실패하면 트랜잭션이 롤백되어 다음 주기에 다시 발행된다 (at-least-once).
+ */
+@Component
+public class OrderOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderEventService orderEventService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer publishLagTimer;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    @Value("${order.outbox.relay.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${order.outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${order.outbox.relay.max-batches-per-run:20}")
+    private int maxBatchesPerRun = 20;
+
+    @Autowired
+    public OrderOutboxRelay(OrderOutboxRepository outboxRepository, OrderEventService orderEventService,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.orderEventService = orderEventService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.publishedCounter = Counter.builder("orders.outbox.published")
+            .description("Order events relayed from the outbox to Redis")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("orders.outbox.failures")
+            .description("Failed outbox relay batches")
+            .register(meterRegistry);
+        this.publishLagTimer = Timer.builder("orders.outbox.lag")
+            .description("Time from outbox write to Redis publish")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("orders.outbox.oldest.age", oldestPendingAgeMillis, age -> age.get() / 1000.0)
+            .description("Age of the oldest pending outbox event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 주기적으로 outbox 를 비움 (배치가 가득 차 있으면 한 주기에 최대 maxBatchesPerRun 배치까지 연속 처리)
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.relay.interval:200}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (relayBatch() < batchSize) {
+                    break;
+                }
+            }
+            updateOldestPendingAge();
+        } catch (Exception e) {
+            failureCounter.increment();
+            logger.warn("주문 이벤트 outbox 릴레이 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 배치 선점 -> 주문별 선두 이벤트만 파이프라인 발행 -> 삭제 (하나의 트랜잭션)
+     *
+     * @return 발행한 이벤트 수 (보류한 행이 있으면 배치 크기보다 작아 이번 주기를 마침)
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OrderOutboxEvent> batch = outboxRepository.claimBatch(LocalDateTime.now(), batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<OrderOutboxEvent> publishable = OrderOutboxService.publishableInOrder(batch,
+                outboxRepository.findPendingByOrderIds(OrderOutboxService.orderIds(batch)));
+            if (publishable.isEmpty()) {
+                return 0;
+            }
+
+            orderEventService.publishOutboxEvents(publishable);
+
+            List<Long> ids = new ArrayList<>(publishable.size());
+            LocalDateTime now = LocalDateTime.now();
+            for (OrderOutboxEvent event : publishable) {
+                ids.add(event.getId());
+                publishLagTimer.record(Duration.between(event.getCreatedAt(), now));
+            }
+            outboxRepository.deleteAllByIdInBatch(ids);
+            return publishable.size();
+        });
+
+        int count = relayed != null ? relayed : 0;
+        publishedCounter.increment(count);
+        return count;
+    }
+
+    private void updateOldestPendingAge() {
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+        oldestPendingAgeMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+}
@@ -0,0 +1,145 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.eksmsa.learning.orderservice.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 이벤트 outbox 기록
+ * 이벤트는 호출한 주문 트랜잭션 안에서 order_outbox 에 저장되며, 커밋된 이벤트만 발행된다.
+ * 커밋 직후 OrderEventPublisher 가 즉시 발행하고, 거기서 빠진 이벤트는 OrderOutboxRelay 가 발행한다.
+ * 발행기가 켜져 있으면 행을 선점 상태(claimed_until)로 기록해, 발행기가 넘겨줄 때까지 릴레이가 건너뛰게 한다.
+ * 두 경로 모두 주문별로 seq 순서상 앞선 행이 남아 있으면 뒤 행을 발행하지 않는다.
+ */
+@Service
+public class OrderOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderOutboxService.class);
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderEventPublisher eventPublisher;
+    private final ObjectWriter eventWriter;
+
+    @Autowired
+    public OrderOutboxService(OrderOutboxRepository outboxRepository, OrderEventPublisher eventPublisher,
+                              OrderJsonMapper jsonMapper) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.eventWriter = jsonMapper.getEventWriter();
+    }
+
+    /**
+     * 주문 이벤트를 outbox 에 기록 (주문 트랜잭션 안에서만 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(OrderEvent event) {
+        OrderOutboxEvent outboxEvent = outboxRepository.save(toOutboxEvent(event, claimedUntil()));
+        publishAfterCommit(List.of(outboxEvent));
+        logger.debug("주문 이벤트 outbox 기록 - 이벤트 ID: {}, 타입: {}", event.getEventId(), event.getEventType());
+    }
+
+    /**
+     * 여러 주문 이벤트를 outbox 에 기록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<OrderEvent> events) {
+        List<OrderOutboxEvent> outboxEvents = new ArrayList<>(events.size());
+        LocalDateTime claimedUntil = claimedUntil();
+        for (OrderEvent event : events) {
+            outboxEvents.add(toOutboxEvent(event, claimedUntil));
+        }
+        publishAfterCommit(outboxRepository.saveAll(outboxEvents));
+        logger.debug("주문 이벤트 outbox 일괄 기록 - 이벤트 수: {}", events.size());
+    }
+
+    /**
+     * 커밋 후 비동기 발행기에 전달 (롤백되면 전달하지 않음)
+     */
+    private void publishAfterCommit(List<OrderOutboxEvent> outboxEvents) {
+        if (!eventPublisher.isEnabled()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.submitAll(outboxEvents);
+            }
+        });
+    }
+
+    /**
+     * 발행 후보 중 지금 발행해도 주문별 순서가 지켜지는 이벤트만 seq 순으로 반환
+     * 주문마다 대기 행을 seq 순으로 훑어, 후보가 아닌 행(다른 발행자가 잡고 있거나 넘겨받을 행)을 만나면
+     * 그 주문의 나머지 후보는 앞선 이벤트가 발행될 때까지 보류한다. 이미 삭제된 후보는 결과에서 빠진다.
+     *
+     * @param pendingInSeqOrder findPendingByOrderIds 결과 (id, order_id)
+     */
+    static List<OrderOutboxEvent> publishableInOrder(List<OrderOutboxEvent> candidates,
+                                                     List<Object[]> pendingInSeqOrder) {
+        Map<Long, OrderOutboxEvent> candidatesById = new HashMap<>(candidates.size() * 2);
+        for (OrderOutboxEvent candidate : candidates) {
+            candidatesById.put(candidate.getId(), candidate);
+        }
+
+        Set<String> blockedOrders = new HashSet<>();
+        List<OrderOutboxEvent> publishable = new ArrayList<>(candidates.size());
+        for (Object[] row : pendingInSeqOrder) {
+            String orderId = (String) row[1];
+            if (blockedOrders.contains(orderId)) {
+                continue;
+            }
+            OrderOutboxEvent candidate = candidatesById.get(((Number) row[0]).longValue());
+            if (candidate != null) {
+                publishable.add(candidate);
+            } else {
+                blockedOrders.add(orderId);
+            }
+        }
+        return publishable;
+    }
+
+    static Set<String> orderIds(List<OrderOutboxEvent> events) {
+        Set<String> orderIds = new HashSet<>();
+        for (OrderOutboxEvent event : events) {
+            orderIds.add(event.getOrderId());
+        }
+        return orderIds;
+    }
+
+    private LocalDateTime claimedUntil() {
+        return eventPublisher.isEnabled() ? LocalDateTime.now().plus(eventPublisher.getClaimTtl()) : null;
+    }
+
+    private OrderOutboxEvent toOutboxEvent(OrderEvent event, LocalDateTime claimedUntil) {
+        try {
+            OrderOutboxEvent outboxEvent = new OrderOutboxEvent(event.getEventId(), event.getEventType(),
+                event.getOrderId(), eventWriter.writeValueAsString(event));
+            outboxEvent.setClaimedUntil(claimedUntil);
+            outboxEvent.setEvent(event);
+            return outboxEvent;
+        } catch (JsonProcessingException e) {
+            logger.error("주문 이벤트 직렬화 실패 - 이벤트 ID: {}, 오류: {}", event.getEventId(), e.getMessage(), e);
+            throw new RuntimeException("이벤트 기록에 실패했습니다", e);
+        }
+    }
+}
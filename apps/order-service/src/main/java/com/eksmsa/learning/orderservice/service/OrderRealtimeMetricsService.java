@@ -0,0 +1,301 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderRealtimeMetricsResponse;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.metrics.RollingWindowCounter;
+import com.eksmsa.learning.orderservice.metrics.WindowSnapshot;
+import com.eksmsa.learning.orderservice.money.Money;
+import com.eksmsa.learning.orderservice.revenue.CurrencyCode;
+import com.eksmsa.learning.orderservice.revenue.ExchangeRateTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 실시간 주문 지표 (최근 1분/5분/15분의 주문 수, 주문 금액, 상태 전환 수와 초당 비율)
+ * 이벤트마다 Redis 카운터를 갱신하던 방식 대신 파드 안의 초 단위 링 버퍼(RollingWindowCounter)에 기록하고,
+ * publish-interval 마다 윈도별 합계만 varint 스냅샷으로 Redis 해시에 파드별로 올린다.
+ * 분석 스트림은 컨슈머 그룹으로 이벤트당 한 파드에서만 처리되므로 클러스터 값은 각 파드 스냅샷의 합이다.
+ * 주문 금액은 생성 이벤트 금액을 기록 시점의 환율로 기준 통화로 환산해 쌓는다 (환율을 모르는 통화는 제외).
+ * 이벤트는 소비 시각이 아니라 이벤트 발생 시각의 초 버킷에 기록하므로, 스트림 소비가 밀려도 윈도가 뒤로 쏠리지 않는다.
+ * 클러스터 병합 값은 파드마다 자기 스냅샷 시각에서 끝나는 윈도의 합이라, 응답의 snapshotLagSeconds 만큼 어긋난 근사값이다.
+ */
+@Service
+public class OrderRealtimeMetricsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRealtimeMetricsService.class);
+
+    public static final String WINDOWS_KEY = "metrics:realtime:windows";
+
+    // 계열: 주문 수, 기준 통화 최소 단위 주문 금액, 상태별 전환 수
+    static final int ORDERS = 0;
+    static final int REVENUE = 1;
+    static final int TRANSITIONS = 2;
+
+    static final int[] WINDOW_SECONDS = {60, 300, 900};
+    static final String[] WINDOW_NAMES = {"1m", "5m", "15m"};
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ExchangeRateTable exchangeRateTable;
+    private final RollingWindowCounter counter;
+    private final int baseCurrency;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter unconvertedCounter;
+    private final Counter lateCounter;
+    private final Counter errorCounter;
+
+    @Value("${order.metrics.realtime.enabled:true}")
+    private boolean enabled = true;
+
+    // 이보다 오래 갱신되지 않은 파드 스냅샷은 병합하지 않고 삭제
+    @Value("${order.metrics.realtime.stale-after:30s}")
+    private Duration staleAfter = Duration.ofSeconds(30);
+
+    @Autowired
+    public OrderRealtimeMetricsService(RedisTemplate<String, Object> redisTemplate,
+                                       ExchangeRateTable exchangeRateTable, MeterRegistry meterRegistry) {
+        this(redisTemplate, exchangeRateTable, meterRegistry, System::currentTimeMillis);
+    }
+
+    OrderRealtimeMetricsService(RedisTemplate<String, Object> redisTemplate, ExchangeRateTable exchangeRateTable,
+                                MeterRegistry meterRegistry, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.exchangeRateTable = exchangeRateTable;
+        this.baseCurrency = CurrencyCode.pack(exchangeRateTable.getBaseCurrency());
+        this.counter = new RollingWindowCounter(TRANSITIONS + STATUSES.length,
+            WINDOW_SECONDS[WINDOW_SECONDS.length - 1], clock);
+
+        this.unconvertedCounter = Counter.builder("orders.realtime.unconverted")
+            .description("Number of created orders left out of realtime revenue for lack of an exchange rate")
+            .register(meterRegistry);
+        this.lateCounter = Counter.builder("orders.realtime.late")
+            .description("Number of events older than the largest window when consumed (not recorded)")
+            .register(meterRegistry);
+        this.errorCounter = Counter.builder("orders.realtime.errors")
+            .description("Number of realtime metrics snapshot publish/merge failures")
+            .register(meterRegistry);
+        for (int w = 0; w < WINDOW_SECONDS.length; w++) {
+            int seconds = WINDOW_SECONDS[w];
+            Gauge.builder("orders.realtime.orders.rate", counter, c -> c.seriesSum(ORDERS, seconds) / (double) seconds)
+                .description("Orders created per second over the window (this pod)")
+                .tag("window", WINDOW_NAMES[w])
+                .register(meterRegistry);
+            Gauge.builder("orders.realtime.revenue.rate", counter,
+                    c -> c.seriesSum(REVENUE, seconds) / (double) (seconds * Money.MINOR_UNITS_PER_UNIT))
+                .description("Created order amount per second over the window in the base currency (this pod)")
+                .tag("window", WINDOW_NAMES[w])
+                .tag("currency", exchangeRateTable.getBaseCurrency())
+                .register(meterRegistry);
+            for (OrderStatus status : STATUSES) {
+                int series = TRANSITIONS + status.ordinal();
+                Gauge.builder("orders.realtime.transitions.rate", counter,
+                        c -> c.seriesSum(series, seconds) / (double) seconds)
+                    .description("Order status transitions per second over the window (this pod)")
+                    .tag("window", WINDOW_NAMES[w])
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * 분석 스트림 이벤트 기록 (생성 이벤트는 주문 수/금액, 그 밖의 이벤트는 바뀐 상태로의 전환 수)
+     * 이벤트 발생 시각의 초에 기록하고, 가장 큰 윈도보다 오래된 이벤트는 버린다.
+     */
+    public void record(OrderEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long now = counter.currentSecond();
+        long second = eventSecond(event, now);
+        if (now - second >= counter.getMaxWindowSeconds()) {
+            lateCounter.increment();
+            return;
+        }
+        if (OrderEvent.ORDER_CREATED.equals(event.getEventType())) {
+            counter.add(second, ORDERS, 1);
+            long revenue = toBaseMinorUnits(event);
+            if (revenue > 0) {
+                counter.add(second, REVENUE, revenue);
+            }
+        } else if (event.getOrderStatus() != null) {
+            counter.add(second, TRANSITIONS + event.getOrderStatus().ordinal(), 1);
+        }
+    }
+
+    // 이벤트 발생 시각 (OrderEvent 는 생성한 파드의 기본 시간대 LocalDateTime), 없거나 시계 오차로 미래면 현재 초
+    private static long eventSecond(OrderEvent event, long now) {
+        LocalDateTime timestamp = event.getTimestamp();
+        if (timestamp == null) {
+            return now;
+        }
+        return Math.min(timestamp.atZone(ZoneId.systemDefault()).toEpochSecond(), now);
+    }
+
+    /**
+     * 이 파드의 윈도별 합계를 Redis 해시에 올림 (필드: 인스턴스 ID)
+     */
+    @Scheduled(fixedDelayString = "${order.metrics.realtime.publish-interval:5000}")
+    public void publish() {
+        if (!enabled) {
+            return;
+        }
+        byte[] snapshot = localSnapshot().encode();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] rawKey = rawKey(WINDOWS_KEY);
+                connection.hashCommands().hSet(rawKey, rawKey(instanceId), snapshot);
+                // 모든 파드가 내려가면 해시도 만료
+                connection.keyCommands().expire(rawKey, staleAfter.multipliedBy(2).getSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.warn("실시간 지표 스냅샷 발행 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실시간 지표 조회
+     *
+     * @param cluster true 면 다른 파드 스냅샷까지 병합 (Redis 를 읽지 못하면 이 파드 값만)
+     *                다른 파드 값은 최대 publish-interval 전 스냅샷을 시각을 맞추지 않고 더하므로, 그 차이를 응답에 함께 담는다
+     */
+    public OrderRealtimeMetricsResponse getMetrics(boolean cluster) {
+        WindowSnapshot snapshot = localSnapshot();
+        int instances = 1;
+        String scope = "local";
+        long snapshotLag = 0;
+
+        if (cluster && enabled) {
+            try {
+                Map<byte[], byte[]> entries = redisTemplate.execute(
+                    (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(rawKey(WINDOWS_KEY)));
+                List<byte[]> stale = new ArrayList<>();
+                WindowSnapshot merged = snapshot;
+                long lag = 0;
+                if (entries != null) {
+                    for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                        // 이 파드의 값은 Redis 에 올린 것보다 최신인 로컬 스냅샷을 씀
+                        if (instanceId.equals(new String(entry.getKey(), StandardCharsets.UTF_8))) {
+                            continue;
+                        }
+                        WindowSnapshot other = decodeOrNull(entry.getValue());
+                        if (other == null || snapshot.getSecond() - other.getSecond() > staleAfter.getSeconds()) {
+                            stale.add(entry.getKey());
+                            continue;
+                        }
+                        merged = merged.merge(other);
+                        lag = Math.max(lag, snapshot.getSecond() - other.getSecond());
+                        instances++;
+                    }
+                }
+                if (!stale.isEmpty()) {
+                    redisTemplate.execute((RedisCallback<Long>) connection ->
+                        connection.hashCommands().hDel(rawKey(WINDOWS_KEY), stale.toArray(new byte[0][])));
+                }
+                snapshot = merged;
+                snapshotLag = lag;
+                scope = "cluster";
+            } catch (Exception e) {
+                errorCounter.increment();
+                instances = 1;
+                logger.warn("실시간 지표 클러스터 병합 실패, 이 파드 값만 반환 - 오류: {}", e.getMessage());
+            }
+        }
+
+        return toResponse(snapshot, scope, instances, snapshotLag);
+    }
+
+    WindowSnapshot localSnapshot() {
+        long second = counter.currentSecond();
+        long[][] totals = new long[WINDOW_SECONDS.length][];
+        for (int w = 0; w < WINDOW_SECONDS.length; w++) {
+            totals[w] = counter.sum(second, WINDOW_SECONDS[w]);
+        }
+        return new WindowSnapshot(second, totals);
+    }
+
+    private OrderRealtimeMetricsResponse toResponse(WindowSnapshot snapshot, String scope, int instances,
+                                                    long snapshotLag) {
+        Map<String, OrderRealtimeMetricsResponse.Window> windows = new LinkedHashMap<>();
+        for (int w = 0; w < WINDOW_SECONDS.length; w++) {
+            int seconds = WINDOW_SECONDS[w];
+            long[] totals = snapshot.getTotals()[w];
+            Map<String, Long> transitions = new LinkedHashMap<>();
+            Map<String, Double> transitionsPerSecond = new LinkedHashMap<>();
+            for (OrderStatus status : STATUSES) {
+                long count = totals[TRANSITIONS + status.ordinal()];
+                transitions.put(status.name(), count);
+                transitionsPerSecond.put(status.name(), count / (double) seconds);
+            }
+            BigDecimal revenue = Money.ofMinor(totals[REVENUE]).toBigDecimal();
+            windows.put(WINDOW_NAMES[w], new OrderRealtimeMetricsResponse.Window(seconds,
+                totals[ORDERS], totals[ORDERS] / (double) seconds,
+                revenue, revenue.divide(BigDecimal.valueOf(seconds), Money.SCALE, RoundingMode.HALF_UP),
+                transitions, transitionsPerSecond));
+        }
+        return new OrderRealtimeMetricsResponse(LocalDateTime.now(), scope, instances, snapshotLag,
+            CurrencyCode.unpack(baseCurrency), windows);
+    }
+
+    // 생성 이벤트 금액을 기준 통화 최소 단위로 환산 (금액이 없거나 통화/환율을 모르면 0)
+    private long toBaseMinorUnits(OrderEvent event) {
+        BigDecimal amount = event.getTotalAmount();
+        if (amount == null || amount.signum() <= 0) {
+            return 0;
+        }
+        int currency;
+        try {
+            currency = event.getCurrency() != null ? CurrencyCode.pack(event.getCurrency()) : baseCurrency;
+        } catch (IllegalArgumentException e) {
+            unconvertedCounter.increment();
+            return 0;
+        }
+        BigDecimal rate = exchangeRateTable.rate(currency, baseCurrency);
+        if (rate == null) {
+            unconvertedCounter.increment();
+            return 0;
+        }
+        return BigDecimal.valueOf(Money.toMinorUnits(amount)).multiply(rate)
+            .setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private WindowSnapshot decodeOrNull(byte[] data) {
+        try {
+            return WindowSnapshot.decode(data);
+        } catch (IllegalArgumentException e) {
+            logger.warn("실시간 지표 스냅샷 형식 오류, 삭제 - 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,442 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderRevenueResponse;
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.money.Money;
+import com.eksmsa.learning.orderservice.repository.OrderRepository;
+import com.eksmsa.learning.orderservice.revenue.CurrencyCode;
+import com.eksmsa.learning.orderservice.revenue.CurrencyRevenueIndex;
+import com.eksmsa.learning.orderservice.revenue.ExchangeRateTable;
+import com.eksmsa.learning.orderservice.revenue.RevenueIndex;
+import com.eksmsa.learning.orderservice.revenue.RevenueTotals;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 배송 완료 주문 매출 인덱스 관리
+ * 기동 시(그리고 rebuild-interval 마다) DB 에서 배송 완료 주문을 읽어 통화별 RevenueIndex 를 만들고,
+ * 이후에는 DELIVERED 로 바뀌거나 DELIVERED 에서 벗어나는 상태 변경이 커밋될 때 해당 주문 통화, 생성 시각의 버킷에 금액을 더하거나 뺀다.
+ * 다른 파드의 변경은 pub/sub 으로 받은 델타로 반영하고, 유실된 메시지는 주기적 재구성으로 맞춘다.
+ * 인덱스는 보존 기간(retention) 안에 생성된 주문만 담고 배열 상한도 그 기간에 맞추므로, 잘못된 생성 시각 하나로 힙이 커지지 않는다.
+ * 보존 기간 이전 주문은 조용히 건너뛰고, 현재 + 1일 이후(잘못된 데이터)는 건너뛰며 로그와 오류 지표로 남긴다.
+ * 인덱스가 준비되기 전이거나 비활성이거나 조회 시작이 보존 기간 이전이면 null 을 반환해 호출 측이 DB 로 조회하게 한다.
+ * 통화 간 환산은 조회 시점에 ExchangeRateTable 로 한다.
+ */
+@Service
+public class OrderRevenueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRevenueService.class);
+
+    public static final String REVENUE_UPDATE_CHANNEL = "order.revenue.updates";
+
+    // 갱신 메시지 구분자 ("{발신 인스턴스}|{통화}|{주문 생성 시각 epoch 초}|{최소 단위 금액}|{주문 ID}")
+    private static final char UPDATE_SEPARATOR = '|';
+
+    private final OrderRepository orderRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExchangeRateTable exchangeRateTable;
+    private final CurrencyRevenueIndex index;
+    private final Duration bucketSize;
+    private final Duration retention;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter updateCounter;
+    private final Counter remoteUpdateCounter;
+    private final Counter errorCounter;
+
+    // 미래 시각은 시계 오차만큼만 허용
+    private static final Duration MAX_FUTURE = Duration.ofDays(1);
+    // 보존 기간 + 미래 허용 폭 외에 재구성 주기 사이 현재 시각이 흐르는 만큼의 여유
+    private static final Duration SPAN_MARGIN = Duration.ofDays(1);
+
+    // 재구성 중 반영된 델타 (재구성 스냅샷에 없던 것만 다시 더한 뒤 교체), 재구성 중이 아니면 null
+    private List<PendingDelta> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    @Value("${order.revenue.index.enabled:true}")
+    private boolean enabled = true;
+
+    @Autowired
+    public OrderRevenueService(OrderRepository orderRepository, RedisTemplate<String, Object> redisTemplate,
+                               PlatformTransactionManager transactionManager, ExchangeRateTable exchangeRateTable,
+                               MeterRegistry meterRegistry,
+                               @Value("${order.revenue.index.bucket:1m}") Duration bucketSize,
+                               @Value("${order.revenue.index.retention:730d}") Duration retention) {
+        this.orderRepository = orderRepository;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 스트리밍 뒤 확인 조회도 같은 스냅샷을 보도록
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.exchangeRateTable = exchangeRateTable;
+        this.bucketSize = bucketSize;
+        this.retention = retention;
+        this.index = newIndex();
+
+        this.updateCounter = Counter.builder("orders.revenue.index.updates")
+            .description("Number of revenue index updates from local status changes")
+            .register(meterRegistry);
+        this.remoteUpdateCounter = Counter.builder("orders.revenue.index.remote.updates")
+            .description("Number of revenue index updates received from other pods")
+            .register(meterRegistry);
+        this.errorCounter = Counter.builder("orders.revenue.index.errors")
+            .description("Number of revenue index rebuild/broadcast failures and skipped out-of-range orders")
+            .register(meterRegistry);
+        Gauge.builder("orders.revenue.index.buckets", index, CurrencyRevenueIndex::capacity)
+            .description("Number of buckets held by the revenue index")
+            .register(meterRegistry);
+        Gauge.builder("orders.revenue.index.currencies", index, CurrencyRevenueIndex::currencyCount)
+            .description("Number of currencies held by the revenue index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 통화별 기간 매출 (주문 생성 시각 기준, 버킷 단위로 startDate/endDate 가 속한 버킷 포함)
+     *
+     * @return 인덱스가 준비되지 않았거나 startDate 가 속한 버킷이 보존 기간 이전이면 null
+     */
+    public RevenueTotals getRevenueTotals(LocalDateTime startDate, LocalDateTime endDate) {
+        if (!enabled || !ready || bucketStart(startDate).isBefore(retentionStart())) {
+            return null;
+        }
+        return index.sum(startDate, endDate);
+    }
+
+    /**
+     * 시각이 속한 버킷의 시작 시각 (인덱스 조회와 같은 경계로 DB 를 조회할 때의 구간 시작)
+     */
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        long seconds = bucketSize.getSeconds();
+        long epochSecond = Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), seconds) * seconds;
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 시각이 속한 버킷의 다음 버킷 시작 시각 (인덱스 조회와 같은 경계로 DB 를 조회할 때의 구간 끝, 제외)
+     */
+    public LocalDateTime nextBucketStart(LocalDateTime time) {
+        return bucketStart(time).plusSeconds(bucketSize.getSeconds());
+    }
+
+    /**
+     * DB 통화별 합계 행 (통화, 합계) 을 RevenueTotals 로 변환 (인덱스가 준비되기 전 조회용)
+     */
+    public RevenueTotals toTotals(List<Object[]> rows) {
+        RevenueTotals totals = new RevenueTotals();
+        for (Object[] row : rows) {
+            if (row[1] == null) {
+                continue;
+            }
+            int currency = currencyOf((String) row[0]);
+            if (currency == 0) {
+                logger.warn("매출 합계에 반영할 수 없는 통화 - 통화: {}", row[0]);
+                continue;
+            }
+            totals.add(currency, RevenueIndex.toMinorUnits((BigDecimal) row[1]));
+        }
+        return totals;
+    }
+
+    /**
+     * 통화별 합계를 응답으로 변환 (currency 로 환산, null 이면 기준 통화)
+     * 통화별 금액은 정확한 값 그대로, 환산 합계는 통화별 금액 × 환율을 더한 뒤 소수 둘째 자리에서 반올림한다.
+     */
+    public OrderRevenueResponse toResponse(LocalDateTime startDate, LocalDateTime endDate, RevenueTotals totals,
+                                           String currency) {
+        int target = CurrencyCode.pack(currency != null ? currency : exchangeRateTable.getBaseCurrency());
+        Map<String, BigDecimal> byCurrency = new TreeMap<>();
+        List<String> unconverted = new ArrayList<>();
+        BigDecimal converted = BigDecimal.ZERO;
+        for (int i = 0; i < totals.size(); i++) {
+            int from = totals.currencyAt(i);
+            BigDecimal amount = RevenueIndex.fromMinorUnits(totals.minorUnitsAt(i));
+            String code = CurrencyCode.unpack(from);
+            byCurrency.put(code, amount);
+            BigDecimal rate = exchangeRateTable.rate(from, target);
+            if (rate == null) {
+                unconverted.add(code);
+            } else {
+                converted = converted.add(amount.multiply(rate));
+            }
+        }
+        unconverted.sort(null);
+        return new OrderRevenueResponse(startDate, endDate, CurrencyCode.unpack(target),
+            converted.setScale(RevenueIndex.SCALE, RoundingMode.HALF_UP), byCurrency, unconverted);
+    }
+
+    /**
+     * 상태 변경 반영 (주문 트랜잭션 안에서 호출, 커밋 후 인덱스 갱신)
+     */
+    public void recordStatusChange(Order order, OrderStatus previousStatus) {
+        if (!enabled) {
+            return;
+        }
+        boolean wasDelivered = previousStatus == OrderStatus.DELIVERED;
+        boolean isDelivered = order.getStatus() == OrderStatus.DELIVERED;
+        if (wasDelivered == isDelivered || order.getFinalAmount() == null || order.getCreatedAt() == null) {
+            return;
+        }
+
+        int currency = currencyOf(order.getCurrency());
+        if (currency == 0) {
+            logger.warn("매출 인덱스에 반영할 수 없는 통화 - 주문 ID: {}, 통화: {}", order.getId(), order.getCurrency());
+            errorCounter.increment();
+            return;
+        }
+        long epochSecond = order.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+        long amount = RevenueIndex.toMinorUnits(order.getFinalAmount());
+        long delta = isDelivered ? amount : -amount;
+        String orderId = order.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyLocal(currency, epochSecond, delta, orderId);
+                }
+            });
+        } else {
+            applyLocal(currency, epochSecond, delta, orderId);
+        }
+    }
+
+    /**
+     * 다른 파드에서 수신한 매출 갱신 메시지 처리 (자기 자신이 보낸 메시지는 무시)
+     */
+    public void onUpdateMessage(String message) {
+        if (!enabled) {
+            return;
+        }
+        int first = message.indexOf(UPDATE_SEPARATOR);
+        int second = message.indexOf(UPDATE_SEPARATOR, first + 1);
+        int third = message.indexOf(UPDATE_SEPARATOR, second + 1);
+        int fourth = message.indexOf(UPDATE_SEPARATOR, third + 1);
+        if (first < 0 || second < 0 || third < 0 || fourth < 0) {
+            logger.warn("매출 갱신 메시지 형식 오류 - 메시지: {}", message);
+            return;
+        }
+        if (first == instanceId.length() && message.regionMatches(0, instanceId, 0, first)) {
+            return;
+        }
+        int currency = CurrencyCode.pack(message, first + 1, second);
+        long epochSecond = Long.parseLong(message, second + 1, third, 10);
+        long delta = Long.parseLong(message, third + 1, fourth, 10);
+        String orderId = message.substring(fourth + 1);
+        apply(currency, epochSecond, delta, orderId);
+        remoteUpdateCounter.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled) {
+            rebuildSafely();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.revenue.index.rebuild-interval:3600000}",
+               initialDelayString = "${order.revenue.index.rebuild-interval:3600000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuildSafely();
+        }
+    }
+
+    /**
+     * DB 의 배송 완료 주문으로 인덱스 재구성
+     * 재구성 중 커밋된 상태 변경 중 스냅샷에 아직 없던 것만 새 인덱스에 다시 더한 뒤 교체한다.
+     * 스냅샷 직전에 커밋되어 델타가 재구성 시작 뒤에 도착한 변경은 스냅샷에 이미 들어 있으므로, 같은 트랜잭션(같은 스냅샷)에서
+     * 델타의 주문이 배송 완료였는지 확인해 주문별 상태와 같은 방향의 델타는 건너뛴다.
+     */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        CurrencyRevenueIndex rebuilt = newIndex();
+        LocalDateTime since = retentionStart();
+        long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<Object[]> stream = orderRepository.streamDeliveredRevenue(since)) {
+                    for (Object[] row : (Iterable<Object[]>) stream::iterator) {
+                        LocalDateTime createdAt = (LocalDateTime) row[0];
+                        Money amount = (Money) row[1];
+                        int currency = currencyOf((String) row[2]);
+                        if (currency == 0) {
+                            logger.warn("매출 인덱스에 반영할 수 없는 통화 - 통화: {}", row[2]);
+                            errorCounter.increment();
+                        } else if (createdAt != null && amount != null
+                            && addInRange(rebuilt, currency, createdAt.toEpochSecond(ZoneOffset.UTC), amount.getMinorUnits(), null)) {
+                            count++;
+                        }
+                    }
+                }
+
+                // 확인 조회 사이에도 델타가 쌓이므로, 확인할 주문이 남지 않은 상태에서 잠금을 쥔 채 교체한다
+                Map<String, Boolean> deliveredInSnapshot = new HashMap<>();
+                while (true) {
+                    List<String> unchecked;
+                    synchronized (this) {
+                        unchecked = uncheckedOrderIds(deliveredInSnapshot);
+                        if (unchecked.isEmpty()) {
+                            replayPending(rebuilt, deliveredInSnapshot);
+                            pendingDuringRebuild = null;
+                            index.replaceWith(rebuilt);
+                            return count;
+                        }
+                    }
+                    Set<String> delivered = new HashSet<>(orderRepository.findDeliveredIds(unchecked));
+                    for (String orderId : unchecked) {
+                        deliveredInSnapshot.put(orderId, delivered.contains(orderId));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+        ready = true;
+
+        logger.info("매출 인덱스 재구성 완료 - 주문 수: {}, 통화 수: {}, 버킷 수: {}, 소요: {}ms",
+            rows, index.currencyCount(), index.capacity(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 잠금 안에서 호출
+    private List<String> uncheckedOrderIds(Map<String, Boolean> deliveredInSnapshot) {
+        Set<String> unchecked = new LinkedHashSet<>();
+        for (PendingDelta pending : pendingDuringRebuild) {
+            if (!deliveredInSnapshot.containsKey(pending.orderId())) {
+                unchecked.add(pending.orderId());
+            }
+        }
+        return new ArrayList<>(unchecked);
+    }
+
+    // 잠금 안에서 호출, 주문별 상태를 스냅샷 기준으로 시작해 상태를 바꾸는 델타만 더한다
+    private void replayPending(CurrencyRevenueIndex rebuilt, Map<String, Boolean> deliveredInSnapshot) {
+        Map<String, Boolean> delivered = new HashMap<>(deliveredInSnapshot);
+        for (PendingDelta pending : pendingDuringRebuild) {
+            boolean toDelivered = pending.delta() > 0;
+            if (Boolean.valueOf(toDelivered).equals(delivered.get(pending.orderId()))) {
+                continue;
+            }
+            delivered.put(pending.orderId(), toDelivered);
+            addInRange(rebuilt, pending.currency(), pending.epochSecond(), pending.delta(), pending.orderId());
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.error("매출 인덱스 재구성 실패 - 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    // 통화가 비어 있는 주문은 기준 통화로 취급, 통화 코드 형식이 아니면 0
+    private int currencyOf(String currency) {
+        try {
+            return CurrencyCode.pack(currency != null ? currency : exchangeRateTable.getBaseCurrency());
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private void applyLocal(int currency, long epochSecond, long delta, String orderId) {
+        apply(currency, epochSecond, delta, orderId);
+        updateCounter.increment();
+        try {
+            redisTemplate.convertAndSend(REVENUE_UPDATE_CHANNEL, instanceId + UPDATE_SEPARATOR
+                + CurrencyCode.unpack(currency) + UPDATE_SEPARATOR + epochSecond + UPDATE_SEPARATOR + delta
+                + UPDATE_SEPARATOR + orderId);
+        } catch (Exception e) {
+            errorCounter.increment();
+            logger.warn("매출 갱신 발행 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void apply(int currency, long epochSecond, long delta, String orderId) {
+        if (addInRange(index, currency, epochSecond, delta, orderId) && pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(new PendingDelta(currency, epochSecond, delta, orderId));
+        }
+    }
+
+    // 보존 기간 + 미래 허용 폭 + 여유만큼만 담도록 배열 상한을 정한 인덱스
+    private CurrencyRevenueIndex newIndex() {
+        return new CurrencyRevenueIndex(bucketSize, retention.plus(MAX_FUTURE).plus(SPAN_MARGIN));
+    }
+
+    // 인덱스가 담는 가장 이른 생성 시각 (UTC 기준, 주문 created_at 과 같은 축)
+    private LocalDateTime retentionStart() {
+        return LocalDateTime.ofEpochSecond(System.currentTimeMillis() / 1000 - retention.getSeconds(), 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 인덱스가 담는 생성 시각이면 반영, 보존 기간 이전이면 조용히 건너뛰고, 현재 + 1일 이후면 건너뛰며 로그를 남긴다
+     * 범위 안의 시각끼리는 항상 한 인덱스(보존 기간 + 2일 폭)에 담긴다.
+     *
+     * @return 반영했으면 true
+     */
+    private boolean addInRange(CurrencyRevenueIndex target, int currency, long epochSecond, long delta, String orderId) {
+        long now = System.currentTimeMillis() / 1000;
+        if (epochSecond < now - retention.getSeconds()) {
+            return false;
+        }
+        if (epochSecond > now + MAX_FUTURE.getSeconds()) {
+            logger.warn("매출 인덱스 범위를 벗어난 주문 생성 시각 - 주문 ID: {}, 생성 시각: {}",
+                orderId, LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+            errorCounter.increment();
+            return false;
+        }
+        try {
+            target.add(currency, LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC), delta);
+            return true;
+        } catch (IllegalStateException e) {
+            logger.warn("매출 인덱스 반영 실패 - 주문 ID: {}, 오류: {}", orderId, e.getMessage());
+            errorCounter.increment();
+            return false;
+        }
+    }
+
+    // 재구성 중 반영된 델타
+    private record PendingDelta(int currency, long epochSecond, long delta, String orderId) {
+    }
+}
@@ -5,18 +5,32 @@ import com.eksmsa.learning.orderservice.entity.Order;
 import com.eksmsa.learning.orderservice.entity.OrderItem;
 import com.eksmsa.learning.orderservice.entity.OrderStatus;
 import com.eksmsa.learning.orderservice.entity.OrderStatusHistory;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.id.IdGenerator;
+import com.eksmsa.learning.orderservice.repository.OrderCursor;
 import com.eksmsa.learning.orderservice.repository.OrderRepository;
+import com.eksmsa.learning.orderservice.revenue.RevenueTotals;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,14 +41,29 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemService orderItemService;
-    private final OrderEventService orderEventService;
+    private final OrderOutboxService orderOutboxService;
+    private final Validator validator;
+    private final IdGenerator idGenerator;
+    private final OrderCacheService orderCacheService;
+    private final OrderStatsService orderStatsService;
+    private final OrderRevenueService orderRevenueService;
+    private final TransactionTemplate readOnlyTransaction;
 
     @Autowired
     public OrderService(OrderRepository orderRepository, OrderItemService orderItemService, 
-                       OrderEventService orderEventService) {
+                       OrderOutboxService orderOutboxService, Validator validator, IdGenerator idGenerator,
+                       OrderCacheService orderCacheService, OrderStatsService orderStatsService,
+                       OrderRevenueService orderRevenueService, PlatformTransactionManager transactionManager) {
         this.orderRepository = orderRepository;
         this.orderItemService = orderItemService;
-        this.orderEventService = orderEventService;
+        this.orderOutboxService = orderOutboxService;
+        this.validator = validator;
+        this.idGenerator = idGenerator;
+        this.orderCacheService = orderCacheService;
+        this.orderStatsService = orderStatsService;
+        this.orderRevenueService = orderRevenueService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -44,51 +73,26 @@ public class OrderService {
         logger.info("새 주문 생성 시작 - 고객: {}", request.getCustomerId());
 
         try {
-            // 주문 ID 생성
-            String orderId = generateOrderId();
-
-            // 주문 엔티티 생성
-            Order order = new Order(orderId, request.getCustomerId(), request.getCustomerName());
-            order.setCustomerEmail(request.getCustomerEmail());
-            order.setCustomerPhone(request.getCustomerPhone());
-            order.setCurrency(request.getCurrency());
-            order.setPaymentMethod(request.getPaymentMethod());
-            order.setShippingAddress(request.getShippingAddress());
-            order.setBillingAddress(request.getBillingAddress());
-            order.setNotes(request.getNotes());
-
-            // 할인, 세금, 배송비 설정
-            if (request.getDiscountAmount() != null) {
-                order.setDiscountAmount(request.getDiscountAmount());
-            }
-            if (request.getTaxAmount() != null) {
-                order.setTaxAmount(request.getTaxAmount());
-            }
-            if (request.getShippingAmount() != null) {
-                order.setShippingAmount(request.getShippingAmount());
-            }
-
-            // 주문 상품 추가
-            for (OrderItemRequest itemRequest : request.getItems()) {
-                OrderItem item = orderItemService.createOrderItem(itemRequest);
-                order.addItem(item);
-            }
+            Order order = buildOrder(request);
 
             // 주문 저장
             Order savedOrder = orderRepository.save(order);
+            orderStatsService.recordCreated(savedOrder);
 
-            // 주문 생성 이벤트 발행
-            orderEventService.publishOrderCreatedEvent(
+            // 주문 생성 이벤트를 같은 트랜잭션에서 outbox 에 기록 (커밋 후 릴레이가 발행)
+            orderOutboxService.enqueue(OrderEvent.orderCreated(
                 savedOrder.getId(),
                 savedOrder.getCustomerId(),
                 savedOrder.getCustomerName(),
                 savedOrder.getFinalAmount(),
                 savedOrder.getCurrency()
-            );
+            ));
 
             logger.info("주문 생성 완료 - 주문 ID: {}, 총 금액: {}", savedOrder.getId(), savedOrder.getFinalAmount());
 
-            return convertToResponse(savedOrder);
+            OrderResponse response = convertToResponse(savedOrder);
+            orderCacheService.putAfterCommit(response);
+            return response;
 
         } catch (Exception e) {
             logger.error("주문 생성 실패 - 고객: {}, 오류: {}", request.getCustomerId(), e.getMessage(), e);
@@ -96,17 +100,74 @@ public class OrderService {
         }
     }
 
+    /**
+     * 주문 일괄 생성
+     * 유효성 검증/엔티티 구성 실패는 주문별로 보고하고, 유효한 주문은 하나의 트랜잭션에서
+     * 한 번의 flush 로 JDBC 배치 INSERT 하고 생성 이벤트도 같은 트랜잭션에서 outbox 에 일괄 기록한다.
+     * DB 저장 단계의 실패는 배치 전체를 롤백한다.
+     */
+    public OrderBatchResponse createOrders(List<OrderCreateRequest> requests) {
+        logger.info("주문 일괄 생성 시작 - 요청 수: {}", requests.size());
+
+        OrderBatchItemResult[] results = new OrderBatchItemResult[requests.size()];
+        List<Order> orders = new ArrayList<>(requests.size());
+        List<Integer> orderIndexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            OrderCreateRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = OrderBatchItemResult.failure(i, null, "주문 요청이 비어 있습니다");
+                continue;
+            }
+
+            try {
+                validateCreateRequest(request);
+                orders.add(buildOrder(request));
+                orderIndexes.add(i);
+            } catch (Exception e) {
+                logger.warn("일괄 주문 항목 생성 실패 - 인덱스: {}, 고객: {}, 오류: {}", i, request.getCustomerId(), e.getMessage());
+                results[i] = OrderBatchItemResult.failure(i, request.getCustomerId(), e.getMessage());
+            }
+        }
+
+        if (!orders.isEmpty()) {
+            // 모든 주문/주문 상품을 한 번의 flush 로 저장 (hibernate.jdbc.batch_size 단위로 배치)
+            orderRepository.saveAll(orders);
+            orderRepository.flush();
+            orderStatsService.recordCreated(orders);
+
+            List<OrderEvent> events = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                int index = orderIndexes.get(i);
+                results[index] = OrderBatchItemResult.success(index, order.getCustomerId(), order.getId(), order.getFinalAmount());
+                events.add(OrderEvent.orderCreated(order.getId(), order.getCustomerId(), order.getCustomerName(),
+                    order.getFinalAmount(), order.getCurrency()));
+            }
+
+            // 주문 생성 이벤트 일괄 outbox 기록
+            orderOutboxService.enqueueAll(events);
+        }
+
+        OrderBatchResponse response = new OrderBatchResponse(Arrays.asList(results));
+        logger.info("주문 일괄 생성 완료 - 성공: {}, 실패: {}", response.getSucceeded(), response.getFailed());
+
+        return response;
+    }
+
     /**
      * 주문 조회 (ID로)
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록, 캐시 미스일 때만 읽기 전용 트랜잭션을 연다.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public OrderResponse getOrder(String orderId) {
         logger.debug("주문 조회 - ID: {}", orderId);
 
-        Order order = orderRepository.findById(orderId)
-            .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-        return convertToResponse(order);
+        return orderCacheService.getOrLoad(orderId, () -> readOnlyTransaction.execute(status -> {
+            Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
+            return convertToResponse(order);
+        }));
     }
 
     /**
@@ -116,8 +177,7 @@ public class OrderService {
     public Page<OrderResponse> getOrdersByCustomer(String customerId, Pageable pageable) {
         logger.debug("고객별 주문 목록 조회 - 고객 ID: {}", customerId);
 
-        Page<Order> orders = orderRepository.findByCustomerId(customerId, pageable);
-        return orders.map(this::convertToResponse);
+        return loadOrderPage(orderRepository.findOrderIdsByCustomerId(customerId, pageable));
     }
 
     /**
@@ -127,8 +187,7 @@ public class OrderService {
     public Page<OrderResponse> getOrdersByStatus(OrderStatus status, Pageable pageable) {
         logger.debug("상태별 주문 목록 조회 - 상태: {}", status);
 
-        Page<Order> orders = orderRepository.findByStatus(status, pageable);
-        return orders.map(this::convertToResponse);
+        return loadOrderPage(orderRepository.findOrderIdsByStatus(status, pageable));
     }
 
     /**
@@ -138,8 +197,116 @@ public class OrderService {
     public Page<OrderResponse> getAllOrders(Pageable pageable) {
         logger.debug("전체 주문 목록 조회");
 
-        Page<Order> orders = orderRepository.findAll(pageable);
-        return orders.map(this::convertToResponse);
+        return loadOrderPage(orderRepository.findOrderIds(pageable));
+    }
+
+    /**
+     * 고객 및 상태별 주문 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderResponse> getOrdersByCustomerAndStatus(String customerId, OrderStatus status, Pageable pageable) {
+        logger.debug("고객 및 상태별 주문 목록 조회 - 고객 ID: {}, 상태: {}", customerId, status);
+
+        return loadOrderPage(orderRepository.findOrderIdsByCustomerIdAndStatus(customerId, status, pageable));
+    }
+
+    /**
+     * 커서 기반 주문 목록 조회 ((created_at, id) keyset, count 쿼리 없음)
+     * customerId, status 는 null 이면 필터하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public OrderCursorPage<OrderResponse> getOrdersByCursor(String customerId, OrderStatus status, String cursor,
+                                             int size, boolean ascending) {
+        logger.debug("커서 기반 주문 목록 조회 - 고객 ID: {}, 상태: {}, 크기: {}", customerId, status, size);
+
+        OrderCursor after = cursor == null || cursor.isEmpty() ? null : OrderCursor.decode(cursor);
+
+        // 한 건 더 조회해 다음 페이지 존재 여부 판단
+        List<OrderCursor> positions = orderRepository.findOrderCursors(customerId, status, after, ascending, size + 1);
+        boolean hasNext = positions.size() > size;
+        if (hasNext) {
+            positions = positions.subList(0, size);
+        }
+
+        List<String> ids = new ArrayList<>(positions.size());
+        for (OrderCursor position : positions) {
+            ids.add(position.getId());
+        }
+
+        String nextCursor = hasNext ? positions.get(positions.size() - 1).encode() : null;
+        return new OrderCursorPage<>(loadOrders(ids), nextCursor, size);
+    }
+
+    /**
+     * 주문 요약 목록 조회 (엔티티/컬렉션을 로딩하지 않고 요약 컬럼만 조회)
+     * customerId, status 는 null 이면 필터하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryResponse> getOrderSummaries(String customerId, OrderStatus status, Pageable pageable) {
+        logger.debug("주문 요약 목록 조회 - 고객 ID: {}, 상태: {}", customerId, status);
+
+        if (customerId != null && status != null) {
+            return orderRepository.findOrderSummariesByCustomerIdAndStatus(customerId, status, pageable);
+        } else if (customerId != null) {
+            return orderRepository.findOrderSummariesByCustomerId(customerId, pageable);
+        } else if (status != null) {
+            return orderRepository.findOrderSummariesByStatus(status, pageable);
+        }
+        return orderRepository.findOrderSummaries(pageable);
+    }
+
+    /**
+     * 커서 기반 주문 요약 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public OrderCursorPage<OrderSummaryResponse> getOrderSummariesByCursor(String customerId, OrderStatus status,
+                                                                         String cursor, int size, boolean ascending) {
+        logger.debug("커서 기반 주문 요약 목록 조회 - 고객 ID: {}, 상태: {}, 크기: {}", customerId, status, size);
+
+        OrderCursor after = cursor == null || cursor.isEmpty() ? null : OrderCursor.decode(cursor);
+
+        List<OrderSummaryResponse> summaries =
+            orderRepository.findOrderSummaries(customerId, status, after, ascending, size + 1);
+        String nextCursor = null;
+        if (summaries.size() > size) {
+            summaries = summaries.subList(0, size);
+            OrderSummaryResponse last = summaries.get(size - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new OrderCursorPage<>(summaries, nextCursor, size);
+    }
+
+    /**
+     * 주문 ID 페이지에 해당하는 주문 로딩
+     */
+    private Page<OrderResponse> loadOrderPage(Page<String> orderIds) {
+        return new PageImpl<>(loadOrders(orderIds.getContent()), orderIds.getPageable(), orderIds.getTotalElements());
+    }
+
+    /**
+     * 주문 ID 목록의 주문을 컬렉션별 일괄 조회로 로딩 (주문마다 LAZY 로딩하는 N+1 방지)
+     * 상품/상태 히스토리 두 컬렉션은 한 쿼리로 fetch join 할 수 없으므로 각각 IN 조회한 뒤
+     * 같은 영속성 컨텍스트에서 합쳐진 주문을 ID 목록 순서대로 변환한다.
+     */
+    private List<OrderResponse> loadOrders(List<String> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Order> ordersById = new HashMap<>(ids.size() * 2);
+        for (Order order : orderRepository.findWithItemsByIdIn(ids)) {
+            ordersById.put(order.getId(), order);
+        }
+        orderRepository.findWithStatusHistoryByIdIn(ids);
+
+        List<OrderResponse> responses = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Order order = ordersById.get(id);
+            if (order != null) {
+                responses.add(convertToResponse(order));
+            }
+        }
+        return responses;
     }
 
     /**
@@ -151,6 +318,15 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
 
+        return applyStatusUpdate(order, request);
+    }
+
+    /**
+     * 조회된 주문에 상태 변경 적용
+     */
+    private OrderResponse applyStatusUpdate(Order order, OrderStatusUpdateRequest request) {
+        String orderId = order.getId();
+
         // 상태 변경 가능 여부 확인
         if (!order.getStatus().canTransitionTo(request.getStatus())) {
             throw new RuntimeException(
@@ -179,33 +355,38 @@ public class OrderService {
         }
 
         Order savedOrder = orderRepository.save(order);
+        orderStatsService.recordStatusChange(previousStatus, savedOrder.getStatus());
+        orderRevenueService.recordStatusChange(savedOrder, previousStatus);
 
-        // 상태 변경 이벤트 발행
+        // 상태 변경 이벤트 outbox 기록
         if (request.getStatus() == OrderStatus.SHIPPED) {
-            orderEventService.publishOrderShippedEvent(
+            orderOutboxService.enqueue(OrderEvent.orderShipped(
                 savedOrder.getId(),
                 savedOrder.getCustomerId(),
                 savedOrder.getTrackingNumber()
-            );
+            ));
         } else if (request.getStatus() == OrderStatus.DELIVERED) {
-            orderEventService.publishOrderDeliveredEvent(
+            orderOutboxService.enqueue(OrderEvent.orderDelivered(
                 savedOrder.getId(),
                 savedOrder.getCustomerId()
-            );
+            ));
         } else {
-            orderEventService.publishOrderStatusChangedEvent(
+            orderOutboxService.enqueue(OrderEvent.orderStatusChanged(
                 savedOrder.getId(),
                 savedOrder.getCustomerId(),
                 previousStatus,
                 request.getStatus(),
                 request.getReason(),
                 request.getChangedBy()
-            );
+            ));
         }
 
         logger.info("주문 상태 변경 완료 - 주문 ID: {}, 상태: {}", orderId, request.getStatus());
 
-        return convertToResponse(savedOrder);
+        // 커밋 후 캐시 갱신
+        OrderResponse response = convertToResponse(savedOrder);
+        orderCacheService.putAfterCommit(response);
+        return response;
     }
 
     /**
@@ -226,10 +407,10 @@ public class OrderService {
         cancelRequest.setReason(reason);
         cancelRequest.setChangedBy(cancelledBy);
 
-        OrderResponse result = updateOrderStatus(orderId, cancelRequest);
+        OrderResponse result = applyStatusUpdate(order, cancelRequest);
 
-        // 주문 취소 이벤트 발행
-        orderEventService.publishOrderCancelledEvent(orderId, order.getCustomerId(), reason, cancelledBy);
+        // 주문 취소 이벤트 outbox 기록
+        orderOutboxService.enqueue(OrderEvent.orderCancelled(orderId, order.getCustomerId(), reason, cancelledBy));
 
         return result;
     }
@@ -237,39 +418,101 @@ public class OrderService {
     /**
      * 배송 추적 번호로 주문 조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public OrderResponse getOrderByTrackingNumber(String trackingNumber) {
         logger.debug("배송 추적 번호로 주문 조회 - 추적 번호: {}", trackingNumber);
 
-        Order order = orderRepository.findByTrackingNumber(trackingNumber)
-            .orElseThrow(() -> new RuntimeException("해당 추적 번호의 주문을 찾을 수 없습니다: " + trackingNumber));
-
-        return convertToResponse(order);
+        return orderCacheService.getByTrackingNumberOrLoad(trackingNumber, () -> readOnlyTransaction.execute(status -> {
+            Order order = orderRepository.findByTrackingNumber(trackingNumber)
+                .orElseThrow(() -> new RuntimeException("해당 추적 번호의 주문을 찾을 수 없습니다: " + trackingNumber));
+            return convertToResponse(order);
+        }));
     }
 
     /**
-     * 주문 통계 조회
+     * 주문 통계 조회 (상태별 주문 수 요약 테이블)
      */
     @Transactional(readOnly = true)
     public List<Object[]> getOrderStatistics() {
         logger.debug("주문 통계 조회");
-        return orderRepository.getOrderStatusStatistics();
+        return orderStatsService.getStatusCounts();
     }
 
     /**
-     * 기간별 매출 조회
+     * 기간별 매출 조회 (통화별 금액과 currency 로 환산한 합계, currency 가 null 이면 기준 통화)
+     * 매출 인덱스가 준비되어 있으면 인덱스로 (DB 조회 없이), 아니면 DB 의 통화별 합계로 조회한다.
      */
-    @Transactional(readOnly = true)
-    public Double getRevenueBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        logger.debug("기간별 매출 조회 - 시작: {}, 종료: {}", startDate, endDate);
-        return orderRepository.getTotalRevenueBetween(startDate, endDate);
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public OrderRevenueResponse getRevenueBetween(LocalDateTime startDate, LocalDateTime endDate, String currency) {
+        logger.debug("기간별 매출 조회 - 시작: {}, 종료: {}, 통화: {}", startDate, endDate, currency);
+
+        RevenueTotals totals = orderRevenueService.getRevenueTotals(startDate, endDate);
+        if (totals == null) {
+            // 인덱스가 준비된 뒤와 결과가 달라지지 않도록 같은 버킷 경계로 조회
+            LocalDateTime from = orderRevenueService.bucketStart(startDate);
+            LocalDateTime until = orderRevenueService.nextBucketStart(endDate);
+            totals = orderRevenueService.toTotals(readOnlyTransaction.execute(status ->
+                orderRepository.getRevenueByCurrencyInRange(from, until)));
+        }
+        return orderRevenueService.toResponse(startDate, endDate, totals, currency);
+    }
+
+    /**
+     * 주문 생성 요청으로부터 Order 엔티티 구성
+     */
+    private Order buildOrder(OrderCreateRequest request) {
+        // 주문 ID 생성
+        String orderId = generateOrderId();
+
+        // 주문 엔티티 생성
+        Order order = new Order(orderId, request.getCustomerId(), request.getCustomerName());
+        order.setCustomerEmail(request.getCustomerEmail());
+        order.setCustomerPhone(request.getCustomerPhone());
+        order.setCurrency(request.getCurrency());
+        order.setPaymentMethod(request.getPaymentMethod());
+        order.setShippingAddress(request.getShippingAddress());
+        order.setBillingAddress(request.getBillingAddress());
+        order.setNotes(request.getNotes());
+
+        // 할인, 세금, 배송비 설정
+        if (request.getDiscountAmount() != null) {
+            order.setDiscountAmount(request.getDiscountAmount());
+        }
+        if (request.getTaxAmount() != null) {
+            order.setTaxAmount(request.getTaxAmount());
+        }
+        if (request.getShippingAmount() != null) {
+            order.setShippingAmount(request.getShippingAmount());
+        }
+
+        // 주문 상품 추가
+        for (OrderItemRequest itemRequest : request.getItems()) {
+            OrderItem item = orderItemService.createOrderItem(itemRequest);
+            order.addItem(item);
+        }
+
+        return order;
+    }
+
+    /**
+     * 주문 생성 요청 유효성 검증 (일괄 생성 시 주문별 검증용)
+     */
+    private void validateCreateRequest(OrderCreateRequest request) {
+        Set<ConstraintViolation<OrderCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(message);
+        }
     }
 
     /**
      * 주문 ID 생성
      */
     private String generateOrderId() {
-        return "ORD-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return idGenerator.nextId("ORD-");
     }
 
     /**
@@ -0,0 +1,272 @@
+package com.eksmsa.learning.orderservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis 통계 카운터를 프로세스 안에서 모아 주기적으로 한 번에 반영하는 집계기
+ * 이벤트마다 INCR + EXPIRE 를 보내지 않고, 키별 lock-free 누산기(LongAdder/DoubleAdder)에 더한 뒤
+ * flush-interval 마다 또는 flush-threshold 건이 쌓이면 델타를 하나의 파이프라인으로 보낸다.
+ * 만료 시간은 증가와 같은 파이프라인에서 EXPIRE NX(Redis 7.0 이상)로 만료가 없는 키에만 설정하므로,
+ * 만료 설정만 따로 실패해 TTL 없는 키가 남는 일이 없고, 그런 키가 있더라도 다음 flush 에서 다시 설정된다.
+ */
+@Component
+public class OrderStatisticsAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatisticsAggregator.class);
+
+    private static final byte[] EXPIRE_IF_NONE = "NX".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 키별 누산기
+     * flush 가 유휴 항목을 맵에서 제거할 때 retired 를 먼저 세우므로, 제거된 항목에 늦게 더한 쪽이 델타를 새 항목으로 옮긴다.
+     */
+    private static final class Entry {
+        final LongAdder count = new LongAdder();
+        final DoubleAdder amount = new DoubleAdder();
+        final boolean floating;
+        final Duration ttl;
+        // true 면 flush 마다 만료 시간을 다시 설정 (최근 N분 지표처럼 마지막 갱신 기준으로 만료)
+        final boolean sliding;
+        int idleFlushes;
+        volatile boolean retired;
+
+        Entry(boolean floating, Duration ttl, boolean sliding) {
+            this.floating = floating;
+            this.ttl = ttl;
+            this.sliding = sliding;
+        }
+    }
+
+    private static final class Delta {
+        final String key;
+        final Entry entry;
+        final long count;
+        final double amount;
+
+        Delta(String key, Entry entry, long count, double amount) {
+            this.key = key;
+            this.entry = entry;
+            this.count = count;
+            this.amount = amount;
+        }
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder pendingUpdates = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    private final Counter updateCounter;
+    private final Counter commandCounter;
+    private final Counter failureCounter;
+
+    @Value("${order.stats.flush-threshold:1000}")
+    private long flushThreshold = 1000;
+
+    // 이 횟수만큼 연속으로 변화가 없던 키는 맵에서 제거 (고객별 키가 무한히 쌓이지 않도록)
+    @Value("${order.stats.idle-flushes-before-evict:3}")
+    private int idleFlushesBeforeEvict = 3;
+
+    @Autowired
+    public OrderStatisticsAggregator(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        this.updateCounter = Counter.builder("orders.stats.updates")
+            .description("Statistics counter updates accepted by the aggregator")
+            .register(meterRegistry);
+        this.commandCounter = Counter.builder("orders.stats.redis.commands")
+            .description("Redis commands sent by statistics flushes")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("orders.stats.flush.failures")
+            .description("Failed statistics flushes (deltas are kept for the next flush)")
+            .register(meterRegistry);
+        Gauge.builder("orders.stats.pending", pendingUpdates, LongAdder::sum)
+            .description("Statistics updates waiting for the next flush")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 정수 카운터 증가 (키에 만료가 없으면 ttl 로 만료 설정)
+     */
+    public void increment(String key, Duration ttl) {
+        add(key, false, ttl, false, 1, 0);
+        afterUpdate();
+    }
+
+    /**
+     * 정수 카운터 증가 (flush 할 때마다 만료 시간을 ttl 로 갱신)
+     */
+    public void incrementSliding(String key, Duration ttl) {
+        add(key, false, ttl, true, 1, 0);
+        afterUpdate();
+    }
+
+    /**
+     * 정수 카운터를 amount 만큼 증가 (키에 만료가 없으면 ttl 로 만료 설정)
+     */
+    public void incrementBy(String key, long amount, Duration ttl) {
+        add(key, false, ttl, false, amount, 0);
+        afterUpdate();
+    }
+
+    /**
+     * 실수 카운터 증가 (INCRBYFLOAT, 키에 만료가 없으면 ttl 로 만료 설정)
+     */
+    public void incrementByFloat(String key, double amount, Duration ttl) {
+        add(key, true, ttl, false, 0, amount);
+        afterUpdate();
+    }
+
+    private void add(String key, boolean floating, Duration ttl, boolean sliding, long count, double amount) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(key, k -> new Entry(floating, ttl, sliding));
+        }
+        entry.count.add(count);
+        entry.amount.add(amount);
+
+        if (entry.retired) {
+            // flush 가 이미 제거한 항목이면 남은 델타를 새 항목으로 옮김 (각 셀 값은 한쪽에서만 가져감)
+            long movedCount = entry.count.sumThenReset();
+            double movedAmount = entry.amount.sumThenReset();
+            if (movedCount != 0 || movedAmount != 0) {
+                add(key, floating, ttl, sliding, movedCount, movedAmount);
+            }
+        }
+    }
+
+    private void afterUpdate() {
+        updateCounter.increment();
+        pendingUpdates.increment();
+
+        if (closed) {
+            // 종료 이후 늦게 들어온 갱신은 즉시 반영
+            flush();
+        } else if (pendingUpdates.sum() >= flushThreshold) {
+            flush();
+        }
+    }
+
+    /**
+     * 누적된 델타를 하나의 파이프라인으로 반영 (이미 다른 스레드가 flush 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${order.stats.flush-interval:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 델타를 모두 반영하고, 이후 들어오는 갱신은 즉시 반영하도록 전환
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        pendingUpdates.reset();
+        List<Delta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Delta delta : deltas) {
+                    byte[] rawKey = rawKey(delta.key);
+                    if (delta.entry.floating) {
+                        connection.stringCommands().incrBy(rawKey, delta.amount);
+                    } else {
+                        connection.stringCommands().incrBy(rawKey, delta.count);
+                    }
+                    long seconds = delta.entry.ttl.getSeconds();
+                    if (delta.entry.sliding) {
+                        connection.keyCommands().expire(rawKey, seconds);
+                    } else {
+                        connection.execute("EXPIRE", rawKey,
+                            String.valueOf(seconds).getBytes(StandardCharsets.UTF_8), EXPIRE_IF_NONE);
+                    }
+                }
+                return null;
+            });
+            commandCounter.increment(deltas.size() * 2.0);
+        } catch (Exception e) {
+            failureCounter.increment();
+            restore(deltas);
+            logger.warn("통계 카운터 반영 실패, 다음 주기에 재시도 - 키 수: {}, 오류: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private List<Delta> drain() {
+        List<Delta> deltas = new ArrayList<>();
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            String key = mapEntry.getKey();
+            Entry entry = mapEntry.getValue();
+            long count = entry.count.sumThenReset();
+            double amount = entry.amount.sumThenReset();
+
+            if (count == 0 && amount == 0) {
+                if (++entry.idleFlushes >= idleFlushesBeforeEvict) {
+                    // retired 를 먼저 세우고 제거한 뒤 한 번 더 비워서, 그 사이에 더해진 델타를 놓치지 않음
+                    entry.retired = true;
+                    entries.remove(key, entry);
+                    count = entry.count.sumThenReset();
+                    amount = entry.amount.sumThenReset();
+                }
+                if (count == 0 && amount == 0) {
+                    continue;
+                }
+            }
+
+            entry.idleFlushes = 0;
+            deltas.add(new Delta(key, entry, count, amount));
+        }
+        return deltas;
+    }
+
+    private void restore(List<Delta> deltas) {
+        for (Delta delta : deltas) {
+            add(delta.key, delta.entry.floating, delta.entry.ttl, delta.entry.sliding, delta.count, delta.amount);
+            pendingUpdates.increment();
+        }
+    }
+
+    private byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
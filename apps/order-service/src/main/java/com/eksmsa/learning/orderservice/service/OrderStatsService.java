@@ -0,0 +1,188 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderCustomerStatsResponse;
+import com.eksmsa.learning.orderservice.dto.OrderDailyStatsResponse;
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.repository.OrderStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문 통계 요약 테이블 유지와 조회
+ * 주문 생성/상태 변경 시 델타를 트랜잭션별로 모아 두었다가 커밋 직전에 같은 트랜잭션에서 한 번에 반영한다.
+ * 요약 행 잠금은 커밋 직전부터만 잡히므로 주문 트랜잭션 전체 동안 다른 주문을 막지 않는다.
+ * 통계 API 는 요약 테이블만 읽어 결과 크기(상태 수, 기간 일수, 고객 수 limit)에 비례하는 행만 조회한다.
+ */
+@Service
+public class OrderStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatsService.class);
+
+    /**
+     * 트랜잭션 하나의 델타 (키 순서가 고정된 맵이라 반영 순서도 항상 같다)
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+        final Map<OrderStatus, Long> statusDeltas = new EnumMap<>(OrderStatus.class);
+        final Map<LocalDate, OrderStatsRepository.DailyDelta> dailyDeltas = new TreeMap<>();
+        final Map<String, OrderStatsRepository.CustomerDelta> customerDeltas = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            apply(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderStatsService.this);
+        }
+    }
+
+    private final OrderStatsRepository statsRepository;
+    private final TransactionTemplate rebuildTransaction;
+
+    // 상태별/일별 행을 나누는 slot 수 (트랜잭션마다 하나를 골라 같은 행 잠금 경합을 줄임)
+    @Value("${order.stats.summary.slots:8}")
+    private int slots = 8;
+
+    @Autowired
+    public OrderStatsService(OrderStatsRepository statsRepository, PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주문 생성 반영 (주문 트랜잭션 안에서 호출, createdAt 이 채워진 뒤)
+     */
+    public void recordCreated(Order order) {
+        PendingDeltas deltas = currentDeltas();
+        addCreated(deltas, order);
+        flushIfNoTransaction(deltas);
+    }
+
+    /**
+     * 주문 일괄 생성 반영
+     */
+    public void recordCreated(Collection<Order> orders) {
+        PendingDeltas deltas = currentDeltas();
+        for (Order order : orders) {
+            addCreated(deltas, order);
+        }
+        flushIfNoTransaction(deltas);
+    }
+
+    /**
+     * 주문 상태 변경 반영
+     */
+    public void recordStatusChange(OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        PendingDeltas deltas = currentDeltas();
+        deltas.statusDeltas.merge(from, -1L, Long::sum);
+        deltas.statusDeltas.merge(to, 1L, Long::sum);
+        flushIfNoTransaction(deltas);
+    }
+
+    /**
+     * 상태별 주문 수 (상태, 주문 수)
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> getStatusCounts() {
+        return statsRepository.findStatusCounts();
+    }
+
+    /**
+     * 기간(생성일 기준, 양 끝 포함) 일별 주문 수/금액
+     */
+    @Transactional(readOnly = true)
+    public List<OrderDailyStatsResponse> getDailyStats(LocalDate startDate, LocalDate endDate) {
+        return statsRepository.findDailyStats(startDate, endDate);
+    }
+
+    /**
+     * 주문 금액 상위 고객
+     */
+    @Transactional(readOnly = true)
+    public List<OrderCustomerStatsResponse> getTopCustomers(int limit) {
+        return statsRepository.findTopCustomers(limit);
+    }
+
+    /**
+     * 요약 테이블을 orders 로부터 다시 만든다 (증분 반영이 어긋났을 때의 보정용)
+     */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        rebuildTransaction.executeWithoutResult(status -> statsRepository.rebuild());
+        logger.info("주문 통계 요약 테이블 재구성 완료 - 소요: {}ms", (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 주기적 재구성 (기본 비활성, order.stats.summary.reconcile-cron 으로 설정)
+     */
+    @Scheduled(cron = "${order.stats.summary.reconcile-cron:-}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.error("주문 통계 요약 테이블 재구성 실패 - 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void addCreated(PendingDeltas deltas, Order order) {
+        BigDecimal amount = order.getFinalAmount() != null ? order.getFinalAmount() : BigDecimal.ZERO;
+        deltas.statusDeltas.merge(order.getStatus(), 1L, Long::sum);
+        deltas.dailyDeltas.computeIfAbsent(order.getCreatedAt().toLocalDate(), date -> new OrderStatsRepository.DailyDelta())
+            .add(amount);
+        deltas.customerDeltas.computeIfAbsent(order.getCustomerId(), id -> new OrderStatsRepository.CustomerDelta())
+            .add(order.getCustomerName(), amount);
+    }
+
+    private PendingDeltas currentDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingDeltas();
+        }
+        PendingDeltas deltas = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            deltas = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(deltas);
+        }
+        return deltas;
+    }
+
+    private void flushIfNoTransaction(PendingDeltas deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+        }
+    }
+
+    private void apply(PendingDeltas deltas) {
+        if (deltas.statusDeltas.isEmpty() && deltas.dailyDeltas.isEmpty() && deltas.customerDeltas.isEmpty()) {
+            return;
+        }
+        short slot = (short) ThreadLocalRandom.current().nextInt(Math.max(1, slots));
+        statsRepository.applyDeltas(slot, deltas.statusDeltas, deltas.dailyDeltas, deltas.customerDeltas);
+        deltas.statusDeltas.clear();
+        deltas.dailyDeltas.clear();
+        deltas.customerDeltas.clear();
+    }
+}
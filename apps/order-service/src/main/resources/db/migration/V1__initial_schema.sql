@@ -0,0 +1,71 @@
+-- 초기 스키마 (기존 ddl-auto 로 생성되던 구조)
+-- 이미 테이블이 있는 환경은 baseline-on-migrate 로 이 버전을 건너뛴다.
+
+CREATE TABLE orders (
+    id                      VARCHAR(50)    NOT NULL,
+    customer_id             VARCHAR(50)    NOT NULL,
+    customer_name           VARCHAR(100)   NOT NULL,
+    customer_email          VARCHAR(100),
+    customer_phone          VARCHAR(20),
+    status                  VARCHAR(20)    NOT NULL,
+    total_amount            NUMERIC(10, 2) NOT NULL,
+    discount_amount         NUMERIC(10, 2),
+    tax_amount              NUMERIC(10, 2),
+    shipping_amount         NUMERIC(10, 2),
+    final_amount            NUMERIC(10, 2) NOT NULL,
+    currency                VARCHAR(3),
+    payment_method          VARCHAR(50),
+    payment_status          VARCHAR(20),
+    shipping_address        TEXT,
+    billing_address         TEXT,
+    notes                   TEXT,
+    tracking_number         VARCHAR(100),
+    estimated_delivery_date TIMESTAMP(6),
+    delivered_at            TIMESTAMP(6),
+    created_at              TIMESTAMP(6)   NOT NULL,
+    updated_at              TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_order_customer_id ON orders (customer_id);
+CREATE INDEX idx_order_status ON orders (status);
+CREATE INDEX idx_order_created_at ON orders (created_at);
+CREATE INDEX idx_order_total_amount ON orders (total_amount);
+
+CREATE TABLE order_items (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    order_id          VARCHAR(50)    NOT NULL,
+    product_id        VARCHAR(50)    NOT NULL,
+    product_name      VARCHAR(200)   NOT NULL,
+    product_sku       VARCHAR(100),
+    product_image_url VARCHAR(500),
+    unit_price        NUMERIC(10, 2) NOT NULL,
+    quantity          INTEGER        NOT NULL,
+    subtotal          NUMERIC(10, 2) NOT NULL,
+    discount_amount   NUMERIC(10, 2),
+    tax_amount        NUMERIC(10, 2),
+    notes             TEXT,
+    created_at        TIMESTAMP(6)   NOT NULL,
+    updated_at        TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE INDEX idx_order_item_order_id ON order_items (order_id);
+CREATE INDEX idx_order_item_product_id ON order_items (product_id);
+
+CREATE TABLE order_status_history (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    order_id    VARCHAR(50)  NOT NULL,
+    from_status VARCHAR(20),
+    to_status   VARCHAR(20)  NOT NULL,
+    changed_at  TIMESTAMP(6) NOT NULL,
+    changed_by  VARCHAR(100),
+    reason      TEXT,
+    notes       TEXT,
+    CONSTRAINT pk_order_status_history PRIMARY KEY (id),
+    CONSTRAINT fk_order_status_history_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE INDEX idx_order_status_history_order_id ON order_status_history (order_id);
+CREATE INDEX idx_order_status_history_changed_at ON order_status_history (changed_at);
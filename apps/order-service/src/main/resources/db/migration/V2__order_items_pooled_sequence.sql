@@ -0,0 +1,12 @@
+-- order_items.id 를 IDENTITY 에서 pooled 시퀀스(allocationSize = 50)로 전환
+-- IDENTITY 컬럼은 INSERT 마다 생성 키를 돌려받아야 해서 Hibernate JDBC 배치가 비활성화된다.
+
+-- 기존 IDENTITY / SERIAL 기본값 제거 (ddl-auto 로 생성된 환경 모두 대응)
+ALTER TABLE order_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE order_items ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS order_items_seq START WITH 1 INCREMENT BY 50;
+
+-- pooled 최적화기는 nextval 결과를 블록의 상한으로 사용하므로 (값 - 49 ~ 값),
+-- 다음 nextval 이 기존 최대 ID + 50 을 돌려주도록 맞춰 기존 데이터와 겹치지 않게 한다.
+SELECT setval('order_items_seq', COALESCE((SELECT MAX(id) FROM order_items), 0) + 50, false);
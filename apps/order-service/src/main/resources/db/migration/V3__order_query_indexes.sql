@@ -0,0 +1,22 @@
+-- OrderRepository 의 실제 조회 조건에 맞춘 복합 / 부분 인덱스
+-- 단일 컬럼 인덱스는 조건 하나만 좁히고 나머지는 힙에서 거르거나 정렬해야 해서 고객/상태 조합 조회가 느려진다.
+
+-- findByCustomerIdAndStatus, 고객 + 상태 목록 / keyset 조회 (created_at, id 정렬까지 인덱스로 해결)
+CREATE INDEX idx_order_customer_status_created ON orders (customer_id, status, created_at DESC, id DESC);
+
+-- findRecentOrdersByCustomerId, findByCustomerId, 고객별 keyset 조회
+-- customer_id 선두 컬럼으로 countByCustomerId 도 처리하므로 기존 단일 인덱스는 제거
+CREATE INDEX idx_order_customer_created ON orders (customer_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_order_customer_id;
+
+-- findByStatus, countByStatus, 상태별 keyset 조회
+CREATE INDEX idx_order_status_created ON orders (status, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_order_status;
+
+-- getTotalRevenueBetween: DELIVERED 주문만 대상, final_amount 를 포함해 index-only scan 으로 합산
+CREATE INDEX idx_order_delivered_created ON orders (created_at) INCLUDE (final_amount)
+    WHERE status = 'DELIVERED';
+
+-- findActiveOrders: 취소/환불 주문을 제외한 부분 인덱스
+CREATE INDEX idx_order_active_created ON orders (created_at DESC, id DESC)
+    WHERE status NOT IN ('CANCELLED', 'REFUNDED');
@@ -0,0 +1,14 @@
+-- 주문 이벤트 transactional outbox
+-- 주문 변경과 같은 트랜잭션에서 기록하고, 릴레이가 SKIP LOCKED 로 선점해 Redis 로 발행한 뒤 삭제한다.
+
+CREATE SEQUENCE IF NOT EXISTS order_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE order_outbox (
+    id         BIGINT       NOT NULL,
+    event_id   VARCHAR(50)  NOT NULL,
+    event_type VARCHAR(50)  NOT NULL,
+    order_id   VARCHAR(50)  NOT NULL,
+    payload    TEXT         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_order_outbox PRIMARY KEY (id)
+);
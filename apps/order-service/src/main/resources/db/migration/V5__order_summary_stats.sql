@@ -0,0 +1,41 @@
+-- 주문 통계 요약 테이블
+-- 통계 API 가 매 요청마다 orders 전체를 GROUP BY 하지 않도록, 주문 생성/상태 변경 트랜잭션 안에서 델타를 반영한다.
+-- 모든 주문이 갱신하는 상태별/일별 행은 slot 으로 나눠 한 행에 잠금이 몰리지 않게 하고, 조회 시 slot 을 합산한다.
+
+CREATE TABLE order_status_stats (
+    status      VARCHAR(20) NOT NULL,
+    slot        SMALLINT    NOT NULL,
+    order_count BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_order_status_stats PRIMARY KEY (status, slot)
+);
+
+CREATE TABLE order_daily_stats (
+    stat_date    DATE           NOT NULL,
+    slot         SMALLINT       NOT NULL,
+    order_count  BIGINT         NOT NULL DEFAULT 0,
+    total_amount NUMERIC(18, 2) NOT NULL DEFAULT 0,
+    CONSTRAINT pk_order_daily_stats PRIMARY KEY (stat_date, slot)
+);
+
+CREATE TABLE order_customer_stats (
+    customer_id   VARCHAR(50)    NOT NULL,
+    customer_name VARCHAR(100)   NOT NULL,
+    order_count   BIGINT         NOT NULL DEFAULT 0,
+    total_amount  NUMERIC(18, 2) NOT NULL DEFAULT 0,
+    CONSTRAINT pk_order_customer_stats PRIMARY KEY (customer_id)
+);
+
+-- 매출 상위 고객 조회 (ORDER BY total_amount DESC LIMIT n)
+CREATE INDEX idx_order_customer_stats_amount ON order_customer_stats (total_amount DESC);
+
+-- 기존 주문으로 초기 적재 (slot 0)
+INSERT INTO order_status_stats (status, slot, order_count)
+SELECT status, 0, COUNT(*) FROM orders GROUP BY status;
+
+INSERT INTO order_daily_stats (stat_date, slot, order_count, total_amount)
+SELECT CAST(created_at AS DATE), 0, COUNT(*), COALESCE(SUM(final_amount), 0)
+FROM orders GROUP BY CAST(created_at AS DATE);
+
+INSERT INTO order_customer_stats (customer_id, customer_name, order_count, total_amount)
+SELECT customer_id, MAX(customer_name), COUNT(*), COALESCE(SUM(final_amount), 0)
+FROM orders GROUP BY customer_id;
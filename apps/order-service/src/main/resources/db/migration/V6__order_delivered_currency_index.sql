@@ -0,0 +1,5 @@
+-- 통화별 매출 합계 (getRevenueByCurrencyBetween) 와 매출 인덱스 재구성 (streamDeliveredRevenue) 이
+-- currency 까지 index-only scan 으로 읽도록 포함 컬럼에 추가
+DROP INDEX IF EXISTS idx_order_delivered_created;
+CREATE INDEX idx_order_delivered_created ON orders (created_at) INCLUDE (final_amount, currency)
+    WHERE status = 'DELIVERED';
@@ -0,0 +1,4 @@
+-- order_outbox 생성 시각 인덱스
+-- 릴레이가 주기마다 실행하는 MIN(created_at) (outbox 지연 게이지) 이 적체 상황에서 전체 스캔이 되지 않도록 한다.
+-- V4 는 이미 적용된 환경이 있어 체크섬이 바뀌지 않도록 별도 migration 으로 추가한다.
+CREATE INDEX idx_order_outbox_created_at ON order_outbox (created_at);
@@ -0,0 +1,10 @@
+-- outbox 발행 순서와 비동기 발행기 선점
+-- seq: INSERT 시 DB 가 채번하는 순번. 같은 주문의 변경은 앞 트랜잭션 커밋 후에 기록되므로 주문별로 커밋 순서를 따른다.
+--      id 는 파드별 pooled 시퀀스 블록에서 나와 파드가 다르면 기록 순서와 어긋날 수 있어 순서 기준으로 쓰지 않는다.
+-- claimed_until: 비동기 발행기가 커밋 직후 발행하려고 선점한 기한. 그 전까지 릴레이는 이 행과 같은 주문의 뒤 행을 건너뛴다.
+ALTER TABLE order_outbox ADD COLUMN seq BIGINT GENERATED ALWAYS AS IDENTITY;
+ALTER TABLE order_outbox ADD COLUMN claimed_until TIMESTAMP(6);
+
+-- 릴레이 선점 (seq 순) 과 주문별 선두 이벤트 판별
+CREATE INDEX idx_order_outbox_seq ON order_outbox (seq);
+CREATE INDEX idx_order_outbox_order_seq ON order_outbox (order_id, seq);
@@ -0,0 +1,9 @@
+-- 배송 완료 매출 인덱스를 잠금 없이 교체
+-- V3 (생성) 과 V6 (DROP 후 재생성) 은 트랜잭션 안의 일반 CREATE INDEX 라 운영 테이블에서 빌드 내내 orders 쓰기를 막고,
+-- V6 은 DROP 과 CREATE 사이에 인덱스가 없는 구간까지 생긴다. 이미 적용된 환경이 있어 체크섬이 바뀌지 않도록 고치지 않고,
+-- 새 이름으로 CONCURRENTLY 생성한 뒤 기존 인덱스를 CONCURRENTLY 제거한다.
+-- CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없으므로 V9__order_delivered_revenue_index_concurrently.sql.conf 에서
+-- executeInTransaction=false 로 둔다. 중간에 실패하면 INVALID 인덱스가 남을 수 있어 IF NOT EXISTS / IF EXISTS 로 재실행 가능하게 한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_delivered_revenue ON orders (created_at) INCLUDE (final_amount, currency)
+    WHERE status = 'DELIVERED';
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_delivered_created;
@@ -0,0 +1,91 @@
+package com.eksmsa.learning.orderservice.benchmark;
+
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.event.OrderEventCodec;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.eksmsa.learning.orderservice.service.OrderEventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이벤트 3채널 발행 비교 벤치마크 (채널별 convertAndSend 3회 vs 단일 파이프라인)
+ * 로컬 Redis 가 필요하다 (기본 localhost:6379, -Dredis.host / -Dredis.port 로 변경).
+ *
+ * 실행: mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *         "-Dexec.args=-cp %classpath org.openjdk.jmh.Main EventPublishBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventPublishBenchmark {
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private OrderEventService orderEventService;
+    private ObjectMapper objectMapper;
+    private OrderEvent event;
+    private List<OrderOutboxEvent> outboxEvents;
+
+    @Setup
+    public void setUp() throws Exception {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+            System.getProperty("redis.host", "localhost"), Integer.getInteger("redis.port", 6379));
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+
+        // RedisConfig 와 동일한 직렬화 설정
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        orderEventService = new OrderEventService(redisTemplate, new OrderJsonMapper(), 100_000L, OrderEventCodec.Format.BINARY);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        event = OrderEvent.orderCreated("ORD-BENCH-001", "CUST-001", "홍길동", new BigDecimal("20000"), "KRW");
+
+        // 커밋 직후 발행 경로처럼 메모리의 이벤트 객체를 함께 가진 outbox 행
+        OrderOutboxEvent outboxEvent = new OrderOutboxEvent(event.getEventId(), event.getEventType(),
+            event.getOrderId(), objectMapper.writeValueAsString(event));
+        outboxEvent.setEvent(event);
+        outboxEvents = List.of(outboxEvent);
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    /**
+     * 기존 방식 - 채널마다 convertAndSend (채널마다 값 재직렬화 + 왕복 1회)
+     */
+    @Benchmark
+    public void sequentialConvertAndSend() throws Exception {
+        String eventJson = objectMapper.writeValueAsString(event);
+        redisTemplate.convertAndSend(OrderEventService.ORDER_EVENTS_STREAM, eventJson);
+        redisTemplate.convertAndSend(OrderEventService.ORDER_NOTIFICATIONS_STREAM, eventJson);
+        redisTemplate.convertAndSend(OrderEventService.ORDER_ANALYTICS_STREAM, eventJson);
+    }
+
+    /**
+     * 개선 방식 - outbox 발행 경로, 한 번 인코딩한 바이트로 3개 스트림에 하나의 파이프라인으로 XADD
+     */
+    @Benchmark
+    public void pipelined() {
+        orderEventService.publishOutboxEvents(outboxEvents);
+    }
+}
@@ -0,0 +1,48 @@
+package com.eksmsa.learning.orderservice.benchmark;
+
+import com.eksmsa.learning.orderservice.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 ID 생성 방식 비교 벤치마크 (기존 UUID 방식 vs Snowflake)
+ *
+ * 실행: mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *         "-Dexec.args=-cp %classpath org.openjdk.jmh.Main IdGeneratorBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(1);
+
+    @Benchmark
+    @Threads(1)
+    public String legacyUuid() {
+        return "ORD-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String snowflake() {
+        return snowflake.nextId("ORD-");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String legacyUuidContended() {
+        return legacyUuid();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String snowflakeContended() {
+        return snowflake.nextId("ORD-");
+    }
+}
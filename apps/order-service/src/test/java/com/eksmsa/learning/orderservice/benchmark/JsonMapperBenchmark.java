@@ -0,0 +1,150 @@
+package com.eksmsa.learning.orderservice.benchmark;
+
+import com.eksmsa.learning.orderservice.dto.OrderItemResponse;
+import com.eksmsa.learning.orderservice.dto.OrderResponse;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 직렬화 경로 비교 벤치마크
+ * - legacy: 컴포넌트마다 만든 기본 ObjectMapper 로 writeValueAsString / readValue(String, Class),
+ *   캐시 값은 GenericJackson2JsonRedisSerializer 로 JSON 문자열을 한 번 더 감싼 형태
+ * - shared: OrderJsonMapper (Blackbird + 미리 만든 ObjectReader/ObjectWriter), byte[] 를 직접 읽고 쓰기
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 확인한다.
+ *
+ * 실행: mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *         "-Dexec.args=-cp %classpath org.openjdk.jmh.Main JsonMapperBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMapperBenchmark {
+
+    private ObjectMapper legacyMapper;
+    private GenericJackson2JsonRedisSerializer legacyCacheSerializer;
+
+    private ObjectReader eventReader;
+    private ObjectWriter eventWriter;
+    private ObjectReader responseReader;
+    private ObjectWriter responseWriter;
+
+    private OrderEvent event;
+    private OrderResponse response;
+
+    private byte[] eventBytes;
+    private byte[] responseBytes;
+    private byte[] legacyCacheBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        legacyMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        legacyCacheSerializer = new GenericJackson2JsonRedisSerializer();
+
+        OrderJsonMapper jsonMapper = new OrderJsonMapper();
+        eventReader = jsonMapper.getEventReader();
+        eventWriter = jsonMapper.getEventWriter();
+        responseReader = jsonMapper.getResponseReader();
+        responseWriter = jsonMapper.getResponseWriter();
+
+        event = OrderEvent.orderCreated("ORD-1845372919283712", "CUST-001", "홍길동",
+            new BigDecimal("125000.00"), "KRW");
+        response = sampleResponse();
+
+        eventBytes = eventWriter.writeValueAsBytes(event);
+        responseBytes = responseWriter.writeValueAsBytes(response);
+        legacyCacheBytes = legacyCacheSerializer.serialize(legacyMapper.writeValueAsString(response));
+    }
+
+    private static OrderResponse sampleResponse() {
+        OrderResponse order = new OrderResponse();
+        order.setId("ORD-1845372919283712");
+        order.setCustomerId("CUST-001");
+        order.setCustomerName("홍길동");
+        order.setCustomerEmail("hong@example.com");
+        order.setStatus(OrderStatus.SHIPPED);
+        order.setTotalAmount(new BigDecimal("120000.00"));
+        order.setShippingAmount(new BigDecimal("5000.00"));
+        order.setFinalAmount(new BigDecimal("125000.00"));
+        order.setCurrency("KRW");
+        order.setShippingAddress("서울특별시 강남구 테헤란로 123");
+        order.setTrackingNumber("TRK-20261016-0001");
+        order.setCreatedAt(LocalDateTime.of(2026, 10, 16, 9, 30));
+        order.setUpdatedAt(LocalDateTime.of(2026, 10, 16, 14, 5));
+
+        List<OrderItemResponse> items = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            OrderItemResponse item = new OrderItemResponse();
+            item.setId((long) i);
+            item.setProductId("PROD-00" + i);
+            item.setProductName("상품 " + i);
+            item.setUnitPrice(new BigDecimal("40000.00"));
+            item.setQuantity(1);
+            item.setSubtotal(new BigDecimal("40000.00"));
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+
+    // ===== 주문 이벤트 =====
+
+    @Benchmark
+    public byte[] eventWriteLegacy() throws Exception {
+        return legacyMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] eventWriteShared() throws Exception {
+        return eventWriter.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public OrderEvent eventReadLegacy() throws Exception {
+        return legacyMapper.readValue(new String(eventBytes, StandardCharsets.UTF_8), OrderEvent.class);
+    }
+
+    @Benchmark
+    public OrderEvent eventReadShared() throws Exception {
+        return eventReader.readValue(eventBytes);
+    }
+
+    // ===== 주문 캐시 값 =====
+
+    @Benchmark
+    public byte[] responseWriteLegacy() throws Exception {
+        return legacyCacheSerializer.serialize(legacyMapper.writeValueAsString(response));
+    }
+
+    @Benchmark
+    public byte[] responseWriteShared() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public OrderResponse responseReadLegacy() throws Exception {
+        Object json = legacyCacheSerializer.deserialize(legacyCacheBytes);
+        return legacyMapper.readValue(json.toString(), OrderResponse.class);
+    }
+
+    @Benchmark
+    public OrderResponse responseReadShared() throws Exception {
+        return responseReader.readValue(responseBytes);
+    }
+}
@@ -0,0 +1,90 @@
+package com.eksmsa.learning.orderservice.benchmark;
+
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.event.OrderEventCodec;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이벤트 인코딩 비교 벤치마크
+ * - legacy: JSON 문자열을 GenericJackson2JsonRedisSerializer 로 한 번 더 감싼 기존 pub/sub 값
+ * - json: 스트림 레코드에 그대로 싣는 평문 JSON
+ * - binary: OrderEventCodec 스키마 v1
+ * 이벤트당 바이트 수는 setup 에서 출력하고, 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 확인한다.
+ *
+ * 실행: mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *         "-Dexec.args=-cp %classpath org.openjdk.jmh.Main OrderEventCodecBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderEventCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GenericJackson2JsonRedisSerializer legacySerializer;
+    private OrderEventCodec codec;
+    private OrderEvent event;
+
+    private byte[] legacyBytes;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        legacySerializer = new GenericJackson2JsonRedisSerializer();
+        codec = new OrderEventCodec(new OrderJsonMapper());
+
+        event = OrderEvent.orderStatusChanged("ORD-1845372919283712", "CUST-001",
+            OrderStatus.CONFIRMED, OrderStatus.SHIPPED, "배송 시작", "SYSTEM");
+        event.setCustomerName("홍길동");
+        event.setTotalAmount(new BigDecimal("125000.00"));
+        event.setCurrency("KRW");
+
+        legacyBytes = legacySerializer.serialize(objectMapper.writeValueAsString(event));
+        jsonBytes = codec.encode(event, OrderEventCodec.Format.JSON);
+        binaryBytes = codec.encode(event, OrderEventCodec.Format.BINARY);
+        System.out.printf("%nbytes/event - legacy: %d, json: %d, binary: %d%n",
+            legacyBytes.length, jsonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeLegacy() throws Exception {
+        return legacySerializer.serialize(objectMapper.writeValueAsString(event));
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return codec.encode(event, OrderEventCodec.Format.JSON);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() throws Exception {
+        return codec.encode(event, OrderEventCodec.Format.BINARY);
+    }
+
+    @Benchmark
+    public OrderEvent decodeLegacy() throws Exception {
+        return objectMapper.readValue((String) legacySerializer.deserialize(legacyBytes), OrderEvent.class);
+    }
+
+    @Benchmark
+    public OrderEvent decodeJson() throws Exception {
+        return codec.decode(jsonBytes);
+    }
+
+    @Benchmark
+    public OrderEvent decodeBinary() throws Exception {
+        return codec.decode(binaryBytes);
+    }
+}
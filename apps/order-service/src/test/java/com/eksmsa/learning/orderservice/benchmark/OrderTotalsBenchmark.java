@@ -0,0 +1,79 @@
+package com.eksmsa.learning.orderservice.benchmark;
+
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 계산 벤치마크 (항목 1 / 10 / 100 / 1000 개)
+ * - legacy: 항목을 추가할 때마다 전체 항목 소계를 BigDecimal stream 으로 다시 더하던 기존 방식 (O(n²))
+ * - money: Order.addItem 이 Money(최소 단위 long) 로 추가된 소계만 더하는 현재 방식 (O(n))
+ * 두 방식 모두 항목 생성 후 할인/세금/배송비를 설정해 최종 금액까지 계산한다.
+ *
+ * 실행: mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *         "-Dexec.args=-cp %classpath org.openjdk.jmh.Main OrderTotalsBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderTotalsBenchmark {
+
+    private static final BigDecimal DISCOUNT = new BigDecimal("1000.00");
+    private static final BigDecimal TAX = new BigDecimal("2500.50");
+    private static final BigDecimal SHIPPING = new BigDecimal("3000.00");
+
+    @Param({"1", "10", "100", "1000"})
+    public int lines;
+
+    private BigDecimal[] unitPrices;
+
+    @Setup
+    public void setUp() {
+        unitPrices = new BigDecimal[lines];
+        for (int i = 0; i < lines; i++) {
+            unitPrices[i] = BigDecimal.valueOf(1_000 + i * 37L, 2);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal legacy() {
+        List<BigDecimal> subtotals = new ArrayList<>(lines);
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal discount = BigDecimal.ZERO;
+        BigDecimal tax = BigDecimal.ZERO;
+        BigDecimal shipping = BigDecimal.ZERO;
+        BigDecimal finalAmount = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            subtotals.add(unitPrices[i].multiply(BigDecimal.valueOf(2)));
+            total = subtotals.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            finalAmount = total.subtract(discount).add(tax).add(shipping);
+        }
+        discount = DISCOUNT;
+        finalAmount = total.subtract(discount).add(tax).add(shipping);
+        tax = TAX;
+        finalAmount = total.subtract(discount).add(tax).add(shipping);
+        shipping = SHIPPING;
+        finalAmount = total.subtract(discount).add(tax).add(shipping);
+        return finalAmount;
+    }
+
+    @Benchmark
+    public BigDecimal money() {
+        Order order = new Order("ORD-BENCH", "CUST-1", "벤치마크");
+        for (int i = 0; i < lines; i++) {
+            order.addItem(new OrderItem("PROD-1", "상품", unitPrices[i], 2));
+        }
+        order.setDiscountAmount(DISCOUNT);
+        order.setTaxAmount(TAX);
+        order.setShippingAmount(SHIPPING);
+        return order.getFinalAmount();
+    }
+}
@@ -0,0 +1,81 @@
+package com.eksmsa.learning.orderservice.benchmark;
+
+import com.eksmsa.learning.orderservice.revenue.RevenueIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매출 인덱스 구간 합계 벤치마크
+ * 2년치 분 단위 버킷(약 105만 칸)에 주문 100만 건을 담고, 1년 / 1일 구간 합계와 점 갱신 비용을 측정한다.
+ * 비교 대상은 같은 버킷 배열을 처음부터 끝까지 더하는 선형 합산이다.
+ *
+ * 실행: mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *         "-Dexec.args=-cp %classpath org.openjdk.jmh.Main RevenueIndexBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RevenueIndexBenchmark {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int MINUTES = 2 * 365 * 24 * 60;
+
+    private RevenueIndex index;
+    private long[] buckets;
+    private LocalDateTime yearStart;
+    private LocalDateTime yearEnd;
+    private LocalDateTime dayEnd;
+    private long firstBucket;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        index = new RevenueIndex(Duration.ofMinutes(1));
+        buckets = new long[MINUTES];
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000_000; i++) {
+            int minute = random.nextInt(MINUTES);
+            long amount = RevenueIndex.toMinorUnits(BigDecimal.valueOf(random.nextInt(10_000_000), 2));
+            buckets[minute] += amount;
+            index.add(BASE_TIME.plusMinutes(minute), amount);
+        }
+        firstBucket = index.bucketOf(BASE_TIME);
+        yearStart = BASE_TIME.plusDays(100);
+        yearEnd = yearStart.plusYears(1).minusSeconds(1);
+        dayEnd = yearStart.plusDays(1).minusSeconds(1);
+    }
+
+    @Benchmark
+    public BigDecimal yearRangeIndex() {
+        return RevenueIndex.fromMinorUnits(index.sum(yearStart, yearEnd));
+    }
+
+    @Benchmark
+    public BigDecimal dayRangeIndex() {
+        return RevenueIndex.fromMinorUnits(index.sum(yearStart, dayEnd));
+    }
+
+    @Benchmark
+    public BigDecimal yearRangeLinear() {
+        int from = (int) (index.bucketOf(yearStart) - firstBucket);
+        int to = (int) (index.bucketOf(yearEnd) - firstBucket);
+        long sum = 0;
+        for (int i = from; i <= to; i++) {
+            sum += buckets[i];
+        }
+        return RevenueIndex.fromMinorUnits(sum);
+    }
+
+    @Benchmark
+    public void pointUpdate() {
+        index.addToBucket(firstBucket + (counter++ & 0xFFFFF), 100);
+    }
+}
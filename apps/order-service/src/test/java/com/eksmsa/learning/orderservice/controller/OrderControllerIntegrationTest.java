@@ -83,11 +83,36 @@ class OrderControllerIntegrationTest {
         mockMvc.perform(post("/api/orders")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpected(status().isBadRequest())
+                .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.errors").exists());
     }
 
+    @Test
+    void 주문_일괄_생성_API_테스트() throws Exception {
+        // Given - 유효한 주문 1건과 상품이 없는 주문 1건
+        OrderItemRequest itemRequest = new OrderItemRequest("PROD-001", "테스트 상품", new BigDecimal("10000"), 2);
+
+        OrderCreateRequest valid = new OrderCreateRequest();
+        valid.setCustomerId("CUST-001");
+        valid.setCustomerName("홍길동");
+        valid.setItems(Arrays.asList(itemRequest));
+
+        OrderCreateRequest invalid = new OrderCreateRequest();
+        invalid.setCustomerId("CUST-002");
+        invalid.setCustomerName("김철수");
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(valid, invalid))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.data.total").value(2))
+                .andExpect(jsonPath("$.data.succeeded").value(1))
+                .andExpect(jsonPath("$.data.results[0].success").value(true))
+                .andExpect(jsonPath("$.data.results[1].success").value(false));
+    }
+
     @Test
     void 주문_목록_조회_API_테스트() throws Exception {
         // When & Then
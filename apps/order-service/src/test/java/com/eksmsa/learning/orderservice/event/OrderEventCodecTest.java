@@ -0,0 +1,107 @@
+package com.eksmsa.learning.orderservice.event;
+
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventCodecTest {
+
+    private final OrderEventCodec codec = new OrderEventCodec();
+
+    @Test
+    void 바이너리_왕복_인코딩() throws IOException {
+        // Given
+        OrderEvent event = OrderEvent.orderStatusChanged("ORD-001", "CUST-001",
+            OrderStatus.PENDING, OrderStatus.CONFIRMED, "주문 확인", "ADMIN");
+        event.setTotalAmount(new BigDecimal("20000.50"));
+        event.setCurrency("KRW");
+        event.setCustomerName("홍길동");
+        event.setTimestamp(LocalDateTime.of(2026, 10, 16, 12, 34, 56, 789_000_000));
+
+        // When
+        byte[] data = codec.encode(event, OrderEventCodec.Format.BINARY);
+        OrderEvent decoded = codec.decode(data);
+
+        // Then
+        assertEquals(OrderEventCodec.FORMAT_BINARY, data[0]);
+        assertEquals(OrderEventCodec.SCHEMA_VERSION, data[1]);
+        assertEquals(event.getEventId(), decoded.getEventId());
+        assertEquals(OrderEvent.ORDER_STATUS_CHANGED, decoded.getEventType());
+        assertEquals("ORD-001", decoded.getOrderId());
+        assertEquals("CUST-001", decoded.getCustomerId());
+        assertEquals("홍길동", decoded.getCustomerName());
+        assertEquals(OrderStatus.CONFIRMED, decoded.getOrderStatus());
+        assertEquals(OrderStatus.PENDING, decoded.getPreviousStatus());
+        assertEquals(new BigDecimal("20000.50"), decoded.getTotalAmount());
+        assertEquals("KRW", decoded.getCurrency());
+        assertEquals("주문 확인", decoded.getReason());
+        assertEquals("ADMIN", decoded.getChangedBy());
+        assertEquals(event.getTimestamp(), decoded.getTimestamp());
+    }
+
+    @Test
+    void null_필드와_큰_금액과_알_수_없는_이벤트_타입() throws IOException {
+        // Given
+        OrderEvent event = new OrderEvent("ORDER_REFUNDED", "ORD-002");
+        event.setTotalAmount(new BigDecimal("123456789012345678901234567890.1234"));
+        event.setTimestamp(null);
+
+        // When
+        OrderEvent decoded = codec.decode(OrderEventCodec.encodeBinary(event));
+
+        // Then
+        assertEquals("ORDER_REFUNDED", decoded.getEventType());
+        assertEquals(event.getTotalAmount(), decoded.getTotalAmount());
+        assertNull(decoded.getCustomerId());
+        assertNull(decoded.getOrderStatus());
+        assertNull(decoded.getTimestamp());
+    }
+
+    @Test
+    void 바이너리가_JSON_보다_작다() throws IOException {
+        // Given
+        OrderEvent event = OrderEvent.orderCreated("ORD-001", "CUST-001", "홍길동", new BigDecimal("20000"), "KRW");
+
+        // When
+        byte[] binary = codec.encode(event, OrderEventCodec.Format.BINARY);
+        byte[] json = codec.encode(event, OrderEventCodec.Format.JSON);
+
+        // Then
+        assertTrue(binary.length * 2 < json.length, "binary=" + binary.length + ", json=" + json.length);
+    }
+
+    @Test
+    void 첫_바이트로_JSON_레코드도_읽는다() throws IOException {
+        // Given - 바이너리 도입 전에 기록된 JSON 레코드
+        byte[] json = ("{\"eventId\":\"EVT-001\",\"eventType\":\"ORDER_CREATED\",\"orderId\":\"ORD-001\","
+            + "\"orderStatus\":\"PENDING\",\"timestamp\":\"2026-10-16T12:00:00\"}").getBytes(StandardCharsets.UTF_8);
+
+        // When
+        OrderEvent decoded = codec.decode(json);
+
+        // Then
+        assertEquals(OrderEventCodec.Format.JSON, OrderEventCodec.formatOf(json));
+        assertEquals("EVT-001", decoded.getEventId());
+        assertEquals(OrderStatus.PENDING, decoded.getOrderStatus());
+    }
+
+    @Test
+    void 지원하지_않는_스키마_버전과_잘린_데이터는_거부() {
+        // Given
+        byte[] data = OrderEventCodec.encodeBinary(OrderEvent.orderDelivered("ORD-001", "CUST-001"));
+        byte[] futureVersion = data.clone();
+        futureVersion[1] = 99;
+
+        // When & Then
+        assertThrows(IOException.class, () -> codec.decode(futureVersion));
+        assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(data, data.length - 3)));
+        assertThrows(IOException.class, () -> codec.decode(new byte[0]));
+    }
+}
@@ -0,0 +1,121 @@
+package com.eksmsa.learning.orderservice.id;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NodeIdLeaseTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private NodeIdLease lease;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lease = new NodeIdLease(stringRedisTemplate, "order-service-abc:1", Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 사용_중인_슬롯을_건너뛰고_빈_슬롯을_임대() {
+        // Given - 처음 시도한 두 슬롯은 다른 파드가 사용 중
+        when(valueOperations.setIfAbsent(startsWith(NodeIdLease.KEY_PREFIX), eq("order-service-abc:1"), any(Duration.class)))
+            .thenReturn(false, false, true);
+
+        // When
+        int nodeId = lease.acquire();
+
+        // Then
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(3)).setIfAbsent(keys.capture(), anyString(), any(Duration.class));
+        assertEquals(NodeIdLease.KEY_PREFIX + nodeId, keys.getAllValues().get(2));
+        assertEquals(3, keys.getAllValues().stream().distinct().count());
+        assertTrue(lease.isValid());
+        lease.release();
+    }
+
+    @Test
+    void 모든_슬롯이_사용_중이면_기동_실패() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> lease.acquire());
+        verify(valueOperations, times(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+            .setIfAbsent(anyString(), anyString(), any(Duration.class));
+        assertFalse(lease.isValid());
+    }
+
+    @Test
+    void 다른_소유자가_슬롯을_가져가면_새_슬롯을_임대해_ID_생성_계속() {
+        // Given - 임대 획득 후 연장 시점에 키가 만료되어 다른 파드가 선점, 새로 찾은 슬롯은 비어 있음
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true, false, true);
+        lenient().when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+        lease.acquire();
+        LeasedIdGenerator generator = new LeasedIdGenerator(lease);
+        generator.nextId();
+
+        // When
+        lease.renew();
+
+        // Then
+        verify(valueOperations, times(3)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        assertTrue(lease.isValid());
+        long id = generator.nextId();
+        assertEquals(lease.getNodeId(), (int) ((id >> 12) & SnowflakeIdGenerator.MAX_NODE_ID));
+        lease.release();
+    }
+
+    @Test
+    void 빈_슬롯도_없으면_ID_생성_중단() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true, false);
+        lenient().when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+        int nodeId = lease.acquire();
+        LeasedIdGenerator generator = new LeasedIdGenerator(lease);
+        generator.nextId();
+
+        // When
+        lease.renew();
+
+        // Then
+        assertFalse(lease.isValid());
+        assertThrows(IllegalStateException.class, generator::nextId);
+        assertThrows(IllegalStateException.class, () -> generator.nextId("ORD-"));
+        assertEquals(nodeId, lease.getNodeId());
+        lease.release();
+    }
+
+    @Test
+    void 연장에_성공하면_임대_유지() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        lenient().when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+        lease.acquire();
+
+        // When
+        lease.renew();
+
+        // Then
+        assertTrue(lease.isValid());
+        verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        lease.release();
+    }
+}
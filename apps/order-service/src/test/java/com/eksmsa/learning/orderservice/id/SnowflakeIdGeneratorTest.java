@@ -0,0 +1,101 @@
+package com.eksmsa.learning.orderservice.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void ID는_단조_증가하고_문자열_정렬_순서와_일치() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+
+        // When & Then
+        long previousId = generator.nextId();
+        String previous = SnowflakeIdGenerator.encode(previousId);
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            String encoded = SnowflakeIdGenerator.encode(id);
+            assertTrue(id > previousId);
+            assertTrue(encoded.compareTo(previous) > 0);
+            previousId = id;
+            previous = encoded;
+        }
+    }
+
+    @Test
+    void 접두사_ID는_고정_길이() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+        // When
+        String orderId = generator.nextId("ORD-");
+
+        // Then
+        assertEquals(17, orderId.length());
+        assertTrue(orderId.startsWith("ORD-"));
+        assertTrue(orderId.substring(4).matches("[0-9A-HJKMNP-TV-Z]{13}"));
+    }
+
+    @Test
+    void ID에_노드_ID와_생성_시각이_포함() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(513);
+        long before = System.currentTimeMillis();
+
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertEquals(513, (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID);
+        assertTrue(SnowflakeIdGenerator.extractTimestamp(id) >= before);
+    }
+
+    @Test
+    void 여러_스레드에서_중복_없이_생성() throws Exception {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<java.util.concurrent.Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (java.util.concurrent.Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void 범위를_벗어난_노드_ID는_거부() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+    }
+}
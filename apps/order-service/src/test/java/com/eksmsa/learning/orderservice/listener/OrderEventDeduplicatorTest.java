@@ -0,0 +1,210 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import com.eksmsa.learning.orderservice.service.OrderEventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventDeduplicatorTest {
+
+    private static final String STREAM = OrderEventService.ORDER_EVENTS_STREAM;
+    private static final byte[] RAW_STREAM = STREAM.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_KEY = ("order:events:processed:" + STREAM + ":EVT-001").getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderEventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new OrderEventDeduplicator(stringRedisTemplate, meterRegistry, Duration.ofMinutes(10), 1000);
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        lenient().when(connection.streamCommands()).thenReturn(streamCommands);
+    }
+
+    /**
+     * 파이프라인 콜백을 모킹된 커넥션으로 실행하고 SET NX 결과와 GET 결과(현재 선점 값)를 돌려줌
+     */
+    private void pipelineWithSetResult(boolean acquired, String holder) {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return new ArrayList<>(Arrays.asList(acquired, holder));
+        });
+    }
+
+    private void executeWithConnection() {
+        when(stringRedisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    }
+
+    private double duplicates(String source) {
+        return meterRegistry.get("orders.events.dedupe.duplicates").tag("source", source).counter().count();
+    }
+
+    @Test
+    void 처음_보는_이벤트는_짧은_처리_임대로_선점하고_ACK_하지_않는다() {
+        // Given
+        pipelineWithSetResult(true, "order-service");
+
+        // When
+        boolean claimed = deduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001");
+
+        // Then - 처리 도중 죽어도 레코드가 pending 으로 남아 회수되도록
+        assertTrue(claimed);
+        verify(stringCommands).set(eq(RAW_KEY), eq(raw("order-service")),
+            argThat((Expiration expiration) -> expiration.getExpirationTimeInSeconds() == 120),
+            eq(SetOption.ifAbsent()));
+        verify(streamCommands, never()).xAck(any(byte[].class), anyString(), any(RecordId[].class));
+    }
+
+    @Test
+    void 처리를_마치면_완료로_기록하면서_ACK_을_한_번의_파이프라인으로_보낸다() {
+        // Given
+        pipelineWithSetResult(true, null);
+
+        // When
+        deduplicator.complete(STREAM, RecordId.of("1-0"), "EVT-001");
+
+        // Then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(stringCommands).set(eq(RAW_KEY), eq(raw(OrderEventDeduplicator.DONE)),
+            argThat((Expiration expiration) -> expiration.getExpirationTimeInSeconds() == 86400),
+            eq(SetOption.upsert()));
+        verify(streamCommands).xAck(RAW_STREAM, "order-service", RecordId.of("1-0"));
+    }
+
+    @Test
+    void 처리를_마친_이벤트의_레코드는_ACK_하고_건너뛴다() {
+        // Given
+        pipelineWithSetResult(false, OrderEventDeduplicator.DONE);
+        executeWithConnection();
+
+        // When
+        boolean claimed = deduplicator.claim(STREAM, RecordId.of("2-0"), "EVT-001");
+
+        // Then
+        assertFalse(claimed);
+        verify(streamCommands).xAck(RAW_STREAM, "order-service", RecordId.of("2-0"));
+        assertEquals(1.0, duplicates("redis"));
+    }
+
+    @Test
+    void 다른_컨슈머가_처리_중인_이벤트의_레코드는_pending_으로_남긴다() {
+        // Given
+        pipelineWithSetResult(false, "order-service-1");
+
+        // When
+        boolean claimed = deduplicator.claim(STREAM, RecordId.of("2-0"), "EVT-001");
+
+        // Then - 그 컨슈머가 실패하거나 죽으면 이 레코드가 회수되어 다시 처리될 수 있어야 함
+        assertFalse(claimed);
+        verify(stringRedisTemplate, never()).execute(any(RedisCallback.class));
+        assertEquals(1.0, meterRegistry.get("orders.events.dedupe.in-progress").counter().count());
+    }
+
+    @Test
+    void 로컬에서_처리를_마친_이벤트는_SET_없이_ACK_만_보낸다() {
+        // Given
+        pipelineWithSetResult(true, null);
+        deduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001");
+        deduplicator.complete(STREAM, RecordId.of("1-0"), "EVT-001");
+        executeWithConnection();
+
+        // When - outbox 재발행으로 같은 이벤트가 다른 레코드로 도착
+        boolean claimed = deduplicator.claim(STREAM, RecordId.of("2-0"), "EVT-001");
+
+        // Then
+        assertFalse(claimed);
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(streamCommands).xAck(RAW_STREAM, "order-service", RecordId.of("2-0"));
+        assertEquals(1.0, duplicates("local"));
+    }
+
+    @Test
+    void 처리를_마치지_않은_이벤트는_로컬에서_건너뛰지_않는다() {
+        // Given - 선점 후 처리에 실패
+        pipelineWithSetResult(true, null);
+        deduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001");
+        deduplicator.release(STREAM, "EVT-001");
+
+        // When - pending 으로 남은 레코드가 회수되어 다시 도착
+        boolean claimed = deduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001");
+
+        // Then
+        assertTrue(claimed);
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of("order:events:processed:" + STREAM + ":EVT-001")), eq("order-service"));
+        assertEquals(0.0, duplicates("local"));
+    }
+
+    @Test
+    void 같은_이벤트라도_스트림이_다르면_각각_처리() {
+        // Given
+        pipelineWithSetResult(true, null);
+        deduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001");
+        deduplicator.complete(STREAM, RecordId.of("1-0"), "EVT-001");
+
+        // When
+        boolean claimed = deduplicator.claim(OrderEventService.ORDER_ANALYTICS_STREAM, RecordId.of("1-0"), "EVT-001");
+
+        // Then
+        assertTrue(claimed);
+        verify(stringRedisTemplate, times(3)).executePipelined(any(RedisCallback.class));
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 로컬_집합은_두_세대를_넘기면_비워진다() {
+        // Given - 세대당 1건
+        OrderEventDeduplicator.SeenSet seenSet = new OrderEventDeduplicator.SeenSet(Duration.ofMinutes(10), 2);
+
+        // When
+        seenSet.add("a");
+        seenSet.add("b");
+        seenSet.add("c");
+
+        // Then
+        assertFalse(seenSet.contains("a"));
+        assertTrue(seenSet.contains("c"));
+        assertTrue(seenSet.size() <= 2);
+    }
+}
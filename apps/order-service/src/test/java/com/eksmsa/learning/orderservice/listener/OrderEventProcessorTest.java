@@ -0,0 +1,107 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventProcessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderEventProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new OrderEventProcessor(meterRegistry);
+        ReflectionTestUtils.setField(processor, "laneCount", 4);
+        ReflectionTestUtils.setField(processor, "laneCapacity", 16);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.stop();
+    }
+
+    @Test
+    void 같은_주문의_이벤트는_제출_순서대로_처리() throws InterruptedException {
+        // Given
+        processor.start();
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(300);
+
+        // When - 주문 3개의 이벤트를 섞어서 제출
+        for (int i = 0; i < 100; i++) {
+            for (String orderId : List.of("ORD-001", "ORD-002", "ORD-003")) {
+                int sequence = i;
+                processor.submit(orderId, () -> {
+                    processed.computeIfAbsent(orderId, key -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(sequence);
+                    done.countDown();
+                });
+            }
+        }
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (List<Integer> sequences : processed.values()) {
+            for (int i = 0; i < sequences.size(); i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        }
+    }
+
+    @Test
+    void 서로_다른_레인의_주문은_동시에_처리() throws InterruptedException {
+        // Given - 서로 다른 레인에 배정되는 두 주문
+        processor.start();
+        String first = "ORD-001";
+        String second = null;
+        for (int i = 2; second == null; i++) {
+            String candidate = "ORD-00" + i;
+            if (OrderEventProcessor.laneOf(candidate, 4) != OrderEventProcessor.laneOf(first, 4)) {
+                second = candidate;
+            }
+        }
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch secondProcessed = new CountDownLatch(1);
+
+        // When - 첫 번째 레인이 막혀 있어도
+        processor.submit(first, () -> {
+            try {
+                blocked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        processor.submit(second, secondProcessed::countDown);
+
+        // Then - 다른 레인은 계속 처리
+        assertTrue(secondProcessed.await(5, TimeUnit.SECONDS));
+        blocked.countDown();
+        assertEquals(4, meterRegistry.get("orders.events.processor.queue.depth").gauges().size());
+    }
+
+    @Test
+    void 시작하지_않은_처리기는_호출_스레드에서_처리() {
+        // Given
+        List<String> threads = new ArrayList<>();
+
+        // When
+        processor.submit("ORD-001", () -> threads.add(Thread.currentThread().getName()));
+
+        // Then
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+}
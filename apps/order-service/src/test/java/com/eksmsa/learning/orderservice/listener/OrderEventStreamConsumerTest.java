@@ -0,0 +1,230 @@
+package com.eksmsa.learning.orderservice.listener;
+
+import com.eksmsa.learning.orderservice.service.OrderEventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventStreamConsumerTest {
+
+    private static final String STREAM = OrderEventService.ORDER_EVENTS_STREAM;
+    private static final byte[] EVENT_DATA = "{\"eventId\":\"EVT-001\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private OrderEventListener orderEventListener;
+
+    @Mock
+    private OrderEventDeduplicator orderEventDeduplicator;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderEventStreamConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 레인 처리기가 시작되지 않은 상태에서는 호출 스레드에서 바로 처리
+        OrderEventProcessor processor = new OrderEventProcessor(meterRegistry);
+        consumer = new OrderEventStreamConsumer(stringRedisTemplate, orderEventListener, processor,
+            orderEventDeduplicator, meterRegistry);
+        ReflectionTestUtils.setField(consumer, "consumerName", "order-service-0");
+        lenient().when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+    }
+
+    private MapRecord<String, String, byte[]> record(String id) {
+        return StreamRecords.newRecord()
+            .in(STREAM)
+            .withId(RecordId.of(id))
+            .ofMap(Map.of(OrderEventService.FIELD_TYPE, "ORDER_CREATED".getBytes(StandardCharsets.UTF_8),
+                OrderEventService.FIELD_EVENT, EVENT_DATA));
+    }
+
+    private MapRecord<String, String, byte[]> recordWithEventId(String id) {
+        Map<String, byte[]> fields = new LinkedHashMap<>();
+        fields.put(OrderEventService.FIELD_TYPE, "ORDER_CREATED".getBytes(StandardCharsets.UTF_8));
+        fields.put(OrderEventService.FIELD_EVENT_ID, "EVT-001".getBytes(StandardCharsets.UTF_8));
+        fields.put(OrderEventService.FIELD_EVENT, EVENT_DATA);
+        return StreamRecords.newRecord().in(STREAM).withId(RecordId.of(id)).ofMap(fields);
+    }
+
+    private PendingMessage pendingMessage(String id, Duration idle, long deliveries) {
+        return new PendingMessage(RecordId.of(id), Consumer.from("order-service", "order-service-1"), idle, deliveries);
+    }
+
+    @Test
+    void 처리에_성공한_레코드만_ACK() throws Exception {
+        // When
+        consumer.onMessage(record("1-0"));
+
+        // Then
+        verify(orderEventListener).onEvent(STREAM, EVENT_DATA);
+        verify(streamOperations).acknowledge(STREAM, "order-service", RecordId.of("1-0"));
+        assertEquals(1.0, meterRegistry.get("orders.events.stream.processed").counter().count());
+    }
+
+    @Test
+    void 처리에_실패한_레코드는_pending_으로_남긴다() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("boom")).when(orderEventListener).onEvent(anyString(), any(byte[].class));
+
+        // When
+        consumer.onMessage(record("1-0"));
+
+        // Then
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+        assertEquals(1.0, meterRegistry.get("orders.events.stream.failures").counter().count());
+    }
+
+    @Test
+    void 유휴_pending_레코드를_회수해_다시_처리() throws Exception {
+        // Given - 90초 유휴 레코드는 회수, 5초 유휴 레코드는 아직 소유 파드가 처리 중
+        PendingMessages pending = new PendingMessages("order-service", List.of(
+            pendingMessage("1-0", Duration.ofSeconds(90), 1),
+            pendingMessage("2-0", Duration.ofSeconds(5), 1)));
+        when(streamOperations.pending(eq(STREAM), eq("order-service"), any(Range.class), eq(100L))).thenReturn(pending);
+
+        ByteRecord claimed = StreamRecords.newRecord()
+            .in(STREAM.getBytes(StandardCharsets.UTF_8))
+            .withId(RecordId.of("1-0"))
+            .ofBytes(Map.of(OrderEventService.FIELD_EVENT.getBytes(StandardCharsets.UTF_8), EVENT_DATA));
+        when(stringRedisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        when(connection.streamCommands()).thenReturn(streamCommands);
+        when(streamCommands.xClaim(STREAM.getBytes(StandardCharsets.UTF_8), "order-service", "order-service-0",
+            Duration.ofSeconds(60), RecordId.of("1-0"))).thenReturn(List.of(claimed));
+
+        // When
+        int reclaimed = consumer.reclaimPending(STREAM);
+
+        // Then
+        assertEquals(1, reclaimed);
+        verify(orderEventListener).onEvent(STREAM, EVENT_DATA);
+        verify(streamOperations).acknowledge(STREAM, "order-service", RecordId.of("1-0"));
+        assertEquals(1.0, meterRegistry.get("orders.events.stream.reclaimed").counter().count());
+    }
+
+    @Test
+    void 최대_전달_횟수를_넘긴_레코드는_dead_letter_로_ACK() throws Exception {
+        // Given
+        PendingMessages pending = new PendingMessages("order-service", List.of(
+            pendingMessage("1-0", Duration.ofSeconds(90), 5)));
+        when(streamOperations.pending(eq(STREAM), eq("order-service"), any(Range.class), eq(100L))).thenReturn(pending);
+
+        // When
+        int reclaimed = consumer.reclaimPending(STREAM);
+
+        // Then
+        assertEquals(0, reclaimed);
+        verify(stringRedisTemplate, never()).execute(any(RedisCallback.class));
+        verify(streamOperations).acknowledge(STREAM, "order-service", RecordId.of("1-0"));
+        verify(orderEventListener, never()).onEvent(anyString(), any(byte[].class));
+        assertEquals(1.0, meterRegistry.get("orders.events.stream.dead-letter").counter().count());
+    }
+
+    @Test
+    void 선점한_이벤트는_처리를_마친_뒤에_완료_기록과_함께_ACK() throws Exception {
+        // Given
+        when(orderEventDeduplicator.isEnabled()).thenReturn(true);
+        when(orderEventDeduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001")).thenReturn(true);
+
+        // When
+        consumer.onMessage(recordWithEventId("1-0"));
+
+        // Then - ACK 은 완료 기록 파이프라인에 포함
+        InOrder order = inOrder(orderEventListener, orderEventDeduplicator);
+        order.verify(orderEventListener).onEvent(STREAM, EVENT_DATA);
+        order.verify(orderEventDeduplicator).complete(STREAM, RecordId.of("1-0"), "EVT-001");
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+        assertEquals(1.0, meterRegistry.get("orders.events.stream.processed").counter().count());
+    }
+
+    @Test
+    void 이미_처리된_이벤트는_건너뛴다() throws Exception {
+        // Given
+        when(orderEventDeduplicator.isEnabled()).thenReturn(true);
+        when(orderEventDeduplicator.claim(STREAM, RecordId.of("2-0"), "EVT-001")).thenReturn(false);
+
+        // When
+        consumer.onMessage(recordWithEventId("2-0"));
+
+        // Then
+        verify(orderEventListener, never()).onEvent(anyString(), any(byte[].class));
+        verify(orderEventDeduplicator, never()).complete(any(), any(), any());
+        assertEquals(0.0, meterRegistry.get("orders.events.stream.processed").counter().count());
+    }
+
+    @Test
+    void 선점_후_처리에_실패하면_선점만_풀고_레코드는_pending_으로_남긴다() throws Exception {
+        // Given
+        when(orderEventDeduplicator.isEnabled()).thenReturn(true);
+        when(orderEventDeduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001")).thenReturn(true);
+        doThrow(new IllegalStateException("boom")).when(orderEventListener).onEvent(anyString(), any(byte[].class));
+
+        // When
+        consumer.onMessage(recordWithEventId("1-0"));
+
+        // Then - 스트림 끝에 다시 넣지 않고 회수 경로에서 같은 레코드로 재시도
+        verify(orderEventDeduplicator).release(STREAM, "EVT-001");
+        verify(orderEventDeduplicator, never()).complete(any(), any(), any());
+        verify(stringRedisTemplate, never()).execute(any(RedisCallback.class));
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+        assertEquals(1.0, meterRegistry.get("orders.events.stream.failures").counter().count());
+    }
+
+    @Test
+    void 완료_기록에_실패해도_처리한_이벤트의_선점은_풀지_않는다() throws Exception {
+        // Given
+        when(orderEventDeduplicator.isEnabled()).thenReturn(true);
+        when(orderEventDeduplicator.claim(STREAM, RecordId.of("1-0"), "EVT-001")).thenReturn(true);
+        doThrow(new IllegalStateException("redis down"))
+            .when(orderEventDeduplicator).complete(STREAM, RecordId.of("1-0"), "EVT-001");
+
+        // When
+        consumer.onMessage(recordWithEventId("1-0"));
+
+        // Then
+        verify(orderEventDeduplicator, never()).release(anyString(), anyString());
+        assertEquals(1.0, meterRegistry.get("orders.events.stream.processed").counter().count());
+        assertEquals(0.0, meterRegistry.get("orders.events.stream.failures").counter().count());
+    }
+}
@@ -0,0 +1,91 @@
+package com.eksmsa.learning.orderservice.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollingWindowCounterTest {
+
+    @Test
+    void 윈도를_벗어난_초의_값은_합계에서_빠진다() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_000_000L);
+        RollingWindowCounter counter = new RollingWindowCounter(2, 60, clock::get);
+
+        // When
+        counter.add(0, 1);
+        counter.add(1, 500);
+        clock.addAndGet(30_000);
+        counter.add(0, 2);
+
+        // Then
+        assertArrayEquals(new long[] {3, 500}, counter.sum(60));
+        assertArrayEquals(new long[] {2, 0}, counter.sum(10));
+        assertEquals(3, counter.seriesSum(0, 60));
+
+        // When - 첫 기록 후 60초가 지나고, 링 한 바퀴를 돌아 같은 칸이 다시 쓰임
+        clock.addAndGet(30_000);
+        assertArrayEquals(new long[] {2, 0}, counter.sum(60));
+        clock.addAndGet(31_000);
+        counter.add(0, 5);
+
+        // Then
+        assertArrayEquals(new long[] {5, 0}, counter.sum(60));
+        assertThrows(IllegalArgumentException.class, () -> counter.sum(61));
+    }
+
+    @Test
+    void 동시_기록은_잠금_없이_모두_반영() throws Exception {
+        // Given
+        RollingWindowCounter counter = new RollingWindowCounter(1, 900);
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long second = counter.currentSecond();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    counter.add(second + (i % 3), 0, 1);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals((long) threads * perThread, counter.sum(second + 2, 900)[0]);
+    }
+
+    @Test
+    void 스냅샷은_varint_로_인코딩되고_파드_간_병합된다() {
+        // Given
+        WindowSnapshot first = new WindowSnapshot(1_700_000_000L, new long[][] {{1, 0, 300}, {10, 127, 128}});
+        WindowSnapshot second = new WindowSnapshot(1_700_000_005L, new long[][] {{2, 5, 0}, {20, 1, Long.MAX_VALUE - 128}});
+
+        // When
+        byte[] encoded = first.encode();
+        WindowSnapshot decoded = WindowSnapshot.decode(encoded);
+        WindowSnapshot merged = decoded.merge(WindowSnapshot.decode(second.encode()));
+
+        // Then
+        assertTrue(encoded.length < 20);
+        assertEquals(1_700_000_000L, decoded.getSecond());
+        assertArrayEquals(first.getTotals(), decoded.getTotals());
+        assertEquals(1_700_000_005L, merged.getSecond());
+        assertArrayEquals(new long[][] {{3, 5, 300}, {30, 128, Long.MAX_VALUE}}, merged.getTotals());
+        assertThrows(IllegalArgumentException.class, () -> WindowSnapshot.decode(new byte[] {1, (byte) 0x80}));
+        assertThrows(IllegalArgumentException.class, () -> new WindowSnapshot(0, new long[][] {{-1}}).encode());
+    }
+}
@@ -0,0 +1,81 @@
+package com.eksmsa.learning.orderservice.money;
+
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderItem;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void 금액은_소수_둘째_자리_최소_단위로_계산() {
+        // Given
+        Money price = Money.of(new BigDecimal("1234.5"));
+
+        // When / Then
+        assertEquals(123450, price.getMinorUnits());
+        assertEquals(new BigDecimal("3703.50"), price.times(3).toBigDecimal());
+        assertEquals(new BigDecimal("1234.49"), price.minus(Money.ofMinor(1)).toBigDecimal());
+        assertEquals(Money.ofMinor(2), Money.of(new BigDecimal("0.015")));
+        assertSame(Money.ZERO, Money.of(BigDecimal.ZERO));
+        assertNull(Money.of(null));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+    }
+
+    @Test
+    void 컨버터는_NUMERIC_값과_상호_변환() {
+        // Given
+        MoneyConverter converter = new MoneyConverter();
+
+        // When / Then
+        assertEquals(new BigDecimal("99.90"), converter.convertToDatabaseColumn(Money.ofMinor(9990)));
+        assertEquals(Money.ofMinor(9990), converter.convertToEntityAttribute(new BigDecimal("99.9")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void 주문_합계는_항목_추가와_변경분만큼_갱신() {
+        // Given
+        Order order = new Order("ORD-MONEY-001", "CUST-001", "홍길동");
+        OrderItem first = new OrderItem("PROD-1", "상품 1", new BigDecimal("10000.00"), 2);
+        OrderItem second = new OrderItem("PROD-2", "상품 2", new BigDecimal("550.50"), 1);
+
+        // When
+        order.addItem(first);
+        order.addItem(second);
+        order.setDiscountAmount(new BigDecimal("1000"));
+        order.setShippingAmount(new BigDecimal("3000"));
+
+        // Then
+        assertEquals(new BigDecimal("20550.50"), order.getTotalAmount());
+        assertEquals(new BigDecimal("22550.50"), order.getFinalAmount());
+
+        // When - 담긴 항목의 수량 변경과 삭제
+        first.updateQuantity(1);
+        order.removeItem(second);
+
+        // Then
+        assertEquals(new BigDecimal("10000.00"), order.getTotalAmount());
+        assertEquals(new BigDecimal("12000.00"), order.getFinalAmount());
+        order.calculateTotalAmount();
+        assertEquals(new BigDecimal("12000.00"), order.getFinalAmount());
+    }
+
+    @Test
+    void 최종_금액이_long_범위를_넘으면_감싸지_않고_예외() {
+        // Given - 최소 단위로 Long.MAX_VALUE 인 금액
+        BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE);
+        Order order = new Order("ORD-MONEY-002", "CUST-001", "홍길동");
+        order.setTotalAmount(max);
+        OrderItem item = new OrderItem("PROD-1", "상품 1", max, 1);
+        item.setTaxAmount(new BigDecimal("0.01"));
+
+        // When / Then
+        assertThrows(ArithmeticException.class, () -> order.setShippingAmount(new BigDecimal("0.01")));
+        assertThrows(ArithmeticException.class, item::getFinalAmount);
+    }
+}
@@ -0,0 +1,66 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 상품 INSERT 의 JDBC 배치 여부를 Hibernate 통계로 확인하는 벤치마크 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderItemInsertBatchingTest {
+
+    private static final int LINE_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 주문_상품_30건_저장시_SQL_문장_수() {
+        // Given
+        Order order = new Order("ORD-BATCH-001", "CUST-001", "홍길동");
+        for (int i = 0; i < LINE_COUNT; i++) {
+            order.addItem(new OrderItem("PROD-" + i, "테스트 상품 " + i, new BigDecimal("1000"), 1));
+        }
+
+        // When
+        entityManager.persist(order);
+        entityManager.flush();
+
+        // Then
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("주문 상품 %d건 저장 - prepared statements: %d, entity inserts: %d%n",
+            LINE_COUNT, statements, statistics.getEntityInsertCount());
+
+        // IDENTITY 사용 시 31건 (주문 1 + 상품 30 개별 INSERT)
+        // pooled 시퀀스 사용 시 시퀀스 조회 2 + 주문 INSERT 1 + 상품 배치 INSERT 1
+        assertEquals(LINE_COUNT + 1, statistics.getEntityInsertCount());
+        assertTrue(statements <= 4, "prepared statements: " + statements);
+    }
+}
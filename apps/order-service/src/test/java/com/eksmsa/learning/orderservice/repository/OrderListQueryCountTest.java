@@ -0,0 +1,185 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import com.eksmsa.learning.orderservice.dto.OrderCursorPage;
+import com.eksmsa.learning.orderservice.dto.OrderResponse;
+import com.eksmsa.learning.orderservice.dto.OrderSummaryResponse;
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderItem;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.id.IdGenerator;
+import com.eksmsa.learning.orderservice.service.OrderCacheService;
+import com.eksmsa.learning.orderservice.service.OrderItemService;
+import com.eksmsa.learning.orderservice.service.OrderOutboxService;
+import com.eksmsa.learning.orderservice.service.OrderRevenueService;
+import com.eksmsa.learning.orderservice.service.OrderService;
+import com.eksmsa.learning.orderservice.service.OrderStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주문 목록 조회가 페이지 크기와 무관하게 고정된 수의 SQL 로 처리되는지 Hibernate 통계로 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderListQueryCountTest {
+
+    private static final int ORDER_COUNT = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OrderService orderService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, mock(OrderItemService.class), mock(OrderOutboxService.class),
+            mock(Validator.class), mock(IdGenerator.class), mock(OrderCacheService.class),
+            mock(OrderStatsService.class), mock(OrderRevenueService.class), transactionManager);
+
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = new Order(String.format("ORD-LIST-%03d", i), i % 2 == 0 ? "CUST-001" : "CUST-002", "홍길동");
+            for (int j = 0; j < 3; j++) {
+                order.addItem(new OrderItem("PROD-" + j, "테스트 상품 " + j, new BigDecimal("1000"), 1));
+            }
+            order.calculateTotalAmount();
+            order.calculateFinalAmount();
+            order.updateStatus(i % 5 == 0 ? OrderStatus.SHIPPED : OrderStatus.CONFIRMED);
+            order.setCreatedAt(baseTime.plusMinutes(i));
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 전체_주문_20건_페이지_SQL_문장_수() {
+        // When
+        Page<OrderResponse> page = orderService.getAllOrders(
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // Then
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("주문 %d건 페이지 조회 - prepared statements: %d%n", PAGE_SIZE, statements);
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals(ORDER_COUNT, page.getTotalElements());
+        assertEquals("ORD-LIST-024", page.getContent().get(0).getId());
+        assertEquals("ORD-LIST-005", page.getContent().get(PAGE_SIZE - 1).getId());
+        page.getContent().forEach(order -> {
+            assertEquals(3, order.getItems().size());
+            assertEquals(1, order.getStatusHistory().size());
+        });
+
+        // ID 페이지 1 + count 1 + 주문 상품 1 + 상태 히스토리 1 (LAZY 로딩 시 2 + 2N = 42)
+        assertEquals(4, statements);
+    }
+
+    @Test
+    void 고객별_및_상태별_주문_페이지_SQL_문장_수() {
+        // When
+        Page<OrderResponse> byCustomer = orderService.getOrdersByCustomer("CUST-001", PageRequest.of(0, PAGE_SIZE));
+        long customerStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        Page<OrderResponse> byStatus = orderService.getOrdersByStatus(OrderStatus.CONFIRMED, PageRequest.of(0, PAGE_SIZE));
+        long statusStatements = statistics.getPrepareStatementCount();
+
+        // Then - 첫 페이지가 마지막 페이지이면 count 쿼리 생략
+        assertEquals(13, byCustomer.getTotalElements());
+        assertEquals(3, customerStatements);
+        assertEquals(20, byStatus.getTotalElements());
+        assertEquals(4, statusStatements);
+    }
+
+    @Test
+    void 커서_페이지는_count_없이_고정된_SQL_문장_수() {
+        // When
+        OrderCursorPage<OrderResponse> first = orderService.getOrdersByCursor(null, null, "", 10, false);
+        long statements = statistics.getPrepareStatementCount();
+        OrderCursorPage<OrderResponse> second = orderService.getOrdersByCursor(null, null, first.getNextCursor(), 10, false);
+
+        // Then - keyset 1 + 주문 상품 1 + 상태 히스토리 1
+        assertEquals(3, statements);
+        assertEquals("ORD-LIST-024", first.getContent().get(0).getId());
+        assertEquals("ORD-LIST-014", second.getContent().get(0).getId());
+        assertTrue(second.isHasNext());
+    }
+
+    @Test
+    void 커서로_고객_및_상태_필터_전체_순회() {
+        // When
+        List<String> ids = new ArrayList<>();
+        String cursor = "";
+        do {
+            OrderCursorPage<OrderResponse> page = orderService.getOrdersByCursor("CUST-001", OrderStatus.CONFIRMED, cursor, 3, true);
+            page.getContent().forEach(order -> ids.add(order.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then - 짝수 번호 13건 중 5의 배수(0, 10, 20) 제외
+        assertEquals(10, ids.size());
+        assertEquals("ORD-LIST-002", ids.get(0));
+        assertEquals("ORD-LIST-024", ids.get(ids.size() - 1));
+    }
+
+    @Test
+    void 잘못된_커서는_예외() {
+        assertThrows(IllegalArgumentException.class,
+            () -> orderService.getOrdersByCursor(null, null, "not-a-cursor", 10, false));
+    }
+
+    @Test
+    void 요약_목록은_엔티티를_로딩하지_않음() {
+        // When
+        Page<OrderSummaryResponse> page = orderService.getOrderSummaries("CUST-001", OrderStatus.CONFIRMED,
+            PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt")));
+        OrderCursorPage<OrderSummaryResponse> cursorPage =
+            orderService.getOrderSummariesByCursor(null, OrderStatus.SHIPPED, "", 2, false);
+
+        // Then - 요약 1 + count 1 + keyset 요약 1, 영속성 컨텍스트에 적재된 엔티티 없음
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(10, page.getTotalElements());
+        assertEquals("ORD-LIST-024", page.getContent().get(0).getId());
+        assertEquals(0, new BigDecimal("3000").compareTo(page.getContent().get(0).getFinalAmount()));
+        assertEquals(List.of("ORD-LIST-020", "ORD-LIST-015"),
+            cursorPage.getContent().stream().map(OrderSummaryResponse::getId).toList());
+        assertTrue(cursorPage.isHasNext());
+    }
+}
@@ -0,0 +1,160 @@
+package com.eksmsa.learning.orderservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 PostgreSQL 에서 OrderRepository 조회의 실행 계획을 EXPLAIN (ANALYZE, BUFFERS) 로 수집하는 하네스
+ * Flyway migration 을 전용 스키마에 적용하고 데이터를 채운 뒤, 조회별 계획을 target/query-plans 에 남기고
+ * 기대한 인덱스를 사용하는지 확인한다. ORDER_PLAN_DB_URL 이 설정된 경우에만 실행된다.
+ *
+ * ORDER_PLAN_DB_URL=jdbc:postgresql://localhost:5432/orderdb ORDER_PLAN_DB_USER=... ORDER_PLAN_DB_PASSWORD=... \
+ *   mvn test -Dtest=OrderQueryPlanTest
+ */
+@EnabledIfEnvironmentVariable(named = "ORDER_PLAN_DB_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderQueryPlanTest {
+
+    private static final String SCHEMA = "order_plan_test";
+    private static final int ORDER_COUNT = 200_000;
+    private static final Path PLAN_DIR = Path.of("target", "query-plans");
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException, IOException {
+        String url = System.getenv("ORDER_PLAN_DB_URL");
+        String user = System.getenv().getOrDefault("ORDER_PLAN_DB_USER", "postgres");
+        String password = System.getenv().getOrDefault("ORDER_PLAN_DB_PASSWORD", "");
+
+        Flyway flyway = Flyway.configure()
+            .dataSource(url, user, password)
+            .schemas(SCHEMA)
+            .locations("classpath:db/migration")
+            .cleanDisabled(false)
+            .load();
+        flyway.clean();
+        flyway.migrate();
+
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+            // 고객 2,000명, 상태 분포는 DELIVERED 위주, 최근 1년에 고르게 분포
+            statement.execute(
+                "INSERT INTO orders (id, customer_id, customer_name, status, total_amount, final_amount, currency, " +
+                "created_at, updated_at) " +
+                "SELECT 'ORD-' || lpad(g::text, 10, '0'), 'CUST-' || (g % 2000), '고객' || (g % 2000), " +
+                "(ARRAY['PENDING','CONFIRMED','PROCESSING','SHIPPED','DELIVERED','DELIVERED','DELIVERED'," +
+                "'DELIVERED','CANCELLED','REFUNDED'])[1 + g % 10], " +
+                "(g % 500) * 100, (g % 500) * 100, 'KRW', " +
+                "now() - (g || ' minutes')::interval * 2.6, now() " +
+                "FROM generate_series(1, " + ORDER_COUNT + ") g");
+            statement.execute("ANALYZE orders");
+        }
+        Files.createDirectories(PLAN_DIR);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * 조회 이름, Hibernate 가 생성하는 것과 같은 형태의 SQL, 계획에 나타나야 하는 인덱스
+     */
+    Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+            Arguments.of("findByCustomerIdAndStatus",
+                "SELECT id FROM orders WHERE customer_id = 'CUST-42' AND status = 'DELIVERED' " +
+                "ORDER BY created_at DESC, id DESC LIMIT 20",
+                "idx_order_customer_status_created"),
+            Arguments.of("findRecentOrdersByCustomerId",
+                "SELECT * FROM orders WHERE customer_id = 'CUST-42' ORDER BY created_at DESC LIMIT 10",
+                "idx_order_customer_created"),
+            Arguments.of("countByCustomerId",
+                "SELECT count(*) FROM orders WHERE customer_id = 'CUST-42'",
+                "idx_order_customer_created"),
+            Arguments.of("findOrderIdsByStatus",
+                "SELECT id FROM orders WHERE status = 'PENDING' ORDER BY created_at DESC, id DESC LIMIT 20",
+                "idx_order_status_created"),
+            Arguments.of("findOrderCursors(status, after)",
+                "SELECT created_at, id FROM orders WHERE status = 'SHIPPED' " +
+                "AND (created_at, id) < (now() - interval '30 days', 'ORD-0000010000') " +
+                "ORDER BY created_at DESC, id DESC LIMIT 21",
+                "idx_order_status_created"),
+            Arguments.of("getRevenueByCurrencyInRange",
+                "SELECT currency, SUM(final_amount) FROM orders WHERE status = 'DELIVERED' " +
+                "AND created_at >= now() - interval '7 days' AND created_at < now() GROUP BY currency",
+                "idx_order_delivered_revenue"),
+            Arguments.of("findActiveOrders",
+                "SELECT id FROM orders WHERE status NOT IN ('CANCELLED', 'REFUNDED') " +
+                "ORDER BY created_at DESC, id DESC LIMIT 20",
+                "idx_order_active_created"),
+            Arguments.of("findByCreatedAtBetween",
+                "SELECT id FROM orders WHERE created_at BETWEEN now() - interval '1 day' AND now() LIMIT 20",
+                "idx_order_created_at")
+        );
+    }
+
+    /**
+     * 거의 마지막 페이지를 가리키는 커서에서도 행 값 비교가 인덱스 범위 조건으로 쓰여
+     * 앞쪽 행을 걸러내며 읽지 않고 커서 위치부터 바로 읽는지 확인
+     */
+    @Test
+    void 깊은_커서_페이지는_인덱스_범위에서_시작() throws SQLException, IOException {
+        String sql = "SELECT created_at, id FROM orders WHERE status = 'SHIPPED' " +
+            "AND (created_at, id) < (now() - interval '360 days', 'ORD-0000199000') " +
+            "ORDER BY created_at DESC, id DESC LIMIT 21";
+        String plan = explain("findOrderCursors(status, deep after)", sql);
+
+        assertTrue(plan.contains("idx_order_status_created"), "인덱스를 사용하지 않음:\n" + plan);
+        assertTrue(plan.matches("(?s).*Index Cond:[^\n]*ROW\\(created_at, id\\) <.*"),
+            "커서 조건이 인덱스 범위 조건이 아님:\n" + plan);
+        assertFalse(plan.contains("Rows Removed by Filter"), "커서 앞쪽 행을 걸러내며 읽음:\n" + plan);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void 조회별_실행_계획(String name, String sql, String expectedIndex) throws SQLException, IOException {
+        String plan = explain(name, sql);
+
+        assertTrue(plan.indexOf(expectedIndex) >= 0,
+            name + " 가 " + expectedIndex + " 를 사용하지 않음:\n" + plan);
+        assertFalse(plan.indexOf("Seq Scan on orders") >= 0, name + " 가 orders 를 전체 스캔함:\n" + plan);
+    }
+
+    private String explain(String name, String sql) throws SQLException, IOException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+
+        Files.writeString(PLAN_DIR.resolve(name.replaceAll("[^A-Za-z0-9]+", "_") + ".txt"),
+            "-- " + sql + "\n" + plan);
+        return plan.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrencyRevenueIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void 통화_코드는_int_로_변환했다가_되돌릴_수_있음() {
+        // When / Then
+        assertEquals(0x4B5257, CurrencyCode.pack("KRW"));
+        assertEquals(CurrencyCode.pack("USD"), CurrencyCode.pack("usd"));
+        assertEquals("JPY", CurrencyCode.unpack(CurrencyCode.pack("JPY")));
+        assertEquals(CurrencyCode.pack("EUR"), CurrencyCode.pack("x|EUR|1", 2, 5));
+        assertThrows(IllegalArgumentException.class, () -> CurrencyCode.pack("KR"));
+        assertThrows(IllegalArgumentException.class, () -> CurrencyCode.pack("K1W"));
+        assertThrows(IllegalArgumentException.class, () -> CurrencyCode.pack(null));
+    }
+
+    @Test
+    void 통화_맵은_많은_통화가_들어와도_모두_찾음() {
+        // Given
+        CurrencyMap<Integer> map = new CurrencyMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (char c = 'A'; c <= 'Z'; c++) {
+            for (char d = 'A'; d <= 'C'; d++) {
+                int currency = CurrencyCode.pack("" + c + d + 'X');
+                map.put(currency, expected.size());
+                expected.put(currency, expected.size());
+            }
+        }
+
+        // When
+        CurrencyMap<Integer> copy = map.copy();
+        copy.put(CurrencyCode.pack("KRW"), -1);
+
+        // Then
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.size(), map.currencies().length);
+        expected.forEach((currency, value) -> assertEquals(value, map.get(currency)));
+        assertNull(map.get(CurrencyCode.pack("KRW")));
+        assertEquals(-1, copy.get(CurrencyCode.pack("KRW")));
+    }
+
+    @Test
+    void 통화별로_따로_합산() {
+        // Given
+        CurrencyRevenueIndex index = new CurrencyRevenueIndex(Duration.ofMinutes(1), Duration.ofDays(30));
+        int krw = CurrencyCode.pack("KRW");
+        int usd = CurrencyCode.pack("USD");
+        index.add(krw, BASE_TIME, 1_000_000);
+        index.add(usd, BASE_TIME.plusMinutes(1), 1_050);
+        index.add(krw, BASE_TIME.plusDays(1), 500_000);
+
+        // When
+        RevenueTotals day = index.sum(BASE_TIME, BASE_TIME.plusHours(1));
+        RevenueTotals all = index.sum(BASE_TIME, BASE_TIME.plusDays(2));
+
+        // Then
+        assertEquals(2, index.currencyCount());
+        assertEquals(Map.of(krw, 1_000_000L, usd, 1_050L), toMap(day));
+        assertEquals(Map.of(krw, 1_500_000L, usd, 1_050L), toMap(all));
+    }
+
+    @Test
+    void 환율표는_기준_통화를_거쳐_교차_환율을_계산() {
+        // Given
+        ExchangeRateTable rates = new ConfiguredExchangeRateTable("KRW", "USD=1350, JPY=9");
+        int krw = CurrencyCode.pack("KRW");
+        int usd = CurrencyCode.pack("USD");
+        int jpy = CurrencyCode.pack("JPY");
+
+        // When / Then
+        assertEquals("KRW", rates.getBaseCurrency());
+        assertEquals(BigDecimal.ONE, rates.rate(usd, usd));
+        assertEquals(new BigDecimal("1350"), rates.rate(usd, krw));
+        assertEquals(0, new BigDecimal("150").compareTo(rates.rate(usd, jpy)));
+        assertNull(rates.rate(CurrencyCode.pack("EUR"), krw));
+        assertThrows(IllegalArgumentException.class, () -> new ConfiguredExchangeRateTable("KRW", "USD:1350"));
+    }
+
+    private static Map<Integer, Long> toMap(RevenueTotals totals) {
+        Map<Integer, Long> map = new HashMap<>();
+        for (int i = 0; i < totals.size(); i++) {
+            map.put(totals.currencyAt(i), totals.minorUnitsAt(i));
+        }
+        return map;
+    }
+}
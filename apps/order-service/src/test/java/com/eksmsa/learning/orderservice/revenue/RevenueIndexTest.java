@@ -0,0 +1,103 @@
+package com.eksmsa.learning.orderservice.revenue;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevenueIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void 임의_구간_합계가_단순_합산과_일치() {
+        // Given
+        RevenueIndex index = new RevenueIndex(Duration.ofMinutes(1));
+        long[] expected = new long[5000];
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int minute = random.nextInt(expected.length);
+            long amount = random.nextInt(1_000_000) - 100_000;
+            expected[minute] += amount;
+            index.add(BASE_TIME.plusMinutes(minute).plusSeconds(random.nextInt(60)), amount);
+        }
+
+        // When / Then
+        for (int i = 0; i < 1000; i++) {
+            int from = random.nextInt(expected.length);
+            int to = from + random.nextInt(expected.length - from);
+            long sum = 0;
+            for (int m = from; m <= to; m++) {
+                sum += expected[m];
+            }
+            assertEquals(sum, index.sum(BASE_TIME.plusMinutes(from), BASE_TIME.plusMinutes(to).plusSeconds(59)));
+        }
+    }
+
+    @Test
+    void 범위_밖_버킷은_앞뒤로_늘려서_보존() {
+        // Given
+        RevenueIndex index = new RevenueIndex(Duration.ofMinutes(1));
+        index.add(BASE_TIME, 100);
+
+        // When - 한참 뒤와 한참 앞의 버킷
+        index.add(BASE_TIME.plusDays(30), 200);
+        index.add(BASE_TIME.minusDays(30), 300);
+
+        // Then
+        assertEquals(100, index.sum(BASE_TIME, BASE_TIME));
+        assertEquals(300, index.sum(BASE_TIME, BASE_TIME.plusYears(1)));
+        assertEquals(600, index.sum(BASE_TIME.minusYears(1), BASE_TIME.plusYears(1)));
+        assertEquals(0, index.sum(BASE_TIME.plusMinutes(1), BASE_TIME.plusDays(29)));
+        assertTrue(index.capacity() >= 60 * 24 * 60);
+    }
+
+    @Test
+    void 최대_폭을_넘는_버킷은_거부하고_기존_값은_유지() {
+        // Given - 30일 보존이면 분 단위 43,200 버킷까지만 담는다
+        RevenueIndex index = new RevenueIndex(Duration.ofMinutes(1), Duration.ofDays(30));
+        index.add(BASE_TIME, 100);
+        index.add(BASE_TIME.plusDays(29), 300);
+        int capacity = index.capacity();
+
+        // When / Then - 배열을 만들기 전에 거부
+        assertEquals(Duration.ofDays(30), index.maxSpan());
+        LocalDateTime tooFar = BASE_TIME.plus(index.maxSpan());
+        assertThrows(IllegalStateException.class, () -> index.add(tooFar, 200));
+        assertEquals(capacity, index.capacity());
+        assertTrue(capacity <= 60 * 24 * 30);
+        assertEquals(100, index.sum(BASE_TIME, BASE_TIME));
+    }
+
+    @Test
+    void 버킷_배열로_만든_인덱스와_교체() {
+        // Given
+        RevenueIndex source = RevenueIndex.of(Duration.ofHours(1), 0, new long[] {1, 2, 3, 4});
+        RevenueIndex index = new RevenueIndex(Duration.ofHours(1));
+        index.addToBucket(100, 999);
+
+        // When
+        index.replaceWith(source);
+
+        // Then
+        assertEquals(10, index.sumBuckets(0, 3));
+        assertEquals(5, index.sumBuckets(1, 2));
+        assertEquals(0, index.sumBuckets(100, 100));
+    }
+
+    @Test
+    void 최소_단위_변환은_정확한_BigDecimal() {
+        // Given
+        long minor = RevenueIndex.toMinorUnits(new BigDecimal("0.10"))
+            + RevenueIndex.toMinorUnits(new BigDecimal("0.20"))
+            + RevenueIndex.toMinorUnits(new BigDecimal("12345678.99"));
+
+        // Then
+        assertEquals(new BigDecimal("12345679.29"), RevenueIndex.fromMinorUnits(minor));
+        assertEquals(1, RevenueIndex.toMinorUnits(new BigDecimal("0.005")));
+    }
+}
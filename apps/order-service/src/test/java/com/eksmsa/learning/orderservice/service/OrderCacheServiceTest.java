@@ -0,0 +1,223 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderResponse;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private final OrderJsonMapper jsonMapper = new OrderJsonMapper();
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderCacheService orderCacheService;
+    private OrderResponse order;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderCacheService = new OrderCacheService(redisTemplate,
+            new OrderNearCache(meterRegistry, true, 100, Duration.ofMinutes(1)), jsonMapper, meterRegistry);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // 주문 키는 커넥션 수준에서 바이트로 읽고 쓴다
+        lenient().when(redisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+
+        order = new OrderResponse();
+        order.setId("ORD-001");
+        order.setCustomerId("CUST-001");
+        order.setStatus(OrderStatus.SHIPPED);
+        order.setFinalAmount(new BigDecimal("20000"));
+        order.setTrackingNumber("TRACK-123");
+        order.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Test
+    void 캐시_미스시_로드_후_주문_및_추적번호_키_저장() {
+        // Given
+        when(stringCommands.get(raw("order:cache:ORD-001"))).thenReturn(null);
+        when(stringCommands.set(eq(raw("order:cache:ORD-001")), any(byte[].class), any(), eq(SetOption.ifAbsent())))
+            .thenReturn(true);
+
+        // When
+        OrderResponse result = orderCacheService.getOrLoad("ORD-001", () -> order);
+
+        // Then
+        assertSame(order, result);
+        verify(stringCommands).set(eq(raw("order:cache:ORD-001")), any(byte[].class), any(), eq(SetOption.ifAbsent()));
+        verify(valueOperations).set(eq("order:cache:tracking:TRACK-123"), eq("ORD-001"), any(Duration.class));
+        assertEquals(1.0, meterRegistry.get("orders.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void 커밋_후_저장된_값은_미스_로드_결과로_덮어쓰지_않음() {
+        // Given - 로드하는 사이 putAfterCommit 이 새 값을 먼저 저장
+        when(stringCommands.get(raw("order:cache:ORD-001"))).thenReturn(null);
+        when(stringCommands.set(eq(raw("order:cache:ORD-001")), any(byte[].class), any(), eq(SetOption.ifAbsent())))
+            .thenReturn(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        orderCacheService.getOrLoad("ORD-001", () -> order);
+        orderCacheService.getOrLoad("ORD-001", () -> {
+            loads.incrementAndGet();
+            return order;
+        });
+
+        // Then - 오래된 로드 결과는 Redis 에도 near cache 에도 남지 않음
+        verify(stringCommands, never()).set(any(byte[].class), any(byte[].class), any(), eq(SetOption.upsert()));
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void 캐시_적중시_로더_호출_안함() throws Exception {
+        // Given
+        when(stringCommands.get(raw("order:cache:ORD-001")))
+            .thenReturn(jsonMapper.getResponseWriter().writeValueAsBytes(order));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        OrderResponse result = orderCacheService.getOrLoad("ORD-001", () -> {
+            loads.incrementAndGet();
+            return order;
+        });
+
+        // Then
+        assertEquals(0, loads.get());
+        assertEquals("ORD-001", result.getId());
+        assertEquals(OrderStatus.SHIPPED, result.getStatus());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 12, 0), result.getCreatedAt());
+        assertEquals(1.0, meterRegistry.get("orders.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("orders.cache.latency").tag("result", "hit").timer().count());
+    }
+
+    @Test
+    void Redis_장애시_DB_로드로_대체() {
+        // Given
+        when(stringCommands.get(any(byte[].class))).thenThrow(new RuntimeException("connection refused"));
+
+        // When
+        OrderResponse result = orderCacheService.getOrLoad("ORD-001", () -> order);
+
+        // Then
+        assertSame(order, result);
+        assertTrue(meterRegistry.get("orders.cache.requests").tag("result", "error").counter().count() >= 1.0);
+    }
+
+    @Test
+    void 예열은_캐시에_없고_선점한_경우에만_로드() {
+        // Given
+        when(redisTemplate.hasKey("order:cache:ORD-001")).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("order:cache:warmup:ORD-001"), any(), any(Duration.class))).thenReturn(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When - 다른 파드가 이미 선점
+        orderCacheService.warm("ORD-001", () -> {
+            loads.incrementAndGet();
+            return order;
+        });
+
+        // Then
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void near_cache_적중시_Redis_조회_안함() {
+        // Given
+        orderCacheService.put(order);
+
+        // When
+        OrderResponse result = orderCacheService.getOrLoad("ORD-001", () -> fail("로더가 호출되면 안 됨"));
+
+        // Then
+        assertSame(order, result);
+        verify(stringCommands, never()).get(any(byte[].class));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "orders.near").tag("result", "hit")
+            .functionCounter().count());
+    }
+
+    @Test
+    void 다른_파드의_무효화_메시지만_near_cache_에서_제거() {
+        // Given
+        orderCacheService.put(order);
+        when(stringCommands.get(raw("order:cache:ORD-001"))).thenReturn(null);
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        orderCacheService.putAfterCommit(order);
+        verify(redisTemplate).convertAndSend(eq(OrderCacheService.CACHE_INVALIDATION_CHANNEL), published.capture());
+
+        // When - 자기 자신이 보낸 메시지는 무시
+        orderCacheService.onInvalidationMessage(published.getValue().toString());
+        orderCacheService.getOrLoad("ORD-001", () -> fail("로더가 호출되면 안 됨"));
+
+        // When - 다른 파드가 보낸 메시지는 반영
+        orderCacheService.onInvalidationMessage("other-pod|ORD-001");
+        AtomicInteger loads = new AtomicInteger();
+        orderCacheService.getOrLoad("ORD-001", () -> {
+            loads.incrementAndGet();
+            return order;
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void Redis_조회_중_무효화된_값은_near_cache_에_넣지_않음() throws Exception {
+        // Given - Redis 에서 읽는 사이 다른 파드의 무효화 메시지가 도착
+        byte[] json = jsonMapper.getResponseWriter().writeValueAsBytes(order);
+        when(stringCommands.get(raw("order:cache:ORD-001"))).thenAnswer(invocation -> {
+            orderCacheService.onInvalidationMessage("other-pod|ORD-001");
+            return json;
+        });
+
+        // When
+        OrderResponse first = orderCacheService.getOrLoad("ORD-001", () -> fail("로더가 호출되면 안 됨"));
+        OrderResponse second = orderCacheService.getOrLoad("ORD-001", () -> fail("로더가 호출되면 안 됨"));
+
+        // Then - 두 번째 조회도 near cache 가 아닌 Redis 에서 읽음
+        assertEquals("ORD-001", first.getId());
+        assertEquals("ORD-001", second.getId());
+        verify(stringCommands, times(2)).get(raw("order:cache:ORD-001"));
+    }
+
+    private static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
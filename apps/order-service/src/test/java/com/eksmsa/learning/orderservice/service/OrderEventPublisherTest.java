@@ -0,0 +1,211 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventPublisherTest {
+
+    @Mock
+    private OrderEventService orderEventService;
+
+    @Mock
+    private OrderOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new OrderEventPublisher(orderEventService, outboxRepository, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.stop();
+    }
+
+    @Test
+    void 커밋된_이벤트를_발행_후_outbox_에서_삭제() {
+        // Given
+        when(outboxRepository.lockByIds(List.of(1L))).thenReturn(List.of(1L));
+        when(outboxRepository.findPendingByOrderIds(Set.of("ORD-1"))).thenReturn(pending(1L, "ORD-1"));
+        publisher.start();
+
+        // When
+        assertTrue(publisher.submit(outboxEvent(1L)));
+
+        // Then
+        verify(orderEventService, timeout(1000)).publishOutboxEvents(argThat(events -> events.size() == 1));
+        verify(outboxRepository, timeout(1000)).deleteAllByIdInBatch(List.of(1L));
+        assertEquals(0, publisher.getQueueDepth());
+    }
+
+    @Test
+    void 발행_실패시_outbox_에_남겨둠() {
+        // Given
+        when(outboxRepository.lockByIds(List.of(1L))).thenReturn(List.of(1L));
+        when(outboxRepository.findPendingByOrderIds(Set.of("ORD-1"))).thenReturn(pending(1L, "ORD-1"));
+        doThrow(new RuntimeException("connection refused")).when(orderEventService).publishOutboxEvents(anyList());
+        publisher.start();
+
+        // When
+        publisher.submit(outboxEvent(1L));
+
+        // Then - 선점을 풀어 릴레이가 발행하게 함
+        verify(orderEventService, timeout(1000)).publishOutboxEvents(anyList());
+        verify(outboxRepository, timeout(1000)).releaseClaims(List.of(1L));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+        assertEquals(1.0, meterRegistry.get("orders.events.publisher.failures").counter().count());
+    }
+
+    @Test
+    void 같은_주문의_앞선_이벤트가_남아_있으면_릴레이에_넘김() {
+        // Given - 앞서 버려진 이벤트 1 이 아직 outbox 에 남아 있음
+        when(outboxRepository.lockByIds(List.of(2L))).thenReturn(List.of(2L));
+        when(outboxRepository.findPendingByOrderIds(Set.of("ORD-1")))
+            .thenReturn(pending(1L, "ORD-1", 2L, "ORD-1"));
+        publisher.start();
+
+        // When
+        publisher.submit(outboxEvent(2L, "ORD-1"));
+
+        // Then - 이벤트 2 는 앞지르지 않고 릴레이가 1, 2 순서로 발행하도록 넘김
+        verify(outboxRepository, timeout(1000)).releaseClaims(List.of(2L));
+        verify(orderEventService, never()).publishOutboxEvents(anyList());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+        assertEquals(1.0, meterRegistry.get("orders.events.publisher.deferred").counter().count());
+    }
+
+    @Test
+    void 선점_기한이_지나_릴레이가_가져간_행은_발행하지_않음() {
+        // Given
+        when(outboxRepository.lockByIds(List.of(1L))).thenReturn(List.of());
+        publisher.start();
+
+        // When
+        publisher.submit(outboxEvent(1L));
+
+        // Then
+        verify(outboxRepository, timeout(1000)).lockByIds(List.of(1L));
+        verify(orderEventService, after(100).never()).publishOutboxEvents(anyList());
+    }
+
+    @Test
+    void 가득_차면_가장_오래된_이벤트를_버림() {
+        // Given - 발행 스레드 없이 큐만 사용
+        configure(2, OrderEventPublisher.OverflowPolicy.DROP_OLDEST);
+
+        // When
+        publisher.submit(outboxEvent(1L));
+        publisher.submit(outboxEvent(2L));
+        boolean accepted = publisher.submit(outboxEvent(3L));
+
+        // Then - 버린 이벤트는 선점을 풀어 릴레이에 넘김
+        assertTrue(accepted);
+        assertEquals(2, publisher.getQueueDepth());
+        assertEquals(1.0, meterRegistry.get("orders.events.publisher.overflow").tag("action", "dropped-oldest")
+            .counter().count());
+        assertEquals(2.0, meterRegistry.get("orders.events.publisher.queue.depth").gauge().value());
+        publisher.releaseHandBacks();
+        verify(outboxRepository).releaseClaims(List.of(1L));
+    }
+
+    @Test
+    void 가득_차면_outbox_릴레이에_맡김() {
+        // Given
+        configure(1, OrderEventPublisher.OverflowPolicy.SPILL_TO_OUTBOX);
+
+        // When
+        publisher.submit(outboxEvent(1L));
+        boolean accepted = publisher.submit(outboxEvent(2L));
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(1, publisher.getQueueDepth());
+        assertEquals(1.0, meterRegistry.get("orders.events.publisher.overflow").tag("action", "spilled")
+            .counter().count());
+        publisher.releaseHandBacks();
+        verify(outboxRepository).releaseClaims(List.of(2L));
+    }
+
+    @Test
+    void 대기_시간_안에_자리가_나지_않으면_outbox_릴레이에_맡김() {
+        // Given
+        configure(1, OrderEventPublisher.OverflowPolicy.BLOCK);
+        ReflectionTestUtils.setField(publisher, "blockTimeout", Duration.ofMillis(10));
+
+        // When
+        publisher.submit(outboxEvent(1L));
+        long start = System.nanoTime();
+        boolean accepted = publisher.submit(outboxEvent(2L));
+
+        // Then
+        assertFalse(accepted);
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(10).toNanos());
+        assertEquals(1.0, meterRegistry.get("orders.events.publisher.overflow").tag("action", "spilled")
+            .counter().count());
+    }
+
+    @Test
+    void 비활성화시_큐에_넣지_않음() {
+        // Given
+        ReflectionTestUtils.setField(publisher, "enabled", false);
+        publisher.start();
+
+        // When & Then
+        assertFalse(publisher.submit(outboxEvent(1L)));
+        assertFalse(publisher.isEnabled());
+    }
+
+    private void configure(int capacity, OrderEventPublisher.OverflowPolicy policy) {
+        ReflectionTestUtils.setField(publisher, "capacity", capacity);
+        ReflectionTestUtils.setField(publisher, "threads", 0);
+        ReflectionTestUtils.setField(publisher, "overflowPolicy", policy);
+        publisher.start();
+    }
+
+    private OrderOutboxEvent outboxEvent(Long id) {
+        return outboxEvent(id, "ORD-" + id);
+    }
+
+    private OrderOutboxEvent outboxEvent(Long id, String orderId) {
+        OrderOutboxEvent event = new OrderOutboxEvent("EVT-" + id, OrderEvent.ORDER_CREATED, orderId, "{}");
+        event.setId(id);
+        return event;
+    }
+
+    /**
+     * findPendingByOrderIds 결과 (id, order_id 쌍을 seq 순으로)
+     */
+    private static List<Object[]> pending(Object... idAndOrderIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < idAndOrderIds.length; i += 2) {
+            rows.add(new Object[] {idAndOrderIds[i], idAndOrderIds[i + 1]});
+        }
+        return rows;
+    }
+}
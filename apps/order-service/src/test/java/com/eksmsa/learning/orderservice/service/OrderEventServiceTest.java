@@ -1,16 +1,39 @@
 package com.eksmsa.learning.orderservice.service;
 
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
 import com.eksmsa.learning.orderservice.entity.OrderStatus;
 import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.event.OrderEventCodec;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -22,17 +45,131 @@ class OrderEventServiceTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
-    @InjectMocks
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
     private OrderEventService orderEventService;
 
     @BeforeEach
     void setUp() {
-        // RedisTemplate 모킹 설정
-        doNothing().when(redisTemplate).convertAndSend(anyString(), anyString());
+        orderEventService = new OrderEventService(redisTemplate, new OrderJsonMapper(), 1000L, OrderEventCodec.Format.BINARY);
+
+        // RedisTemplate 모킹 설정 - 파이프라인 콜백을 모킹된 커넥션으로 실행
+        lenient().when(connection.streamCommands()).thenReturn(streamCommands);
+        lenient().when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    /**
+     * 커밋 직후 발행 경로와 같은 outbox 행 (JSON 페이로드와 메모리의 이벤트 객체를 함께 보관)
+     */
+    private static OrderOutboxEvent outbox(OrderEvent event) throws Exception {
+        OrderOutboxEvent outboxEvent = new OrderOutboxEvent(event.getEventId(), event.getEventType(),
+            event.getOrderId(), new String(new OrderEventCodec().encode(event, OrderEventCodec.Format.JSON),
+                StandardCharsets.UTF_8));
+        outboxEvent.setEvent(event);
+        return outboxEvent;
+    }
+
+    /**
+     * 한 번의 파이프라인으로 XADD 된 스트림 목록 확인 (스트림 간 레코드 필드는 같은 맵을 공유)
+     */
+    @SuppressWarnings("unchecked")
+    private void verifySinglePipeline(String... streams) {
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        verify(connection, never()).publish(any(byte[].class), any(byte[].class));
+
+        ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamCommands, times(streams.length)).xAdd(recordCaptor.capture(), any(XAddOptions.class));
+
+        List<MapRecord<byte[], byte[], byte[]>> records = recordCaptor.getAllValues();
+        for (int i = 0; i < streams.length; i++) {
+            assertEquals(streams[i], new String(records.get(i).getStream(), StandardCharsets.UTF_8));
+            assertSame(records.get(0).getValue(), records.get(i).getValue());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void JSON_인코딩이면_스트림_레코드는_타입_주문ID_평문_JSON_이벤트를_담는다() throws Exception {
+        // Given
+        orderEventService = new OrderEventService(redisTemplate, new OrderJsonMapper(), 1000L, OrderEventCodec.Format.JSON);
+        OrderEvent event = OrderEvent.orderCreated("ORD-001", "CUST-001", "홍길동", new BigDecimal("20000"), "KRW");
+
+        // When
+        orderEventService.publishOutboxEvents(List.of(outbox(event)));
+
+        // Then - 리스너가 바로 읽을 수 있도록 이중 JSON 인코딩 없이 저장
+        ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamCommands, times(3)).xAdd(recordCaptor.capture(), any(XAddOptions.class));
+
+        Map<String, String> fields = new HashMap<>();
+        recordCaptor.getValue().getValue().forEach((field, value) ->
+            fields.put(new String(field, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8)));
+
+        assertEquals(OrderEvent.ORDER_CREATED, fields.get(OrderEventService.FIELD_TYPE));
+        assertEquals("ORD-001", fields.get(OrderEventService.FIELD_ORDER_ID));
+        assertEquals(event.getEventId(), fields.get(OrderEventService.FIELD_EVENT_ID));
+        OrderEvent decoded = new ObjectMapper().registerModule(new JavaTimeModule())
+            .readValue(fields.get(OrderEventService.FIELD_EVENT), OrderEvent.class);
+        assertEquals(event.getEventId(), decoded.getEventId());
+        assertEquals("ORD-001", decoded.getOrderId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 바이너리_인코딩이면_헤더_바이트로_구분되는_이벤트를_담는다() throws Exception {
+        // Given
+        OrderEvent event = OrderEvent.orderCreated("ORD-001", "CUST-001", "홍길동", new BigDecimal("20000"), "KRW");
+
+        // When
+        orderEventService.publishOutboxEvents(List.of(outbox(event)));
+
+        // Then
+        ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamCommands, times(3)).xAdd(recordCaptor.capture(), any(XAddOptions.class));
+
+        byte[] payload = null;
+        for (Map.Entry<byte[], byte[]> field : recordCaptor.getValue().getValue().entrySet()) {
+            if (OrderEventService.FIELD_EVENT.equals(new String(field.getKey(), StandardCharsets.UTF_8))) {
+                payload = field.getValue();
+            }
+        }
+        assertNotNull(payload);
+        assertEquals(OrderEventCodec.FORMAT_BINARY, payload[0]);
+        assertEquals(event.getEventId(), new OrderEventCodec().decode(payload).getEventId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 릴레이_경로의_outbox_JSON_페이로드도_바이너리로_발행() throws Exception {
+        // Given - 재시작 후 DB 에서 읽은 outbox 행 (메모리의 이벤트 객체 없음)
+        OrderEvent event = OrderEvent.orderDelivered("ORD-001", "CUST-001");
+        OrderOutboxEvent outboxEvent = new OrderOutboxEvent(event.getEventId(), event.getEventType(),
+            event.getOrderId(), new String(new OrderEventCodec().encode(event, OrderEventCodec.Format.JSON),
+                StandardCharsets.UTF_8));
+
+        // When
+        orderEventService.publishOutboxEvents(List.of(outboxEvent));
+
+        // Then
+        ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamCommands, times(3)).xAdd(recordCaptor.capture(), any(XAddOptions.class));
+        byte[] payload = recordCaptor.getValue().getValue().entrySet().stream()
+            .filter(field -> OrderEventService.FIELD_EVENT.equals(new String(field.getKey(), StandardCharsets.UTF_8)))
+            .findFirst().orElseThrow().getValue();
+        assertEquals(OrderEventCodec.FORMAT_BINARY, payload[0]);
+        assertEquals(OrderStatus.DELIVERED, new OrderEventCodec().decode(payload).getOrderStatus());
     }
 
     @Test
-    void 주문_생성_이벤트_발행() {
+    void 주문_생성_이벤트_발행() throws Exception {
         // Given
         String orderId = "ORD-001";
         String customerId = "CUST-001";
@@ -41,15 +178,16 @@ class OrderEventServiceTest {
         String currency = "KRW";
 
         // When
-        orderEventService.publishOrderCreatedEvent(orderId, customerId, customerName, totalAmount, currency);
+        orderEventService.publishOutboxEvents(List.of(outbox(
+            OrderEvent.orderCreated(orderId, customerId, customerName, totalAmount, currency))));
 
-        // Then
-        verify(redisTemplate, times(3)).convertAndSend(anyString(), anyString());
-        // order.events, order.notifications, order.analytics 채널에 각각 발행
+        // Then - order.events, order.notifications, order.analytics 스트림에 한 번의 왕복으로 XADD
+        verifySinglePipeline(OrderEventService.ORDER_EVENTS_STREAM, OrderEventService.ORDER_NOTIFICATIONS_STREAM,
+            OrderEventService.ORDER_ANALYTICS_STREAM);
     }
 
     @Test
-    void 주문_상태_변경_이벤트_발행() {
+    void 주문_상태_변경_이벤트_발행() throws Exception {
         // Given
         String orderId = "ORD-001";
         String customerId = "CUST-001";
@@ -59,15 +197,16 @@ class OrderEventServiceTest {
         String changedBy = "ADMIN";
 
         // When
-        orderEventService.publishOrderStatusChangedEvent(
-            orderId, customerId, previousStatus, newStatus, reason, changedBy);
+        orderEventService.publishOutboxEvents(List.of(outbox(
+            OrderEvent.orderStatusChanged(orderId, customerId, previousStatus, newStatus, reason, changedBy))));
 
         // Then
-        verify(redisTemplate, times(3)).convertAndSend(anyString(), anyString());
+        verifySinglePipeline(OrderEventService.ORDER_EVENTS_STREAM, OrderEventService.ORDER_NOTIFICATIONS_STREAM,
+            OrderEventService.ORDER_ANALYTICS_STREAM);
     }
 
     @Test
-    void 주문_취소_이벤트_발행() {
+    void 주문_취소_이벤트_발행() throws Exception {
         // Given
         String orderId = "ORD-001";
         String customerId = "CUST-001";
@@ -75,37 +214,58 @@ class OrderEventServiceTest {
         String cancelledBy = "CUSTOMER";
 
         // When
-        orderEventService.publishOrderCancelledEvent(orderId, customerId, reason, cancelledBy);
+        orderEventService.publishOutboxEvents(List.of(outbox(
+            OrderEvent.orderCancelled(orderId, customerId, reason, cancelledBy))));
 
         // Then
-        verify(redisTemplate, times(3)).convertAndSend(anyString(), anyString());
+        verifySinglePipeline(OrderEventService.ORDER_EVENTS_STREAM, OrderEventService.ORDER_NOTIFICATIONS_STREAM,
+            OrderEventService.ORDER_ANALYTICS_STREAM);
     }
 
     @Test
-    void 주문_배송_시작_이벤트_발행() {
+    void 주문_배송_시작_이벤트_발행() throws Exception {
         // Given
         String orderId = "ORD-001";
         String customerId = "CUST-001";
         String trackingNumber = "TRACK-123";
 
         // When
-        orderEventService.publishOrderShippedEvent(orderId, customerId, trackingNumber);
+        orderEventService.publishOutboxEvents(List.of(outbox(
+            OrderEvent.orderShipped(orderId, customerId, trackingNumber))));
 
         // Then
-        verify(redisTemplate, times(3)).convertAndSend(anyString(), anyString());
+        verifySinglePipeline(OrderEventService.ORDER_EVENTS_STREAM, OrderEventService.ORDER_NOTIFICATIONS_STREAM,
+            OrderEventService.ORDER_ANALYTICS_STREAM);
     }
 
     @Test
-    void 주문_배송_완료_이벤트_발행() {
+    void 주문_배송_완료_이벤트_발행() throws Exception {
         // Given
         String orderId = "ORD-001";
         String customerId = "CUST-001";
 
         // When
-        orderEventService.publishOrderDeliveredEvent(orderId, customerId);
+        orderEventService.publishOutboxEvents(List.of(outbox(OrderEvent.orderDelivered(orderId, customerId))));
+
+        // Then
+        verifySinglePipeline(OrderEventService.ORDER_EVENTS_STREAM, OrderEventService.ORDER_NOTIFICATIONS_STREAM,
+            OrderEventService.ORDER_ANALYTICS_STREAM);
+    }
+
+    @Test
+    void 주문_이벤트_일괄_발행은_한번의_파이프라인으로_전송() throws Exception {
+        // Given
+        List<OrderOutboxEvent> events = List.of(
+            outbox(OrderEvent.orderCreated("ORD-001", "CUST-001", "홍길동", new BigDecimal("20000"), "KRW")),
+            outbox(OrderEvent.orderCreated("ORD-002", "CUST-002", "김철수", new BigDecimal("15000"), "KRW")));
+
+        // When
+        orderEventService.publishOutboxEvents(events);
 
         // Then
-        verify(redisTemplate, times(3)).convertAndSend(anyString(), anyString());
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        verify(streamCommands, times(6)).xAdd(any(), any(XAddOptions.class));
     }
 
     @Test
@@ -146,4 +306,62 @@ class OrderEventServiceTest {
         assertEquals("주문 확인", event.getReason());
         assertEquals("ADMIN", event.getChangedBy());
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 이벤트_히스토리는_주문별_스트림에_한_번의_파이프라인으로_기록() {
+        // Given
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        OrderEvent event = OrderEvent.orderDelivered("ORD-001", "CUST-001");
+
+        // When
+        orderEventService.storeEvent(event);
+
+        // Then
+        byte[] key = "order:history:ORD-001".getBytes(StandardCharsets.UTF_8);
+        ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(streamCommands).xAdd(recordCaptor.capture(), any(XAddOptions.class));
+        verify(keyCommands).expire(key, Duration.ofDays(30).getSeconds());
+        assertArrayEquals(key, recordCaptor.getValue().getStream());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 이벤트_히스토리는_XRANGE_한_번으로_since_이후_limit_건을_읽는다() {
+        // Given
+        OrderEvent created = OrderEvent.orderCreated("ORD-001", "CUST-001", "홍길동", new BigDecimal("20000"), "KRW");
+        OrderEvent shipped = OrderEvent.orderShipped("ORD-001", "CUST-001", "TRK-001");
+        List<ByteRecord> records = List.of(historyRecord("1760600000000-0", created),
+            historyRecord("1760600001000-0", shipped));
+        byte[] key = "order:history:ORD-001".getBytes(StandardCharsets.UTF_8);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        when(streamCommands.xRange(eq(key), any(Range.class), any(Limit.class))).thenReturn(records);
+        LocalDateTime since = LocalDateTime.of(2026, 10, 16, 12, 0);
+
+        // When
+        List<OrderEvent> history = orderEventService.getOrderEventHistory("ORD-001", since, 2);
+
+        // Then
+        ArgumentCaptor<Range<String>> rangeCaptor = ArgumentCaptor.forClass(Range.class);
+        ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
+        verify(streamCommands, times(1)).xRange(eq(key), rangeCaptor.capture(), limitCaptor.capture());
+        long sinceMillis = since.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(sinceMillis + "-0", rangeCaptor.getValue().getLowerBound().getValue().orElseThrow());
+        assertEquals(2, limitCaptor.getValue().getCount());
+
+        assertEquals(2, history.size());
+        assertEquals(created.getEventId(), history.get(0).getEventId());
+        assertEquals(OrderEvent.ORDER_SHIPPED, history.get(1).getEventType());
+    }
+
+    private static ByteRecord historyRecord(String id, OrderEvent event) {
+        return StreamRecords.newRecord()
+            .in("order:history:ORD-001".getBytes(StandardCharsets.UTF_8))
+            .withId(RecordId.of(id))
+            .ofBytes(Map.of(OrderEventService.FIELD_EVENT.getBytes(StandardCharsets.UTF_8),
+                OrderEventCodec.encodeBinary(event)));
+    }
+}
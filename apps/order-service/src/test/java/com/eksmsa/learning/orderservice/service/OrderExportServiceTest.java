@@ -0,0 +1,140 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderItem;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.json.OrderJsonMapper;
+import com.eksmsa.learning.orderservice.repository.OrderRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 내보내기가 기간 조건과 생성 시각 순서를 지키며 NDJSON/CSV 로 기록되는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class OrderExportServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final OrderJsonMapper jsonMapper = new OrderJsonMapper();
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderExportService = new OrderExportService(orderRepository, jsonMapper, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            Order order = new Order(String.format("ORD-EXP-%03d", i), "CUST-001",
+                i == 2 ? "홍길동, \"VIP\"" : "홍길동");
+            order.addItem(new OrderItem("PROD-1", "테스트 상품", new BigDecimal("1000.50"), 2));
+            order.calculateTotalAmount();
+            order.calculateFinalAmount();
+            order.updateStatus(OrderStatus.CONFIRMED);
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        // 생성 시각은 감사(auditing) 값으로 채워지므로 저장 후 역순으로 덮어쓴다
+        for (int i = 0; i < 5; i++) {
+            entityManager.getEntityManager()
+                .createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.id = :id")
+                .setParameter("createdAt", BASE_TIME.plusHours(4 - i))
+                .setParameter("id", String.format("ORD-EXP-%03d", i))
+                .executeUpdate();
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    void NDJSON_은_기간_내_주문을_생성_시각_순으로_한_줄에_하나씩_기록() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When - [1시, 4시) 기간: ORD-EXP-003, 002, 001
+        long rows = orderExportService.export(BASE_TIME.plusHours(1), BASE_TIME.plusHours(4),
+            OrderExportService.Format.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, rows);
+        assertEquals(3, lines.length);
+        JsonNode first = jsonMapper.getObjectMapper().readTree(lines[0]);
+        assertEquals("ORD-EXP-003", first.get("id").asText());
+        assertEquals("CONFIRMED", first.get("status").asText());
+        assertEquals(0, new BigDecimal("2001.00").compareTo(first.get("totalAmount").decimalValue()));
+        assertEquals("ORD-EXP-001", jsonMapper.getObjectMapper().readTree(lines[2]).get("id").asText());
+        assertEquals(3.0, meterRegistry.get("orders.export.rows").tag("format", "ndjson").counter().count());
+    }
+
+    @Test
+    void CSV_는_헤더와_이스케이프된_필드로_기록() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = orderExportService.export(BASE_TIME.plusHours(2), BASE_TIME.plusHours(3),
+            OrderExportService.Format.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,customerId,customerName,"));
+        assertTrue(lines[1].startsWith("ORD-EXP-002,CUST-001,\"홍길동, \"\"VIP\"\"\",,CONFIRMED,2001.00,"),
+            lines[1]);
+        assertTrue(lines[1].contains(",2024-01-01T02:00,"), lines[1]);
+    }
+
+    @Test
+    void 기간에_주문이_없으면_빈_본문() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = orderExportService.export(BASE_TIME.plusDays(1), BASE_TIME.plusDays(2),
+            OrderExportService.Format.NDJSON, out);
+
+        // Then
+        assertEquals(0, rows);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void CSV_필드는_특수문자가_있을_때만_따옴표로_감싼다() throws Exception {
+        // Given
+        StringWriter writer = new StringWriter();
+
+        // When
+        OrderExportService.writeCsvField(writer, "plain");
+        writer.write('|');
+        OrderExportService.writeCsvField(writer, "line\nbreak");
+        writer.write('|');
+        OrderExportService.writeCsvField(writer, null);
+
+        // Then
+        assertEquals("plain|\"line\nbreak\"|", writer.toString());
+    }
+}
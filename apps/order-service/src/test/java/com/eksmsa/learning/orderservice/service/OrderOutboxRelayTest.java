@@ -0,0 +1,164 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.entity.OrderOutboxEvent;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+    @Mock
+    private OrderOutboxRepository outboxRepository;
+
+    @Mock
+    private OrderEventService orderEventService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OrderOutboxRelay(outboxRepository, orderEventService, transactionManager, meterRegistry);
+    }
+
+    @Test
+    void 선점한_배치를_발행_후_삭제() {
+        // Given
+        List<OrderOutboxEvent> batch = List.of(outboxEvent(1L), outboxEvent(2L));
+        when(outboxRepository.claimBatch(any(LocalDateTime.class), eq(100))).thenReturn(batch);
+        when(outboxRepository.findPendingByOrderIds(anyCollection())).thenReturn(pendingOf(batch));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(orderEventService).publishOutboxEvents(batch);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(transactionManager).commit(any());
+        assertEquals(2.0, meterRegistry.get("orders.outbox.published").counter().count());
+        assertEquals(2, meterRegistry.get("orders.outbox.lag").timer().count());
+    }
+
+    @Test
+    void 같은_주문의_앞선_행이_다른_발행자에게_있으면_뒤_행은_보류() {
+        // Given - ORD-A 의 seq 가 가장 앞선 행 1 은 다른 릴레이가 잠가 선점하지 못함
+        OrderOutboxEvent second = outboxEvent(2L, "ORD-A");
+        OrderOutboxEvent third = outboxEvent(3L, "ORD-A");
+        OrderOutboxEvent other = outboxEvent(4L, "ORD-B");
+        when(outboxRepository.claimBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of(second, third, other));
+        when(outboxRepository.findPendingByOrderIds(anyCollection())).thenReturn(List.of(
+            new Object[] {1L, "ORD-A"}, new Object[] {2L, "ORD-A"}, new Object[] {3L, "ORD-A"},
+            new Object[] {4L, "ORD-B"}));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(orderEventService).publishOutboxEvents(List.of(other));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(4L));
+    }
+
+    @Test
+    void 발행_순서는_id_가_아닌_seq_순서() {
+        // Given - 다른 파드의 pooled 블록에서 나온 id 는 기록 순서와 다를 수 있음
+        OrderOutboxEvent created = outboxEvent(60L, "ORD-A");
+        OrderOutboxEvent shipped = outboxEvent(5L, "ORD-A");
+        List<Object[]> pendingInSeqOrder = List.of(new Object[] {60L, "ORD-A"}, new Object[] {5L, "ORD-A"});
+
+        // When
+        List<OrderOutboxEvent> publishable =
+            OrderOutboxService.publishableInOrder(List.of(shipped, created), pendingInSeqOrder);
+
+        // Then
+        assertEquals(List.of(created, shipped), publishable);
+    }
+
+    @Test
+    void 가득_찬_배치는_한_주기에_연속_처리() {
+        // Given
+        List<OrderOutboxEvent> fullBatch = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            fullBatch.add(outboxEvent(id));
+        }
+        when(outboxRepository.claimBatch(any(LocalDateTime.class), eq(100))).thenReturn(fullBatch, fullBatch, List.of());
+        when(outboxRepository.findPendingByOrderIds(anyCollection())).thenReturn(pendingOf(fullBatch));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxRepository, times(3)).claimBatch(any(LocalDateTime.class), eq(100));
+        assertEquals(200.0, meterRegistry.get("orders.outbox.published").counter().count());
+    }
+
+    @Test
+    void 발행_실패시_롤백되어_삭제하지_않음() {
+        // Given
+        List<OrderOutboxEvent> batch = List.of(outboxEvent(1L));
+        when(outboxRepository.claimBatch(any(LocalDateTime.class), eq(100))).thenReturn(batch);
+        when(outboxRepository.findPendingByOrderIds(anyCollection())).thenReturn(pendingOf(batch));
+        doThrow(new RuntimeException("이벤트 발행에 실패했습니다")).when(orderEventService).publishOutboxEvents(batch);
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.get("orders.outbox.failures").counter().count());
+        assertEquals(0.0, meterRegistry.get("orders.outbox.published").counter().count());
+    }
+
+    @Test
+    void 가장_오래된_대기_이벤트_나이_게이지() {
+        // Given
+        when(outboxRepository.claimBatch(any(LocalDateTime.class), eq(100))).thenReturn(List.of());
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(LocalDateTime.now().minusSeconds(30));
+
+        // When
+        relay.relay();
+
+        // Then
+        assertTrue(meterRegistry.get("orders.outbox.oldest.age").gauge().value() >= 30.0);
+    }
+
+    private OrderOutboxEvent outboxEvent(Long id) {
+        return outboxEvent(id, "ORD-" + id);
+    }
+
+    private OrderOutboxEvent outboxEvent(Long id, String orderId) {
+        OrderOutboxEvent event = new OrderOutboxEvent("EVT-" + id, OrderEvent.ORDER_CREATED, orderId, "{}");
+        event.setId(id);
+        return event;
+    }
+
+    /**
+     * 배치 행만 남아 있는 findPendingByOrderIds 결과
+     */
+    private static List<Object[]> pendingOf(List<OrderOutboxEvent> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (OrderOutboxEvent event : batch) {
+            rows.add(new Object[] {event.getId(), event.getOrderId()});
+        }
+        return rows;
+    }
+}
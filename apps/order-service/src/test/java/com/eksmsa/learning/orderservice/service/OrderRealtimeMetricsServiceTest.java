@@ -0,0 +1,153 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderRealtimeMetricsResponse;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.metrics.WindowSnapshot;
+import com.eksmsa.learning.orderservice.revenue.ConfiguredExchangeRateTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRealtimeMetricsServiceTest {
+
+    private static final long NOW_MILLIS = 1_700_000_000_000L;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final AtomicLong clock = new AtomicLong(NOW_MILLIS);
+    private SimpleMeterRegistry meterRegistry;
+    private OrderRealtimeMetricsService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new OrderRealtimeMetricsService(redisTemplate,
+            new ConfiguredExchangeRateTable("KRW", "USD=1350.00"), meterRegistry, clock::get);
+    }
+
+    @Test
+    void 생성_이벤트는_주문_수와_기준_통화_금액으로_상태_이벤트는_전환_수로_기록() {
+        // Given
+        service.record(OrderEvent.orderCreated("ORD-1", "CUST-1", "홍길동", new BigDecimal("10000.00"), "KRW"));
+        service.record(OrderEvent.orderCreated("ORD-2", "CUST-1", "홍길동", new BigDecimal("10.00"), "USD"));
+        service.record(OrderEvent.orderCreated("ORD-3", "CUST-1", "홍길동", new BigDecimal("10.00"), "EUR"));
+        clock.addAndGet(120_000);
+        service.record(OrderEvent.orderShipped("ORD-1", "CUST-1", "TRK-1"));
+        service.record(OrderEvent.orderCancelled("ORD-2", "CUST-1", "변심", "CUST-1"));
+
+        // When
+        OrderRealtimeMetricsResponse metrics = service.getMetrics(false);
+
+        // Then
+        OrderRealtimeMetricsResponse.Window lastMinute = metrics.getWindows().get("1m");
+        OrderRealtimeMetricsResponse.Window last5Minutes = metrics.getWindows().get("5m");
+        assertEquals("local", metrics.getScope());
+        assertEquals("KRW", metrics.getCurrency());
+        assertEquals(0, lastMinute.getOrders());
+        assertEquals(1L, lastMinute.getTransitions().get(OrderStatus.SHIPPED.name()));
+        assertEquals(3, last5Minutes.getOrders());
+        // EUR 는 환율이 없어 금액에서 제외
+        assertEquals(new BigDecimal("23500.00"), last5Minutes.getRevenue());
+        assertEquals(new BigDecimal("78.33"), last5Minutes.getRevenuePerSecond());
+        assertEquals(1L, last5Minutes.getTransitions().get(OrderStatus.CANCELLED.name()));
+        assertEquals(1.0, meterRegistry.get("orders.realtime.unconverted").counter().count());
+        assertEquals(3 / 300.0, meterRegistry.get("orders.realtime.orders.rate").tag("window", "5m").gauge().value());
+    }
+
+    @Test
+    void 클러스터_조회는_최신_파드_스냅샷만_병합하고_오래된_스냅샷은_삭제() {
+        // Given
+        service.record(OrderEvent.orderCreated("ORD-1", "CUST-1", "홍길동", new BigDecimal("100.00"), "KRW"));
+        long nowSecond = NOW_MILLIS / 1000;
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        entries.put("pod-b".getBytes(StandardCharsets.UTF_8),
+            snapshot(nowSecond - 5, 2, 5_000).encode());
+        entries.put("pod-c".getBytes(StandardCharsets.UTF_8),
+            snapshot(nowSecond - 600, 100, 0).encode());
+        doReturn(entries).doReturn(1L).when(redisTemplate).execute(any(RedisCallback.class));
+
+        // When
+        OrderRealtimeMetricsResponse metrics = service.getMetrics(true);
+
+        // Then
+        assertEquals("cluster", metrics.getScope());
+        assertEquals(2, metrics.getInstances());
+        assertEquals(5, metrics.getSnapshotLagSeconds());
+        assertEquals(3, metrics.getWindows().get("15m").getOrders());
+        assertEquals(new BigDecimal("150.00"), metrics.getWindows().get("15m").getRevenue());
+        verify(redisTemplate, times(2)).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    void 이벤트는_소비_시각이_아닌_발생_시각의_초에_기록() {
+        // Given - 90초 전에 발생해 늦게 소비된 이벤트와 최대 윈도보다 오래된 이벤트
+        OrderEvent delayed = OrderEvent.orderCreated("ORD-1", "CUST-1", "홍길동", new BigDecimal("100.00"), "KRW");
+        delayed.setTimestamp(secondsAgo(90));
+        OrderEvent expired = OrderEvent.orderShipped("ORD-2", "CUST-1", "TRK-2");
+        expired.setTimestamp(secondsAgo(1_200));
+
+        // When
+        service.record(delayed);
+        service.record(expired);
+        OrderRealtimeMetricsResponse metrics = service.getMetrics(false);
+
+        // Then
+        assertEquals(0, metrics.getWindows().get("1m").getOrders());
+        assertEquals(1, metrics.getWindows().get("5m").getOrders());
+        assertEquals(0L, metrics.getWindows().get("15m").getTransitions().get(OrderStatus.SHIPPED.name()));
+        assertEquals(0, metrics.getSnapshotLagSeconds());
+        assertEquals(1.0, meterRegistry.get("orders.realtime.late").counter().count());
+    }
+
+    @Test
+    void Redis_장애_시_이_파드_값만_반환() {
+        // Given
+        service.record(OrderEvent.orderCreated("ORD-1", "CUST-1", "홍길동", new BigDecimal("100.00"), "KRW"));
+        when(redisTemplate.execute(any(RedisCallback.class)))
+            .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // When
+        OrderRealtimeMetricsResponse metrics = service.getMetrics(true);
+
+        // Then
+        assertEquals("local", metrics.getScope());
+        assertEquals(1, metrics.getInstances());
+        assertEquals(1, metrics.getWindows().get("1m").getOrders());
+        assertEquals(1.0, meterRegistry.get("orders.realtime.errors").counter().count());
+    }
+
+    private LocalDateTime secondsAgo(long seconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(clock.get() - seconds * 1000), ZoneId.systemDefault());
+    }
+
+    private WindowSnapshot snapshot(long second, long orders, long revenueMinorUnits) {
+        long[][] totals = new long[3][2 + OrderStatus.values().length];
+        for (long[] window : totals) {
+            window[0] = orders;
+            window[1] = revenueMinorUnits;
+        }
+        return new WindowSnapshot(second, totals);
+    }
+}
@@ -0,0 +1,233 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderRevenueResponse;
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.money.Money;
+import com.eksmsa.learning.orderservice.repository.OrderRepository;
+import com.eksmsa.learning.orderservice.revenue.ConfiguredExchangeRateTable;
+import com.eksmsa.learning.orderservice.revenue.RevenueTotals;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRevenueServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderRevenueService orderRevenueService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderRevenueService = new OrderRevenueService(orderRepository, redisTemplate, transactionManager,
+            new ConfiguredExchangeRateTable("KRW", "USD=1350.00,JPY=9.10"), meterRegistry, Duration.ofMinutes(1),
+            Duration.ofDays(3650));
+    }
+
+    @Test
+    void 재구성_전에는_DB_조회로_넘긴다() {
+        // When / Then
+        assertNull(orderRevenueService.getRevenueTotals(BASE_TIME, BASE_TIME.plusDays(1)));
+    }
+
+    @Test
+    void 재구성_후_기간_매출을_정확한_금액으로_반환() {
+        // Given
+        when(orderRepository.streamDeliveredRevenue(any())).thenReturn(Stream.of(
+            new Object[] {BASE_TIME, Money.of(new BigDecimal("10000.10")), "KRW"},
+            new Object[] {BASE_TIME.plusHours(1), Money.of(new BigDecimal("0.20")), "KRW"},
+            new Object[] {BASE_TIME.plusDays(40), Money.of(new BigDecimal("500.00")), "KRW"}));
+
+        // When
+        orderRevenueService.rebuild();
+
+        // Then
+        assertEquals(new BigDecimal("10000.30"), revenue(BASE_TIME, BASE_TIME.plusDays(1)));
+        assertEquals(new BigDecimal("10500.30"), revenue(BASE_TIME.minusYears(1), BASE_TIME.plusYears(1)));
+    }
+
+    @Test
+    void 배송_완료_전환은_더하고_배송_완료에서_벗어나면_뺀다() {
+        // Given
+        when(orderRepository.streamDeliveredRevenue(any())).thenReturn(Stream.empty());
+        orderRevenueService.rebuild();
+        Order order = order(new BigDecimal("2500.00"));
+
+        // When - 트랜잭션 밖에서는 즉시 반영
+        order.updateStatus(OrderStatus.DELIVERED);
+        orderRevenueService.recordStatusChange(order, OrderStatus.SHIPPED);
+
+        // Then
+        assertEquals(new BigDecimal("2500.00"), revenue(BASE_TIME, BASE_TIME));
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(OrderRevenueService.REVENUE_UPDATE_CHANNEL), published.capture());
+
+        // When - 환불
+        order.updateStatus(OrderStatus.REFUNDED);
+        orderRevenueService.recordStatusChange(order, OrderStatus.DELIVERED);
+
+        // Then
+        assertEquals(new BigDecimal("0.00"), revenue(BASE_TIME, BASE_TIME));
+
+        // When - 자기 자신이 보낸 메시지는 무시
+        orderRevenueService.onUpdateMessage(published.getValue().toString());
+
+        // Then
+        assertEquals(new BigDecimal("0.00"), revenue(BASE_TIME, BASE_TIME));
+    }
+
+    @Test
+    void 다른_파드의_갱신_메시지를_반영() {
+        // Given
+        when(orderRepository.streamDeliveredRevenue(any())).thenReturn(Stream.empty());
+        orderRevenueService.rebuild();
+        long epochSecond = BASE_TIME.toEpochSecond(ZoneOffset.UTC);
+
+        // When
+        orderRevenueService.onUpdateMessage("other-pod|KRW|" + epochSecond + "|123456|ORD-1");
+        orderRevenueService.onUpdateMessage("other-pod|KRW|" + epochSecond + "|999999");
+
+        // Then - 주문 ID 가 없는 메시지는 형식 오류로 무시
+        assertEquals(new BigDecimal("1234.56"), revenue(BASE_TIME, BASE_TIME));
+        assertEquals(1.0, meterRegistry.get("orders.revenue.index.remote.updates").counter().count());
+    }
+
+    @Test
+    void 재구성_스냅샷에_이미_포함된_델타는_다시_더하지_않음() {
+        // Given - 스냅샷 직전에 커밋된 ORD-A 의 델타가 재구성 시작 뒤에 도착, ORD-B 는 스냅샷 이후 커밋
+        long epochSecond = BASE_TIME.toEpochSecond(ZoneOffset.UTC);
+        when(orderRepository.streamDeliveredRevenue(any())).thenAnswer(invocation -> {
+            orderRevenueService.onUpdateMessage("other-pod|KRW|" + epochSecond + "|100000|ORD-A");
+            orderRevenueService.onUpdateMessage("other-pod|KRW|" + epochSecond + "|20000|ORD-B");
+            return Stream.<Object[]>of(new Object[] {BASE_TIME, Money.of(new BigDecimal("1000.00")), "KRW"});
+        });
+        when(orderRepository.findDeliveredIds(anyCollection())).thenReturn(List.of("ORD-A"));
+
+        // When
+        orderRevenueService.rebuild();
+
+        // Then - 스냅샷의 ORD-A 1000 + 스냅샷에 없던 ORD-B 200
+        assertEquals(new BigDecimal("1200.00"), revenue(BASE_TIME, BASE_TIME));
+    }
+
+    @Test
+    void 범위를_벗어난_생성_시각은_건너뛰고_재구성_완료() {
+        // Given - 가장 먼저 읽히는 잘못된 시각이 인덱스 시작점이 되지 않아야 함 (보존 기간 이전은 오류로 세지 않음)
+        when(orderRepository.streamDeliveredRevenue(any())).thenReturn(Stream.of(
+            new Object[] {LocalDateTime.of(1, 1, 1, 0, 0), Money.of(new BigDecimal("999.00")), "KRW"},
+            new Object[] {BASE_TIME, Money.of(new BigDecimal("10.00")), "KRW"},
+            new Object[] {LocalDateTime.of(9999, 1, 1, 0, 0), Money.of(new BigDecimal("999.00")), "KRW"}));
+
+        // When
+        orderRevenueService.rebuild();
+
+        // Then
+        assertEquals(new BigDecimal("10.00"), revenue(BASE_TIME, BASE_TIME));
+        assertEquals(1.0, meterRegistry.get("orders.revenue.index.errors").counter().count());
+    }
+
+    @Test
+    void 보존_기간_이전부터의_조회는_DB_조회로_넘긴다() {
+        // Given
+        when(orderRepository.streamDeliveredRevenue(any())).thenReturn(Stream.empty());
+        orderRevenueService.rebuild();
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        // When / Then
+        assertNull(orderRevenueService.getRevenueTotals(now.minusDays(3651), now));
+        assertNotNull(orderRevenueService.getRevenueTotals(now.minusDays(3649), now));
+    }
+
+    @Test
+    void 통화별_합계는_섞지_않고_조회_시점에_환산() {
+        // Given
+        when(orderRepository.streamDeliveredRevenue(any())).thenReturn(Stream.of(
+            new Object[] {BASE_TIME, Money.of(new BigDecimal("10000.00")), "KRW"},
+            new Object[] {BASE_TIME, Money.of(new BigDecimal("10.50")), "USD"},
+            new Object[] {BASE_TIME, Money.of(new BigDecimal("100")), "JPY"},
+            new Object[] {BASE_TIME, Money.of(new BigDecimal("3.00")), "EUR"}));
+        orderRevenueService.rebuild();
+
+        // When
+        RevenueTotals totals = orderRevenueService.getRevenueTotals(BASE_TIME, BASE_TIME);
+        OrderRevenueResponse krw = orderRevenueService.toResponse(BASE_TIME, BASE_TIME, totals, null);
+        OrderRevenueResponse usd = orderRevenueService.toResponse(BASE_TIME, BASE_TIME, totals, "usd");
+
+        // Then - 10000 + 10.50 * 1350 + 100 * 9.10, EUR 은 환율이 없어 제외
+        assertEquals(Map.of("KRW", new BigDecimal("10000.00"), "USD", new BigDecimal("10.50"),
+            "JPY", new BigDecimal("100.00"), "EUR", new BigDecimal("3.00")), krw.getRevenueByCurrency());
+        assertEquals("KRW", krw.getCurrency());
+        assertEquals(new BigDecimal("25085.00"), krw.getTotalRevenue());
+        assertEquals(List.of("EUR"), krw.getUnconvertedCurrencies());
+        assertEquals("USD", usd.getCurrency());
+        assertEquals(new BigDecimal("18.58"), usd.getTotalRevenue());
+    }
+
+    @Test
+    void DB_조회_구간은_인덱스와_같은_버킷_경계로_맞춘다() {
+        // Given - 1분 버킷에서 끝 시각 10:00:00 은 10:00:59 까지의 주문을 포함
+        LocalDateTime start = BASE_TIME.plusSeconds(30);
+        LocalDateTime end = BASE_TIME.plusMinutes(5);
+
+        // When / Then
+        assertEquals(BASE_TIME, orderRevenueService.bucketStart(start));
+        assertEquals(BASE_TIME.plusMinutes(6), orderRevenueService.nextBucketStart(end));
+        assertEquals(BASE_TIME.plusMinutes(6), orderRevenueService.nextBucketStart(end.plusSeconds(59)));
+    }
+
+    @Test
+    void DB_통화별_합계도_같은_형식으로_변환() {
+        // When
+        RevenueTotals totals = orderRevenueService.toTotals(List.of(
+            new Object[] {"KRW", new BigDecimal("1500.00")},
+            new Object[] {"USD", new BigDecimal("2.00")},
+            new Object[] {"??", new BigDecimal("1.00")}));
+        OrderRevenueResponse response = orderRevenueService.toResponse(BASE_TIME, BASE_TIME, totals, null);
+
+        // Then
+        assertEquals(2, response.getRevenueByCurrency().size());
+        assertEquals(new BigDecimal("4200.00"), response.getTotalRevenue());
+    }
+
+    private BigDecimal revenue(LocalDateTime startDate, LocalDateTime endDate) {
+        RevenueTotals totals = orderRevenueService.getRevenueTotals(startDate, endDate);
+        return orderRevenueService.toResponse(startDate, endDate, totals, null).getTotalRevenue();
+    }
+
+    private static Order order(BigDecimal finalAmount) {
+        Order order = new Order("ORD-REV-001", "CUST-001", "홍길동");
+        order.setFinalAmount(finalAmount);
+        order.setCreatedAt(BASE_TIME.plusSeconds(30));
+        return order;
+    }
+}
@@ -1,31 +1,44 @@
 package com.eksmsa.learning.orderservice.service;
 
+import com.eksmsa.learning.orderservice.dto.OrderBatchResponse;
 import com.eksmsa.learning.orderservice.dto.OrderCreateRequest;
 import com.eksmsa.learning.orderservice.dto.OrderItemRequest;
 import com.eksmsa.learning.orderservice.dto.OrderResponse;
 import com.eksmsa.learning.orderservice.dto.OrderStatusUpdateRequest;
 import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderItem;
 import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.event.OrderEvent;
+import com.eksmsa.learning.orderservice.id.IdGenerator;
+import com.eksmsa.learning.orderservice.id.SnowflakeIdGenerator;
 import com.eksmsa.learning.orderservice.repository.OrderRepository;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +51,25 @@ class OrderServiceTest {
     private OrderItemService orderItemService;
 
     @Mock
-    private OrderEventService orderEventService;
+    private OrderOutboxService orderOutboxService;
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private IdGenerator idGenerator = new SnowflakeIdGenerator(1);
+
+    @Mock
+    private OrderCacheService orderCacheService;
+
+    @Mock
+    private OrderStatsService orderStatsService;
+
+    @Mock
+    private OrderRevenueService orderRevenueService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private OrderService orderService;
@@ -72,14 +103,20 @@ class OrderServiceTest {
         order.setStatus(OrderStatus.PENDING);
         order.setTotalAmount(new BigDecimal("20000"));
         order.setFinalAmount(new BigDecimal("20000"));
+
+        // 캐시 미스 - loader 로 조회
+        lenient().when(orderCacheService.getOrLoad(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<OrderResponse>>getArgument(1).get());
+        lenient().when(orderCacheService.getByTrackingNumberOrLoad(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<OrderResponse>>getArgument(1).get());
     }
 
     @Test
     void 주문_생성_성공() {
         // Given
+        when(orderItemService.createOrderItem(any(OrderItemRequest.class)))
+            .thenReturn(new OrderItem("PROD-001", "테스트 상품", new BigDecimal("10000"), 2));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
-        doNothing().when(orderEventService).publishOrderCreatedEvent(
-            anyString(), anyString(), anyString(), any(BigDecimal.class), anyString());
 
         // When
         OrderResponse result = orderService.createOrder(orderCreateRequest);
@@ -91,8 +128,34 @@ class OrderServiceTest {
         assertEquals(OrderStatus.PENDING, result.getStatus());
         
         verify(orderRepository, times(1)).save(any(Order.class));
-        verify(orderEventService, times(1)).publishOrderCreatedEvent(
-            anyString(), anyString(), anyString(), any(BigDecimal.class), anyString());
+        verify(orderStatsService, times(1)).recordCreated(order);
+        verify(orderOutboxService, times(1)).enqueue(argThat(event ->
+            OrderEvent.ORDER_CREATED.equals(event.getEventType()) && "CUST-001".equals(event.getCustomerId())));
+    }
+
+    @Test
+    void 주문_일괄_생성_주문별_결과_보고() {
+        // Given
+        when(validator.validate(any(OrderCreateRequest.class))).thenReturn(Collections.emptySet());
+        when(orderItemService.createOrderItem(any(OrderItemRequest.class)))
+            .thenReturn(new OrderItem("PROD-001", "테스트 상품", new BigDecimal("10000"), 2));
+
+        // When
+        OrderBatchResponse result = orderService.createOrders(Arrays.asList(orderCreateRequest, null));
+
+        // Then
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertTrue(result.getResults().get(0).getOrderId().startsWith("ORD-"));
+        assertEquals(new BigDecimal("20000.00"), result.getResults().get(0).getFinalAmount());
+        assertFalse(result.getResults().get(1).isSuccess());
+
+        verify(orderRepository, times(1)).saveAll(anyList());
+        verify(orderRepository, times(1)).flush();
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderOutboxService, times(1)).enqueueAll(argThat(events -> events.size() == 1));
     }
 
     @Test
@@ -111,6 +174,21 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findById("ORD-001");
     }
 
+    @Test
+    void 주문_조회_캐시_적중시_DB_조회_안함() {
+        // Given
+        OrderResponse cached = new OrderResponse();
+        cached.setId("ORD-001");
+        when(orderCacheService.getOrLoad(eq("ORD-001"), any())).thenReturn(cached);
+
+        // When
+        OrderResponse result = orderService.getOrder("ORD-001");
+
+        // Then
+        assertSame(cached, result);
+        verify(orderRepository, never()).findById(anyString());
+    }
+
     @Test
     void 주문_조회_실패_존재하지_않는_주문() {
         // Given
@@ -128,10 +206,10 @@ class OrderServiceTest {
     void 고객별_주문_목록_조회() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        List<Order> orders = Arrays.asList(order);
-        Page<Order> orderPage = new PageImpl<>(orders, pageable, 1);
+        Page<String> orderIdPage = new PageImpl<>(Arrays.asList(order.getId()), pageable, 1);
         
-        when(orderRepository.findByCustomerId("CUST-001", pageable)).thenReturn(orderPage);
+        when(orderRepository.findOrderIdsByCustomerId("CUST-001", pageable)).thenReturn(orderIdPage);
+        when(orderRepository.findWithItemsByIdIn(List.of(order.getId()))).thenReturn(List.of(order));
 
         // When
         Page<OrderResponse> result = orderService.getOrdersByCustomer("CUST-001", pageable);
@@ -141,7 +219,8 @@ class OrderServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals("CUST-001", result.getContent().get(0).getCustomerId());
         
-        verify(orderRepository, times(1)).findByCustomerId("CUST-001", pageable);
+        verify(orderRepository, times(1)).findOrderIdsByCustomerId("CUST-001", pageable);
+        verify(orderRepository, times(1)).findWithStatusHistoryByIdIn(List.of(order.getId()));
     }
 
     @Test
@@ -154,9 +233,6 @@ class OrderServiceTest {
 
         when(orderRepository.findById("ORD-001")).thenReturn(Optional.of(order));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
-        doNothing().when(orderEventService).publishOrderStatusChangedEvent(
-            anyString(), anyString(), any(OrderStatus.class), any(OrderStatus.class), 
-            anyString(), anyString());
 
         // When
         OrderResponse result = orderService.updateOrderStatus("ORD-001", request);
@@ -165,9 +241,11 @@ class OrderServiceTest {
         assertNotNull(result);
         verify(orderRepository, times(1)).findById("ORD-001");
         verify(orderRepository, times(1)).save(any(Order.class));
-        verify(orderEventService, times(1)).publishOrderStatusChangedEvent(
-            anyString(), anyString(), any(OrderStatus.class), any(OrderStatus.class), 
-            anyString(), anyString());
+        verify(orderOutboxService, times(1)).enqueue(argThat(event ->
+            OrderEvent.ORDER_STATUS_CHANGED.equals(event.getEventType())));
+        verify(orderCacheService, times(1)).putAfterCommit(argThat(response ->
+            response.getStatus() == OrderStatus.CONFIRMED));
+        verify(orderStatsService, times(1)).recordStatusChange(OrderStatus.PENDING, OrderStatus.CONFIRMED);
     }
 
     @Test
@@ -175,11 +253,6 @@ class OrderServiceTest {
         // Given
         when(orderRepository.findById("ORD-001")).thenReturn(Optional.of(order));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
-        doNothing().when(orderEventService).publishOrderStatusChangedEvent(
-            anyString(), anyString(), any(OrderStatus.class), any(OrderStatus.class), 
-            anyString(), anyString());
-        doNothing().when(orderEventService).publishOrderCancelledEvent(
-            anyString(), anyString(), anyString(), anyString());
 
         // When
         OrderResponse result = orderService.cancelOrder("ORD-001", "고객 요청", "CUSTOMER");
@@ -187,8 +260,8 @@ class OrderServiceTest {
         // Then
         assertNotNull(result);
         verify(orderRepository, times(1)).findById("ORD-001");
-        verify(orderEventService, times(1)).publishOrderCancelledEvent(
-            anyString(), anyString(), anyString(), anyString());
+        verify(orderOutboxService, times(1)).enqueue(argThat(event ->
+            OrderEvent.ORDER_CANCELLED.equals(event.getEventType())));
     }
 
     @Test
@@ -203,8 +276,7 @@ class OrderServiceTest {
         
         assertTrue(exception.getMessage().contains("주문을 취소할 수 없습니다"));
         verify(orderRepository, times(1)).findById("ORD-001");
-        verify(orderEventService, never()).publishOrderCancelledEvent(
-            anyString(), anyString(), anyString(), anyString());
+        verify(orderOutboxService, never()).enqueue(any(OrderEvent.class));
     }
 
     @Test
@@ -0,0 +1,183 @@
+package com.eksmsa.learning.orderservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatisticsAggregatorTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderStatisticsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new OrderStatisticsAggregator(redisTemplate, meterRegistry);
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        lenient().when(connection.keyCommands()).thenReturn(keyCommands);
+    }
+
+    /**
+     * 파이프라인 콜백을 모킹된 커넥션으로 실행하고, 증가 명령마다 Redis 에 있던 값을 더한 결과를 돌려줌
+     */
+    private void pipelineWithExisting(Map<String, Double> existing) {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            List<Object> results = new ArrayList<>();
+            lenient().when(stringCommands.incrBy(any(byte[].class), anyLong())).thenAnswer(call -> {
+                String key = new String(call.<byte[]>getArgument(0), StandardCharsets.UTF_8);
+                results.add(existing.getOrDefault(key, 0.0).longValue() + call.<Long>getArgument(1));
+                return null;
+            });
+            lenient().when(stringCommands.incrBy(any(byte[].class), anyDouble())).thenAnswer(call -> {
+                String key = new String(call.<byte[]>getArgument(0), StandardCharsets.UTF_8);
+                results.add(existing.getOrDefault(key, 0.0) + call.<Double>getArgument(1));
+                return null;
+            });
+            lenient().when(keyCommands.expire(any(byte[].class), anyLong())).thenAnswer(call -> {
+                results.add(true);
+                return null;
+            });
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return results;
+        });
+    }
+
+    private void verifyExpireIfNone(String key, Duration ttl) {
+        verify(connection).execute("EXPIRE", raw(key), raw(String.valueOf(ttl.getSeconds())), raw("NX"));
+    }
+
+    private static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 여러_증가를_키별_델타로_모아_한_번에_반영() {
+        // Given - daily 키는 이번에 새로 생성, customer 키는 이미 존재
+        pipelineWithExisting(Map.of("stats:customer:orders:CUST-001", 9.0));
+        for (int i = 0; i < 5; i++) {
+            aggregator.increment("stats:orders:daily:2026-10-16", Duration.ofDays(90));
+        }
+        for (int i = 0; i < 3; i++) {
+            aggregator.increment("stats:customer:orders:CUST-001", Duration.ofDays(365));
+        }
+
+        // When
+        aggregator.flush();
+
+        // Then - 증가 2건 + 만료가 없는 키에만 적용되는 EXPIRE NX 2건을 한 파이프라인으로
+        verify(stringCommands).incrBy(raw("stats:orders:daily:2026-10-16"), 5L);
+        verify(stringCommands).incrBy(raw("stats:customer:orders:CUST-001"), 3L);
+        verifyExpireIfNone("stats:orders:daily:2026-10-16", Duration.ofDays(90));
+        verifyExpireIfNone("stats:customer:orders:CUST-001", Duration.ofDays(365));
+        verify(keyCommands, never()).expire(any(byte[].class), anyLong());
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        assertEquals(8.0, meterRegistry.get("orders.stats.updates").counter().count());
+        assertEquals(4.0, meterRegistry.get("orders.stats.redis.commands").counter().count());
+    }
+
+    @Test
+    void 슬라이딩_키는_flush_마다_만료_갱신() {
+        // Given
+        pipelineWithExisting(Map.of("metrics:realtime:orders", 5.0));
+        aggregator.incrementSliding("metrics:realtime:orders", Duration.ofMinutes(5));
+        aggregator.incrementSliding("metrics:realtime:orders", Duration.ofMinutes(5));
+
+        // When
+        aggregator.flush();
+
+        // Then
+        verify(stringCommands).incrBy(raw("metrics:realtime:orders"), 2L);
+        verify(keyCommands).expire(raw("metrics:realtime:orders"), Duration.ofMinutes(5).getSeconds());
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void 반영에_실패한_델타는_다음_flush_에서_재시도() {
+        // Given
+        aggregator.incrementByFloat("stats:revenue:daily:2026-10-16", 100.5, Duration.ofDays(90));
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+            .thenThrow(new RedisConnectionFailureException("down"));
+        aggregator.flush();
+
+        // When
+        reset(redisTemplate);
+        pipelineWithExisting(Map.of("stats:revenue:daily:2026-10-16", 1000.0));
+        aggregator.incrementByFloat("stats:revenue:daily:2026-10-16", 150.0, Duration.ofDays(90));
+        aggregator.flush();
+
+        // Then - 실패했던 델타와 새 델타를 합쳐서 반영하고, 만료 설정도 같은 파이프라인에서 다시 보냄
+        verify(stringCommands).incrBy(raw("stats:revenue:daily:2026-10-16"), 250.5);
+        verifyExpireIfNone("stats:revenue:daily:2026-10-16", Duration.ofDays(90));
+        assertEquals(1.0, meterRegistry.get("orders.stats.flush.failures").counter().count());
+    }
+
+    @Test
+    void 임계치에_도달하면_즉시_flush() {
+        // Given
+        pipelineWithExisting(Map.of());
+        ReflectionTestUtils.setField(aggregator, "flushThreshold", 3L);
+
+        // When
+        aggregator.increment("stats:orders:monthly:2026-10", Duration.ofDays(365));
+        aggregator.increment("stats:orders:monthly:2026-10", Duration.ofDays(365));
+        aggregator.increment("stats:orders:monthly:2026-10", Duration.ofDays(365));
+
+        // Then
+        verify(stringCommands).incrBy(raw("stats:orders:monthly:2026-10"), 3L);
+    }
+
+    @Test
+    void 종료_시_남은_델타를_반영() {
+        // Given
+        pipelineWithExisting(Map.of());
+        aggregator.increment("stats:orders:daily:2026-10-16", Duration.ofDays(90));
+
+        // When
+        aggregator.close();
+
+        // Then
+        verify(stringCommands).incrBy(raw("stats:orders:daily:2026-10-16"), 1L);
+    }
+
+    @Test
+    void 변화가_없는_flush_는_Redis_를_호출하지_않음() {
+        // When
+        aggregator.flush();
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+}
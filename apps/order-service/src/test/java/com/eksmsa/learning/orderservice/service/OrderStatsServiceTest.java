@@ -0,0 +1,145 @@
+package com.eksmsa.learning.orderservice.service;
+
+import com.eksmsa.learning.orderservice.dto.OrderCustomerStatsResponse;
+import com.eksmsa.learning.orderservice.dto.OrderDailyStatsResponse;
+import com.eksmsa.learning.orderservice.entity.Order;
+import com.eksmsa.learning.orderservice.entity.OrderItem;
+import com.eksmsa.learning.orderservice.entity.OrderStatus;
+import com.eksmsa.learning.orderservice.repository.OrderRepository;
+import com.eksmsa.learning.orderservice.repository.OrderStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 통계 요약 테이블이 주문 트랜잭션 커밋 시에만 반영되고, 재구성 결과와 일치하는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(OrderStatsRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderStatsServiceTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderStatsRepository statsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private OrderStatsService orderStatsService;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        orderStatsService = new OrderStatsService(statsRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        orderStatsService.rebuild();
+    }
+
+    @Test
+    void 주문_생성과_상태_변경이_커밋될_때_요약에_반영() {
+        // Given
+        transaction.executeWithoutResult(status -> {
+            orderStatsService.recordCreated(orderRepository.save(order("ORD-STAT-001", "CUST-001", "1000")));
+            orderStatsService.recordCreated(List.of(
+                orderRepository.save(order("ORD-STAT-002", "CUST-002", "500")),
+                orderRepository.save(order("ORD-STAT-003", "CUST-001", "250"))));
+        });
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            Order order = orderRepository.findById("ORD-STAT-001").orElseThrow();
+            order.updateStatus(OrderStatus.CONFIRMED);
+            orderStatsService.recordStatusChange(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+        });
+
+        // Then
+        Map<OrderStatus, Long> counts = statusCounts();
+        assertEquals(2L, counts.get(OrderStatus.PENDING));
+        assertEquals(1L, counts.get(OrderStatus.CONFIRMED));
+
+        List<OrderDailyStatsResponse> daily = orderStatsService.getDailyStats(LocalDate.now().minusDays(1),
+            LocalDate.now().plusDays(1));
+        assertEquals(1, daily.size());
+        assertEquals(3, daily.get(0).getOrderCount());
+        assertEquals(0, new BigDecimal("1750").compareTo(daily.get(0).getTotalAmount()));
+
+        List<OrderCustomerStatsResponse> customers = orderStatsService.getTopCustomers(10);
+        assertEquals("CUST-001", customers.get(0).getCustomerId());
+        assertEquals(2, customers.get(0).getOrderCount());
+        assertEquals(0, new BigDecimal("1250").compareTo(customers.get(0).getTotalAmount()));
+        assertEquals(1, orderStatsService.getTopCustomers(1).size());
+    }
+
+    @Test
+    void 롤백된_주문은_요약에_반영되지_않음() {
+        // When
+        assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status -> {
+            orderStatsService.recordCreated(orderRepository.save(order("ORD-STAT-010", "CUST-001", "1000")));
+            throw new IllegalStateException("rollback");
+        }));
+
+        // Then
+        assertTrue(statusCounts().isEmpty());
+        assertTrue(orderStatsService.getTopCustomers(10).isEmpty());
+    }
+
+    @Test
+    void 재구성_결과는_증분_반영_결과와_같음() {
+        // Given - 요약에 반영되지 않은 주문과 반영된 주문
+        transaction.executeWithoutResult(status -> {
+            orderRepository.save(order("ORD-STAT-020", "CUST-003", "300"));
+            orderStatsService.recordCreated(orderRepository.save(order("ORD-STAT-021", "CUST-003", "700")));
+        });
+        assertEquals(1L, statusCounts().get(OrderStatus.PENDING));
+
+        // When
+        orderStatsService.rebuild();
+
+        // Then
+        assertEquals(2L, statusCounts().get(OrderStatus.PENDING));
+        OrderCustomerStatsResponse customer = orderStatsService.getTopCustomers(1).get(0);
+        assertEquals(2, customer.getOrderCount());
+        assertEquals(0, new BigDecimal("1000").compareTo(customer.getTotalAmount()));
+    }
+
+    private Map<OrderStatus, Long> statusCounts() {
+        Map<OrderStatus, Long> counts = new HashMap<>();
+        for (Object[] row : orderStatsService.getStatusCounts()) {
+            counts.put((OrderStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static Order order(String id, String customerId, String amount) {
+        Order order = new Order(id, customerId, "고객 " + customerId);
+        order.addItem(new OrderItem("PROD-1", "테스트 상품", new BigDecimal(amount), 1));
+        order.calculateTotalAmount();
+        order.calculateFinalAmount();
+        return order;
+    }
+}